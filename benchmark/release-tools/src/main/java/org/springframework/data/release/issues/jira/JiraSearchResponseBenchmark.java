@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.microbenchmark.common.AbstractMicrobenchmark;
+import org.springframework.data.release.issues.Tickets;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.Train;
+
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+/**
+ * Benchmark for decoding Jira search responses by binding the entire document, into {@link JiraIssues} or a tree,
+ * compared to decoding the issues one by one from the token stream. The response is the search response recorded for
+ * the integration tests scaled up to the benchmarked number of issues. Lives in the package of the Jira client to
+ * access its package-private types.
+ *
+ * @see JiraTicketPage
+ * @see JiraIssues#read(ObjectMapper, java.io.InputStream)
+ */
+public class JiraSearchResponseBenchmark extends AbstractMicrobenchmark {
+
+	private static final Train TRAIN = ReleaseTrains.HOPPER;
+	private static final String RECORDED_RESPONSE = "/jira/trainTickets.json";
+
+	@Param({ "50", "1000" }) int issues;
+
+	ObjectMapper mapper;
+	byte[] response;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		mapper = new ObjectMapper();
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		mapper.registerModule(new ParameterNamesModule(Mode.PROPERTIES));
+
+		try (InputStream recorded = JiraSearchResponseBenchmark.class.getResourceAsStream(RECORDED_RESPONSE)) {
+
+			if (recorded == null) {
+				throw new IllegalStateException(String.format("Recorded response %s not found!", RECORDED_RESPONSE));
+			}
+
+			response = mapper.writeValueAsBytes(scale(mapper.readTree(recorded), issues));
+		}
+	}
+
+	@Benchmark
+	public Tickets bindDocument() throws IOException {
+
+		JiraIssues page = mapper.readValue(response, JiraIssues.class);
+
+		return Jira.toTickets(TRAIN, page.getIssues());
+	}
+
+	@Benchmark
+	public Tickets bindTree() throws IOException {
+
+		List<JiraIssue> result = new ArrayList<>();
+
+		for (JsonNode issue : mapper.readTree(response).path("issues")) {
+			result.add(mapper.treeToValue(issue, JiraIssue.class));
+		}
+
+		return Jira.toTickets(TRAIN, result);
+	}
+
+	@Benchmark
+	public JiraTicketPage streamTickets() throws IOException {
+		return JiraTicketPage.read(mapper, new ByteArrayInputStream(response), issue -> !issue.wasBackportedFrom(TRAIN));
+	}
+
+	@Benchmark
+	public JiraIssues streamIssues() throws IOException {
+		return JiraIssues.read(mapper, new ByteArrayInputStream(response));
+	}
+
+	/**
+	 * Scales the given recorded search response up to the given number of issues by repeating its issues with unique
+	 * ids and keys. A quarter of the recorded issues is backported from the benchmarked train and thus filtered.
+	 */
+	private static JsonNode scale(JsonNode recorded, int count) {
+
+		JsonNode source = recorded.path("issues");
+		ObjectNode response = recorded.deepCopy();
+		ArrayNode issues = response.putArray("issues");
+
+		for (int i = 0; i < count; i++) {
+
+			ObjectNode issue = source.get(i % source.size()).deepCopy();
+			String key = issue.path("key").asText();
+
+			issue.put("id", String.valueOf(10000 + i));
+			issue.put("key", key.substring(0, key.indexOf('-') + 1) + (10000 + i));
+			issues.add(issue);
+		}
+
+		response.put("maxResults", count);
+		response.put("total", count);
+
+		return response;
+	}
+}
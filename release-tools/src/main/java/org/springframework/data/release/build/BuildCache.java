@@ -0,0 +1,805 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.release.build.CommandLine.Goal;
+import org.springframework.data.release.git.GitOperations;
+import org.springframework.data.release.io.OsOperations;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.ProjectAware;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+import org.xmlbeam.ProjectionFactory;
+import org.xmlbeam.annotation.XBRead;
+import org.xmlbeam.annotation.XBWrite;
+import org.xmlbeam.io.XBFileIO;
+
+/**
+ * Content-addressed cache of Maven executions. An execution is identified by the tree hash of the project's sources,
+ * the Maven command line, the build environment (JDK, Maven installation and settings, relevant environment variables)
+ * and the cache keys of the project's dependencies so that a change to any upstream module invalidates the execution.
+ * Artifacts installed into the local repository by a cached execution are recorded and restored on a cache hit, merging
+ * the recorded artifact metadata into the one of the local repository. Entries are kept in the workspace and evicted
+ * least recently used first once the configured size is exceeded.
+ * <p>
+ * Executions for a {@link ModuleIteration} use the sources of the directory the module is worked on in, i.e. its
+ * worktree if available, and the ones of the modules of the same train for its dependencies.
+ * <p>
+ * Only executions producing outputs from the sources are to be cached. Executions verifying external state, e.g. the
+ * pre-release checks, have to run unconditionally.
+ */
+@Slf4j
+@Component
+class BuildCache {
+
+	static final String DIRECTORY = ".build-cache";
+
+	private static final String MARKER = ".complete";
+	private static final String OUTPUTS = "outputs";
+	private static final int POM_SEARCH_DEPTH = 3;
+	private static final String METADATA_PREFIX = "maven-metadata";
+	private static final List<String> ENVIRONMENT_VARIABLES = Arrays.asList("MAVEN_OPTS", "MAVEN_ARGS",
+			"JAVA_TOOL_OPTIONS", "_JAVA_OPTIONS");
+
+	private final GitOperations git;
+	private final Workspace workspace;
+	private final OsOperations os;
+	private final ProjectionFactory projectionFactory;
+	private final MavenProperties properties;
+	private final Logger logger;
+	private final File directory;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong uncacheable = new AtomicLong();
+
+	private final Object monitor = new Object();
+	private int builds;
+	private volatile Map<File, Optional<String>> treeHashes;
+	private String environment;
+
+	/**
+	 * Creates a new {@link BuildCache} stored in the given {@link Workspace}.
+	 *
+	 * @param git must not be {@literal null}.
+	 * @param workspace must not be {@literal null}.
+	 * @param os must not be {@literal null}.
+	 * @param projectionFactory must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param logger must not be {@literal null}.
+	 */
+	public BuildCache(GitOperations git, Workspace workspace, OsOperations os, ProjectionFactory projectionFactory,
+			MavenProperties properties, Logger logger) {
+
+		Assert.notNull(git, "GitOperations must not be null!");
+		Assert.notNull(workspace, "Workspace must not be null!");
+		Assert.notNull(os, "OsOperations must not be null!");
+		Assert.notNull(projectionFactory, "ProjectionFactory must not be null!");
+		Assert.notNull(properties, "MavenProperties must not be null!");
+		Assert.notNull(logger, "Logger must not be null!");
+
+		this.git = git;
+		this.workspace = workspace;
+		this.os = os;
+		this.projectionFactory = projectionFactory;
+		this.properties = properties;
+		this.logger = logger;
+		this.directory = new File(workspace.getWorkingDirectory(), DIRECTORY);
+	}
+
+	/**
+	 * Runs the given build executing the given {@link CommandLine} for the given {@link Project} unless a previous
+	 * execution for the same sources, command line and dependencies is cached. In that case, the recorded outputs are
+	 * restored instead.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @param build must not be {@literal null}.
+	 */
+	public void execute(Project project, CommandLine arguments, Runnable build) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		execute(() -> project, arguments, build);
+	}
+
+	/**
+	 * Runs the given build executing the given {@link CommandLine} for the given {@link ProjectAware} unless a previous
+	 * execution for the same sources, command line and dependencies is cached. Sources of a {@link ModuleIteration} are
+	 * looked up in the directory the module is worked on in.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @param build must not be {@literal null}.
+	 * @see Workspace#getProjectDirectory(ModuleIteration)
+	 */
+	public void execute(ProjectAware module, CommandLine arguments, Runnable build) {
+
+		Assert.notNull(module, "Module must not be null!");
+		Assert.notNull(arguments, "CommandLine must not be null!");
+		Assert.notNull(build, "Build must not be null!");
+
+		Project project = module.getProject();
+		Optional<String> key = properties.isBuildCache() ? getKey(module, arguments) : Optional.empty();
+
+		if (!key.isPresent()) {
+
+			uncacheable.incrementAndGet();
+			build.run();
+
+			return;
+		}
+
+		File entry = new File(directory, key.get());
+
+		if (restore(entry)) {
+
+			hits.incrementAndGet();
+			logger.log(project, "Build cache hit, skipping mvn %s.", arguments);
+
+			return;
+		}
+
+		misses.incrementAndGet();
+		build.run();
+
+		store(module, arguments, entry);
+		evict();
+	}
+
+	/**
+	 * Runs the given build of multiple modules. The tree hashes of the projects and the build environment contributing to
+	 * the cache keys are only determined once for all executions within the build instead of for every execution and
+	 * dependency. Sources are expected not to change while the build is running.
+	 *
+	 * @param build must not be {@literal null}.
+	 */
+	public void build(Runnable build) {
+
+		Assert.notNull(build, "Build must not be null!");
+
+		synchronized (monitor) {
+
+			if (builds++ == 0) {
+				treeHashes = new ConcurrentHashMap<>();
+			}
+		}
+
+		try {
+			build.run();
+		} finally {
+
+			synchronized (monitor) {
+
+				if (--builds == 0) {
+					treeHashes = null;
+					environment = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the current {@link Statistics}.
+	 *
+	 * @return
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(hits.get(), misses.get(), uncacheable.get());
+	}
+
+	/**
+	 * Computes the cache key for the execution of the given {@link CommandLine} for the given {@link Project}. Returns
+	 * {@link Optional#empty()} if the sources of the project or any of its dependencies or the build environment cannot
+	 * be identified.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	Optional<String> getKey(Project project, CommandLine arguments) {
+		return getKey(() -> project, arguments);
+	}
+
+	/**
+	 * Computes the cache key for the execution of the given {@link CommandLine} for the given {@link ProjectAware}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 * @see #getKey(Project, CommandLine)
+	 */
+	Optional<String> getKey(ProjectAware module, CommandLine arguments) {
+		return getEnvironment().flatMap(it -> getKey(module, arguments, it, new HashMap<>()));
+	}
+
+	private Optional<String> getKey(ProjectAware module, CommandLine arguments, String environment,
+			Map<Project, Optional<String>> keys) {
+
+		Project project = module.getProject();
+		Optional<String> cached = keys.get(project);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		Optional<String> treeHash = getTreeHash(module);
+
+		if (!treeHash.isPresent()) {
+			keys.put(project, Optional.empty());
+			return Optional.empty();
+		}
+
+		MessageDigest digest = newDigest();
+
+		update(digest, project.getName());
+		update(digest, treeHash.get());
+		update(digest, environment);
+		arguments.toCommandLine(it -> properties.getFullyQualifiedPlugin(it.getGoal())).forEach(it -> update(digest, it));
+
+		List<Project> dependencies = project.getDependencies().stream() //
+				.sorted(Comparator.comparing(Project::getName)) //
+				.collect(Collectors.toList());
+
+		for (Project dependency : dependencies) {
+
+			Optional<String> dependencyKey = getKey(getDependency(module, dependency), arguments, environment, keys);
+
+			if (!dependencyKey.isPresent()) {
+				keys.put(project, Optional.empty());
+				return Optional.empty();
+			}
+
+			update(digest, dependency.getName());
+			update(digest, dependencyKey.get());
+		}
+
+		Optional<String> key = Optional.of(toHex(digest.digest()));
+		keys.put(project, key);
+
+		return key;
+	}
+
+	private Optional<String> getTreeHash(ProjectAware module) {
+
+		Map<File, Optional<String>> treeHashes = this.treeHashes;
+
+		if (treeHashes == null) {
+			return doGetTreeHash(module);
+		}
+
+		// Keyed by directory as modules of different trains may share a worktree
+		return treeHashes.computeIfAbsent(getDirectory(module), it -> doGetTreeHash(module));
+	}
+
+	private Optional<String> doGetTreeHash(ProjectAware module) {
+
+		return module instanceof ModuleIteration //
+				? git.getTreeHash((ModuleIteration) module) //
+				: git.getTreeHash(module.getProject());
+	}
+
+	/**
+	 * Returns the directory the sources of the given {@link ProjectAware} are located in.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 */
+	private File getDirectory(ProjectAware module) {
+
+		return module instanceof ModuleIteration //
+				? workspace.getProjectDirectory((ModuleIteration) module) //
+				: workspace.getProjectDirectory(module.getProject());
+	}
+
+	/**
+	 * Returns the given dependency of the given {@link ProjectAware}. That's the module of the same train for a
+	 * {@link ModuleIteration} so that the dependency's sources are looked up in the same way.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param dependency must not be {@literal null}.
+	 * @return
+	 */
+	private static ProjectAware getDependency(ProjectAware module, Project dependency) {
+
+		if (module instanceof ModuleIteration) {
+
+			TrainIteration iteration = ((ModuleIteration) module).getTrainIteration();
+
+			if (iteration.contains(dependency)) {
+				return iteration.getModule(dependency);
+			}
+		}
+
+		return () -> dependency;
+	}
+
+	/**
+	 * Returns a fingerprint of the environment Maven executions run in, i.e. the JDK, the Maven installation and its
+	 * settings as well as environment variables affecting the JVM or Maven. Returns {@link Optional#empty()} if the
+	 * environment cannot be determined.
+	 *
+	 * @return
+	 */
+	private Optional<String> getEnvironment() {
+
+		synchronized (monitor) {
+
+			if (environment != null) {
+				return Optional.of(environment);
+			}
+
+			File javaHome = os.getJavaHome();
+			File mavenHome = properties.getMavenHome();
+
+			List<Optional<String>> files = Arrays.asList( //
+					read(javaHome == null ? null : new File(javaHome, "release")), //
+					read(mavenHome == null ? null : new File(mavenHome, "conf/settings.xml")), //
+					read(new File(System.getProperty("user.home"), ".m2/settings.xml")));
+
+			if (!files.stream().allMatch(Optional::isPresent)) {
+				return Optional.empty();
+			}
+
+			MessageDigest digest = newDigest();
+
+			update(digest, String.valueOf(javaHome));
+			update(digest, String.valueOf(mavenHome));
+			files.forEach(it -> update(digest, it.get()));
+			update(digest, properties.getBackend().name());
+			update(digest, String.valueOf(properties.getLocalRepository()));
+			update(digest, System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+
+			ENVIRONMENT_VARIABLES.forEach(it -> update(digest, it + "=" + System.getenv(it)));
+
+			String result = toHex(digest.digest());
+
+			if (builds > 0) {
+				environment = result;
+			}
+
+			return Optional.of(result);
+		}
+	}
+
+	private boolean restore(File entry) {
+
+		File marker = new File(entry, MARKER);
+
+		if (!marker.exists()) {
+			return false;
+		}
+
+		try {
+
+			restore(new File(entry, OUTPUTS).toPath(), getLocalRepository().toPath());
+			marker.setLastModified(System.currentTimeMillis());
+
+			return true;
+
+		} catch (IOException o_O) {
+
+			log.warn("Could not restore build cache entry {}: {}", entry, o_O.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Copies the recorded outputs into the local repository. Artifact-level metadata already present in the local
+	 * repository is merged with the recorded one instead of being replaced, as it lists versions installed since the
+	 * entry was stored.
+	 *
+	 * @param outputs must not be {@literal null}.
+	 * @param repository must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private void restore(Path outputs, Path repository) throws IOException {
+
+		if (!Files.exists(outputs)) {
+			return;
+		}
+
+		try (Stream<Path> files = Files.walk(outputs)) {
+
+			for (Path file : (Iterable<Path>) files::iterator) {
+
+				Path destination = repository.resolve(outputs.relativize(file).toString());
+
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(destination);
+				} else if (isMetadata(file) && Files.exists(destination)) {
+					merge(file, destination);
+				} else {
+					copyFile(file, destination);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Merges the given recorded metadata into the given one of the local repository the way Maven does on install, i.e.
+	 * the versions are combined and latest and release versions are taken from the more recent of both. Metadata not
+	 * listing any versions, e.g. the one of a snapshot version, is replaced.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private void merge(Path source, Path target) throws IOException {
+
+		Metadata restored = projectionFactory.io().file(source.toFile()).read(Metadata.class);
+
+		if (restored.getVersions().isEmpty()) {
+			copyFile(source, target);
+			return;
+		}
+
+		XBFileIO io = projectionFactory.io().file(target.toFile());
+		Metadata current = io.read(Metadata.class);
+
+		Set<String> versions = new LinkedHashSet<>(current.getVersions());
+		versions.addAll(restored.getVersions());
+
+		current.setVersions(new ArrayList<>(versions));
+
+		String restoredUpdate = restored.getLastUpdated() == null ? "" : restored.getLastUpdated();
+		String currentUpdate = current.getLastUpdated() == null ? "" : current.getLastUpdated();
+
+		if (restoredUpdate.compareTo(currentUpdate) >= 0) {
+
+			if (restored.getLatest() != null) {
+				current.setLatest(restored.getLatest());
+			}
+
+			if (restored.getRelease() != null) {
+				current.setRelease(restored.getRelease());
+			}
+
+			if (restored.getLastUpdated() != null) {
+				current.setLastUpdated(restored.getLastUpdated());
+			}
+		}
+
+		io.write(current);
+	}
+
+	private void store(ProjectAware module, CommandLine arguments, File entry) {
+
+		File temp = new File(directory, entry.getName().concat(".").concat(UUID.randomUUID().toString()));
+
+		try {
+
+			Path outputs = new File(temp, OUTPUTS).toPath();
+			Files.createDirectories(outputs);
+
+			if (arguments.getGoals().contains(Goal.INSTALL)) {
+
+				Path repository = getLocalRepository().toPath();
+
+				for (Path installed : getInstalledArtifacts(module)) {
+
+					copy(installed, outputs.resolve(repository.relativize(installed)));
+
+					// Artifact-level metadata listing the installed versions
+					try (Stream<Path> files = Files.list(installed.getParent())) {
+
+						for (Path metadata : (Iterable<Path>) files.filter(BuildCache::isMetadata)::iterator) {
+							copy(metadata, outputs.resolve(repository.relativize(metadata)));
+						}
+					}
+				}
+			}
+
+			Files.write(new File(temp, MARKER).toPath(), arguments.toString().getBytes(StandardCharsets.UTF_8));
+
+			if (!entry.exists()) {
+				Files.move(temp.toPath(), entry.toPath());
+			}
+
+		} catch (IOException o_O) {
+			log.warn("Could not store build cache entry for {}: {}", module.getProject().getName(), o_O.getMessage());
+		} finally {
+			FileSystemUtils.deleteRecursively(temp);
+		}
+	}
+
+	/**
+	 * Evicts the least recently used entries until the cache fits into the configured size.
+	 */
+	private synchronized void evict() {
+
+		File[] entries = directory.listFiles(it -> new File(it, MARKER).exists());
+
+		if (entries == null) {
+			return;
+		}
+
+		List<File> candidates = new ArrayList<>();
+		Map<File, Long> sizes = new HashMap<>();
+		long total = 0;
+
+		for (File entry : entries) {
+
+			long size = sizeOf(entry.toPath());
+
+			sizes.put(entry, size);
+			candidates.add(entry);
+			total += size;
+		}
+
+		candidates.sort(Comparator.comparing(it -> new File(it, MARKER).lastModified()));
+
+		long maximum = properties.getBuildCacheSize().toBytes();
+
+		for (File candidate : candidates) {
+
+			if (total <= maximum) {
+				return;
+			}
+
+			log.debug("Evicting build cache entry {}.", candidate.getName());
+
+			FileSystemUtils.deleteRecursively(candidate);
+			total -= sizes.get(candidate);
+		}
+	}
+
+	/**
+	 * Returns the directories of the artifacts installed into the local repository by the given {@link ProjectAware},
+	 * i.e. the version directories of all artifacts declared by the {@code pom.xml} files in its directory.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private List<Path> getInstalledArtifacts(ProjectAware module) throws IOException {
+
+		Path repository = getLocalRepository().toPath();
+
+		try (Stream<Path> files = Files.walk(getDirectory(module).toPath(), POM_SEARCH_DEPTH)) {
+
+			return files.filter(it -> it.getFileName().toString().equals(MavenBuildSystem.POM_XML)) //
+					.filter(it -> !it.toString().contains(File.separator + "target" + File.separator)) //
+					.map(this::getArtifactPath) //
+					.filter(Optional::isPresent) //
+					.map(it -> repository.resolve(it.get())) //
+					.filter(Files::isDirectory) //
+					.collect(Collectors.toList());
+		}
+	}
+
+	private Optional<String> getArtifactPath(Path pom) {
+
+		try {
+
+			Coordinates coordinates = projectionFactory.io().file(pom.toFile()).read(Coordinates.class);
+
+			String groupId = coordinates.getGroupId() != null ? coordinates.getGroupId() : coordinates.getParentGroupId();
+			String artifactId = coordinates.getArtifactId();
+			String version = coordinates.getVersion() != null ? coordinates.getVersion() : coordinates.getParentVersion();
+
+			if (groupId == null || artifactId == null || version == null) {
+				return Optional.empty();
+			}
+
+			return Optional.of(String.join("/", groupId.replace('.', '/'), artifactId, version));
+
+		} catch (IOException o_O) {
+
+			log.debug("Could not read {}: {}", pom, o_O.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private File getLocalRepository() {
+
+		File repository = properties.getLocalRepository();
+
+		return repository != null ? repository : new File(System.getProperty("user.home"), ".m2/repository");
+	}
+
+	private static boolean isMetadata(Path path) {
+		return Files.isRegularFile(path) && path.getFileName().toString().startsWith(METADATA_PREFIX);
+	}
+
+	private static Optional<String> read(File file) {
+
+		if (file == null || !file.isFile()) {
+			return Optional.of("");
+		}
+
+		try {
+			return Optional.of(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+		} catch (IOException o_O) {
+
+			log.warn("Could not read {}: {}", file, o_O.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private static void copy(Path source, Path target) throws IOException {
+
+		if (!Files.exists(source)) {
+			return;
+		}
+
+		try (Stream<Path> files = Files.walk(source)) {
+
+			for (Path file : (Iterable<Path>) files::iterator) {
+
+				Path destination = target.resolve(source.relativize(file).toString());
+
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(destination);
+				} else {
+					copyFile(file, destination);
+				}
+			}
+		}
+	}
+
+	private static void copyFile(Path source, Path target) throws IOException {
+
+		Files.createDirectories(target.getParent());
+		Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+	}
+
+	private static long sizeOf(Path path) {
+
+		try (Stream<Path> files = Files.walk(path)) {
+			return files.filter(Files::isRegularFile).mapToLong(it -> it.toFile().length()).sum();
+		} catch (IOException o_O) {
+			return 0;
+		}
+	}
+
+	private static MessageDigest newDigest() {
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static String toHex(byte[] bytes) {
+
+		StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+		for (byte b : bytes) {
+			builder.append(String.format("%02x", b));
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Maven coordinates declared in a {@code pom.xml}, potentially inherited from the parent.
+	 */
+	public interface Coordinates {
+
+		@XBRead("/project/groupId")
+		String getGroupId();
+
+		@XBRead("/project/parent/groupId")
+		String getParentGroupId();
+
+		@XBRead("/project/artifactId")
+		String getArtifactId();
+
+		@XBRead("/project/version")
+		String getVersion();
+
+		@XBRead("/project/parent/version")
+		String getParentVersion();
+	}
+
+	/**
+	 * Artifact-level metadata kept by Maven in the local repository, i.e. the {@code maven-metadata*.xml} files listing
+	 * the installed versions of an artifact.
+	 */
+	public interface Metadata {
+
+		@XBRead("/metadata/versioning/versions/version")
+		List<String> getVersions();
+
+		@XBWrite("/metadata/versioning/versions/version")
+		Metadata setVersions(List<String> versions);
+
+		@XBRead("/metadata/versioning/latest")
+		String getLatest();
+
+		@XBWrite("/metadata/versioning/latest")
+		Metadata setLatest(String latest);
+
+		@XBRead("/metadata/versioning/release")
+		String getRelease();
+
+		@XBWrite("/metadata/versioning/release")
+		Metadata setRelease(String release);
+
+		@XBRead("/metadata/versioning/lastUpdated")
+		String getLastUpdated();
+
+		@XBWrite("/metadata/versioning/lastUpdated")
+		Metadata setLastUpdated(String lastUpdated);
+	}
+
+	/**
+	 * Hit and miss statistics of the {@link BuildCache}.
+	 */
+	@Value
+	static class Statistics {
+
+		long hits, misses, uncacheable;
+
+		/**
+		 * Returns the {@link Statistics} accumulated since the given earlier snapshot.
+		 *
+		 * @param snapshot must not be {@literal null}.
+		 * @return
+		 */
+		public Statistics since(Statistics snapshot) {
+			return new Statistics(hits - snapshot.hits, misses - snapshot.misses, uncacheable - snapshot.uncacheable);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s hits, %s misses, %s not cacheable", hits, misses, uncacheable);
+		}
+	}
+}
@@ -84,7 +84,7 @@ class BuildCommands extends TimedCommand {
 
 		if (!project.isPresent()) {
 			git.prepare(iteration);
-			iteration.forEach(build::triggerBuild);
+			build.triggerBuild(iteration);
 		}
 	}
 
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Project;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Persistent history of Maven execution durations per {@link Project} and goal set. Durations are smoothed using an
+ * exponential moving average and stored in the workspace so that they survive restarts of the shell.
+ */
+@Slf4j
+@Component
+class BuildDurations {
+
+	static final String FILENAME = ".build-durations.properties";
+
+	private static final double SMOOTHING = 0.5;
+	private static final String SEPARATOR = "|";
+
+	private final File file;
+	private final Map<String, Long> durations;
+
+	/**
+	 * Creates a new {@link BuildDurations} instance using the given {@link Workspace} to store the durations.
+	 *
+	 * @param workspace must not be {@literal null}.
+	 */
+	public BuildDurations(Workspace workspace) {
+
+		Assert.notNull(workspace, "Workspace must not be null!");
+
+		this.file = new File(workspace.getWorkingDirectory(), FILENAME);
+		this.durations = load(file);
+	}
+
+	/**
+	 * Records the given {@link Duration} for the execution of the given {@link CommandLine} for the given
+	 * {@link Project}.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param commandLine must not be {@literal null}.
+	 * @param duration must not be {@literal null}.
+	 */
+	public void record(Project project, CommandLine commandLine, Duration duration) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(commandLine, "Command line must not be null!");
+		Assert.notNull(duration, "Duration must not be null!");
+
+		durations.merge(getKey(project, commandLine), duration.toMillis(),
+				(previous, current) -> Math.round(previous * (1 - SMOOTHING) + current * SMOOTHING));
+
+		save();
+	}
+
+	/**
+	 * Returns the recorded duration of the given {@link CommandLine} for the given {@link Project}.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param commandLine must not be {@literal null}.
+	 * @return
+	 */
+	public Optional<Duration> getDuration(Project project, CommandLine commandLine) {
+		return Optional.ofNullable(durations.get(getKey(project, commandLine))).map(Duration::ofMillis);
+	}
+
+	/**
+	 * Returns an estimate for the duration of a build step of the given {@link Project}. That's the longest duration
+	 * recorded for any goal set of the project, as that's usually the one dominating a build step.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
+	public Optional<Duration> estimate(Project project) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		String prefix = project.getName().concat(SEPARATOR);
+
+		return durations.entrySet().stream()//
+				.filter(it -> it.getKey().startsWith(prefix))//
+				.map(Map.Entry::getValue)//
+				.max(Long::compare)//
+				.map(Duration::ofMillis);
+	}
+
+	/**
+	 * Returns the median of the estimates of all projects with recorded durations, see {@link #estimate(Project)}. Serves
+	 * as estimate for projects without any history so that they're neither preferred nor deferred because of that.
+	 *
+	 * @return
+	 */
+	public Optional<Duration> getMedianEstimate() {
+
+		List<Long> estimates = durations.entrySet().stream()//
+				.collect(Collectors.toMap(it -> it.getKey().substring(0, it.getKey().indexOf(SEPARATOR)), Map.Entry::getValue,
+						Math::max))//
+				.values().stream()//
+				.sorted()//
+				.collect(Collectors.toList());
+
+		if (estimates.isEmpty()) {
+			return Optional.empty();
+		}
+
+		int middle = estimates.size() / 2;
+
+		long median = estimates.size() % 2 == 0 //
+				? (estimates.get(middle - 1) + estimates.get(middle)) / 2 //
+				: estimates.get(middle);
+
+		return Optional.of(Duration.ofMillis(median));
+	}
+
+	private static String getKey(Project project, CommandLine commandLine) {
+
+		return project.getName().concat(SEPARATOR).concat(commandLine.getGoals().stream()//
+				.map(CommandLine.Goal::getGoal)//
+				.collect(Collectors.joining(" ")));
+	}
+
+	private synchronized void save() {
+
+		Properties properties = new Properties();
+		durations.forEach((key, value) -> properties.setProperty(key, value.toString()));
+
+		try {
+
+			File parent = file.getParentFile();
+
+			if (!parent.exists()) {
+				parent.mkdirs();
+			}
+
+			File temp = new File(parent, FILENAME.concat(".tmp"));
+
+			try (OutputStream stream = Files.newOutputStream(temp.toPath())) {
+				properties.store(stream, "Maven execution durations in milliseconds");
+			}
+
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		} catch (IOException o_O) {
+			log.warn("Could not store build durations in {}: {}", file, o_O.getMessage());
+		}
+	}
+
+	private static Map<String, Long> load(File file) {
+
+		Map<String, Long> result = new ConcurrentHashMap<>();
+
+		if (!file.exists()) {
+			return result;
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+			properties.load(stream);
+		} catch (IOException o_O) {
+			log.warn("Could not read build durations from {}: {}", file, o_O.getMessage());
+			return result;
+		}
+
+		properties.stringPropertyNames().forEach(key -> {
+			try {
+				result.put(key, Long.valueOf(properties.getProperty(key)));
+			} catch (NumberFormatException o_O) {
+				// Ignore broken entries, they will be replaced by the next measurement
+			}
+		});
+
+		return result;
+	}
+}
@@ -16,26 +16,32 @@
 package org.springframework.data.release.build;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import javax.annotation.PreDestroy;
 
@@ -50,29 +56,36 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Build executor service.
+ * Build executor service. Modules ready for execution are prioritized by the length of their remaining critical path
+ * as estimated from the {@link BuildDurations} of previous builds.
  *
  * @author Mark Paluch
  */
 @Component
 class BuildExecutor {
 
+	private static final long DEFAULT_ESTIMATE = 1;
+
 	private final @NonNull PluginRegistry<BuildSystem, Project> buildSystems;
 	private final Logger logger;
 	private final MavenProperties mavenProperties;
+	private final BuildDurations durations;
 	private final ExecutorService executor;
+	private final AtomicLong sequence = new AtomicLong();
 
 	public BuildExecutor(PluginRegistry<BuildSystem, Project> buildSystems, Logger logger,
-			MavenProperties mavenProperties) {
+			MavenProperties mavenProperties, BuildDurations durations) {
 
 		this.buildSystems = buildSystems;
 		this.logger = logger;
 		this.mavenProperties = mavenProperties;
+		this.durations = durations;
 
 		if (this.mavenProperties.isParallelize()) {
 			int processors = Runtime.getRuntime().availableProcessors();
 			int parallelity = Math.max(2, (processors / 2));
-			executor = new ThreadPoolExecutor(parallelity, parallelity, 10, TimeUnit.MINUTES, new ArrayBlockingQueue<>(256));
+			executor = new ThreadPoolExecutor(parallelity, parallelity, 10, TimeUnit.MINUTES,
+					new PriorityBlockingQueue<>());
 		} else {
 			executor = ImmediateExecutorService.INSTANCE;
 		}
@@ -93,7 +106,23 @@ class BuildExecutor {
 	 */
 	public <T, M extends ProjectAware> Summary<T> doWithBuildSystemOrdered(Streamable<M> iteration,
 			BiFunction<BuildSystem, M, T> function) {
-		return doWithBuildSystem(iteration, function, true);
+		return doWithBuildSystemOrdered(iteration, function, Collections.emptyMap());
+	}
+
+	/**
+	 * Selects the build system for each module contained in the given iteration and executes the given function for it
+	 * considering pre-requites, honoring the order. Modules whose {@link Project} is contained in the given map of
+	 * completed results are not executed again but considered done with the given result, e.g. to resume a partial
+	 * deployment.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @param completed must not be {@literal null}.
+	 * @return
+	 */
+	public <T, M extends ProjectAware> Summary<T> doWithBuildSystemOrdered(Streamable<M> iteration,
+			BiFunction<BuildSystem, M, T> function, Map<Project, ? extends T> completed) {
+		return doWithBuildSystem(iteration, function, completed, true);
 	}
 
 	/**
@@ -106,48 +135,36 @@ class BuildExecutor {
 	 */
 	public <T, M extends ProjectAware> Summary<T> doWithBuildSystemAnyOrder(Streamable<M> iteration,
 			BiFunction<BuildSystem, M, T> function) {
-		return doWithBuildSystem(iteration, function, false);
+		return doWithBuildSystem(iteration, function, Collections.emptyMap(), false);
 	}
 
 	private <T, M extends ProjectAware> Summary<T> doWithBuildSystem(Streamable<M> iteration,
-			BiFunction<BuildSystem, M, T> function, boolean considerDependencyOrder) {
+			BiFunction<BuildSystem, M, T> function, Map<Project, ? extends T> completed, boolean considerDependencyOrder) {
 
-		Map<Project, CompletableFuture<T>> results = new ConcurrentHashMap<>();
-
-		// Add here projects that should be skipped because of a partial deployment to e.g. Sonatype.
-		Set<Project> skip = new HashSet<>(Arrays.asList());
-
-		skip.forEach(it -> results.put(it, CompletableFuture.completedFuture(null)));
+		Assert.notNull(completed, "Completed results must not be null!");
 
-		for (M moduleIteration : iteration) {
-
-			if (skip.contains(moduleIteration.getProject())) {
-				continue;
-			}
+		Map<Project, CompletableFuture<T>> results = new ConcurrentHashMap<>();
 
-			if (considerDependencyOrder) {
-				Set<Project> dependencies = moduleIteration.getProject().getDependencies();
-				for (Project dependency : dependencies) {
+		completed.forEach((project, result) -> {
 
-					CompletableFuture<T> futureResult = results.get(dependency);
+			logger.log(project, "Skipping execution, already completed previously.");
+			results.put(project, CompletableFuture.completedFuture(result));
+		});
 
-					if (futureResult == null) {
+		Map<Project, M> modules = new LinkedHashMap<>();
+		iteration.forEach(it -> modules.put(it.getProject(), it));
 
-						if (!iteration.stream().map(ProjectAware::getProject).anyMatch(project -> project.equals(dependency))) {
-							throw new IllegalStateException(moduleIteration.getProject().getName() + " requires "
-									+ dependency.getName() + " which is not part of the Iteration. Please fix Projects/Iterations setup");
-						}
+		long fallback = durations.getMedianEstimate().map(Duration::toMillis).orElse(DEFAULT_ESTIMATE);
+		ToLongFunction<Project> estimate = it -> estimate(it, fallback);
 
-						throw new IllegalStateException("No future result for " + dependency.getName() + ", required by "
-								+ moduleIteration.getProject().getName());
-					}
+		Map<Project, Long> priorities = considerDependencyOrder //
+				? getCriticalPathLengths(modules.keySet(), estimate) //
+				: modules.keySet().stream().collect(Collectors.toMap(it -> it, estimate::applyAsLong));
 
-					futureResult.join();
-				}
-			}
+		logEstimate(modules.keySet(), priorities);
 
-			CompletableFuture<T> result = run(moduleIteration, function);
-			results.put(moduleIteration.getProject(), result);
+		for (M moduleIteration : iteration) {
+			schedule(moduleIteration, modules, results, priorities, function, considerDependencyOrder);
 		}
 
 		return iteration.stream()//
@@ -167,7 +184,123 @@ class BuildExecutor {
 				.collect(toSummaryCollector());
 	}
 
-	private <T, M extends ProjectAware> CompletableFuture<T> run(M module, BiFunction<BuildSystem, M, T> function) {
+	/**
+	 * Schedules the execution of the given module. If dependency order is to be considered, the execution is chained onto
+	 * the completion of the module's dependencies so that it's released as soon as all of them are done, independently of
+	 * the other modules. Dependencies are scheduled first if they haven't been already.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param modules all modules to execute by {@link Project}.
+	 * @param results the already scheduled executions by {@link Project}.
+	 * @param priorities the priorities of the modules by {@link Project}.
+	 * @param function must not be {@literal null}.
+	 * @param considerDependencyOrder
+	 * @return
+	 */
+	private <T, M extends ProjectAware> CompletableFuture<T> schedule(M module, Map<Project, M> modules,
+			Map<Project, CompletableFuture<T>> results, Map<Project, Long> priorities,
+			BiFunction<BuildSystem, M, T> function, boolean considerDependencyOrder) {
+
+		Project project = module.getProject();
+		CompletableFuture<T> existing = results.get(project);
+
+		if (existing != null) {
+			return existing;
+		}
+
+		long priority = priorities.getOrDefault(project, 0L);
+
+		if (!considerDependencyOrder) {
+
+			CompletableFuture<T> result = run(module, function, priority);
+			results.put(project, result);
+
+			return result;
+		}
+
+		List<CompletableFuture<T>> prerequisites = new ArrayList<>();
+
+		for (Project dependency : project.getDependencies()) {
+
+			if (results.containsKey(dependency)) {
+				prerequisites.add(results.get(dependency));
+				continue;
+			}
+
+			M dependencyModule = modules.get(dependency);
+
+			if (dependencyModule == null) {
+				throw new IllegalStateException(project.getName() + " requires " + dependency.getName()
+						+ " which is not part of the Iteration. Please fix Projects/Iterations setup");
+			}
+
+			prerequisites.add(schedule(dependencyModule, modules, results, priorities, function, true));
+		}
+
+		CompletableFuture<T> result = CompletableFuture
+				.allOf(prerequisites.toArray(new CompletableFuture<?>[prerequisites.size()]))//
+				.thenCompose(__ -> run(module, function, priority));
+
+		results.put(project, result);
+
+		return result;
+	}
+
+	/**
+	 * Computes the remaining critical path length for each of the given {@link Project}s, i.e. its own estimated duration
+	 * plus the longest chain of estimated durations of the given projects depending on it.
+	 *
+	 * @param projects must not be {@literal null}.
+	 * @param estimate must not be {@literal null}.
+	 * @return
+	 */
+	static Map<Project, Long> getCriticalPathLengths(Collection<Project> projects, ToLongFunction<Project> estimate) {
+
+		Map<Project, Long> result = new HashMap<>();
+
+		projects.forEach(it -> getCriticalPathLength(it, projects, estimate, result));
+
+		return result;
+	}
+
+	private static long getCriticalPathLength(Project project, Collection<Project> projects,
+			ToLongFunction<Project> estimate, Map<Project, Long> cache) {
+
+		Long cached = cache.get(project);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		long downstream = projects.stream()//
+				.filter(it -> it.getDependencies().contains(project))//
+				.mapToLong(it -> getCriticalPathLength(it, projects, estimate, cache))//
+				.max().orElse(0);
+
+		long length = estimate.applyAsLong(project) + downstream;
+		cache.put(project, length);
+
+		return length;
+	}
+
+	private long estimate(Project project, long fallback) {
+		return durations.estimate(project).map(Duration::toMillis).orElse(fallback);
+	}
+
+	private void logEstimate(Collection<Project> projects, Map<Project, Long> priorities) {
+
+		if (projects.isEmpty() || !projects.stream().allMatch(it -> durations.estimate(it).isPresent())) {
+			return;
+		}
+
+		long critical = priorities.values().stream().mapToLong(Long::longValue).max().orElse(0);
+
+		logger.log("Build", "Estimated duration based on previous builds: %s min.",
+				TimeUnit.MILLISECONDS.toMinutes(critical) + 1);
+	}
+
+	private <T, M extends ProjectAware> CompletableFuture<T> run(M module, BiFunction<BuildSystem, M, T> function,
+			long priority) {
 
 		Assert.notNull(module, "Module must not be null!");
 
@@ -187,7 +320,7 @@ class BuildExecutor {
 			}
 		};
 
-		executor.execute(runnable);
+		executor.execute(new PrioritizedRunnable(runnable, priority, sequence.incrementAndGet()));
 
 		return result;
 	}
@@ -274,6 +407,38 @@ class BuildExecutor {
 		}
 	}
 
+	/**
+	 * {@link Runnable} ordered by descending priority and submission order for equal priorities.
+	 */
+	@RequiredArgsConstructor
+	static class PrioritizedRunnable implements Runnable, Comparable<PrioritizedRunnable> {
+
+		private static final Comparator<PrioritizedRunnable> COMPARATOR = Comparator
+				.comparingLong((PrioritizedRunnable it) -> it.priority).reversed()
+				.thenComparingLong(it -> it.sequence);
+
+		private final Runnable delegate;
+		private final long priority, sequence;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			delegate.run();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Comparable#compareTo(java.lang.Object)
+		 */
+		@Override
+		public int compareTo(PrioritizedRunnable that) {
+			return COMPARATOR.compare(this, that);
+		}
+	}
+
 	enum ImmediateExecutorService implements ExecutorService {
 		INSTANCE;
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.release.deployment.DefaultDeploymentInformation;
+import org.springframework.data.release.deployment.DeploymentInformation;
+import org.springframework.data.release.deployment.DeploymentProperties;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Append-only journal of the modules successfully deployed during a release build. Every successful deployment of a
+ * {@link ModuleIteration} is recorded along with its build number so that a release build interrupted by a failure
+ * can be resumed without rebuilding and redeploying the modules that already went through. The journal lives in the
+ * workspace and is thus reset by a workspace cleanup.
+ */
+@Slf4j
+@Component
+class BuildJournal {
+
+	static final String FILENAME = ".build-journal";
+
+	private static final String SEPARATOR = "|";
+
+	private final File file;
+	private final DeploymentProperties properties;
+
+	/**
+	 * Creates a new {@link BuildJournal} stored in the given {@link Workspace}.
+	 *
+	 * @param workspace must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	public BuildJournal(Workspace workspace, DeploymentProperties properties) {
+
+		Assert.notNull(workspace, "Workspace must not be null!");
+		Assert.notNull(properties, "DeploymentProperties must not be null!");
+
+		this.file = new File(workspace.getWorkingDirectory(), FILENAME);
+		this.properties = properties;
+	}
+
+	/**
+	 * Records the successful deployment described by the given {@link DeploymentInformation}.
+	 *
+	 * @param information must not be {@literal null}.
+	 */
+	public synchronized void record(DeploymentInformation information) {
+
+		Assert.notNull(information, "DeploymentInformation must not be null!");
+
+		ModuleIteration module = information.getModule();
+
+		append(String.join(SEPARATOR, module.getTrainIteration().toString(), module.getProject().getName(),
+				information.getBuildNumber()));
+	}
+
+	/**
+	 * Returns the {@link DeploymentInformation} of all modules of the given {@link TrainIteration} that have already
+	 * been deployed successfully. For modules deployed multiple times, the most recent deployment wins.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @return
+	 */
+	public synchronized Map<Project, DeploymentInformation> getDeployments(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		Map<Project, DeploymentInformation> result = new LinkedHashMap<>();
+
+		for (String line : readLines()) {
+
+			String[] parts = line.split("\\" + SEPARATOR);
+
+			// Skip entries partially written on a crash
+			if (parts.length != 3 || !parts[0].equals(iteration.toString())) {
+				continue;
+			}
+
+			Optional<Project> project = Projects.byName(parts[1]).filter(iteration::contains);
+
+			project.ifPresent(it -> result.put(it,
+					new DefaultDeploymentInformation(iteration.getModule(it), properties, parts[2])));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Discards all recorded deployments of the given {@link TrainIteration}.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 */
+	public synchronized void discard(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		String prefix = iteration.toString().concat(SEPARATOR);
+
+		List<String> remaining = readLines();
+		remaining.removeIf(it -> it.startsWith(prefix));
+
+		try {
+
+			if (file.exists()) {
+				Files.write(file.toPath(), remaining, StandardCharsets.UTF_8);
+			}
+
+		} catch (IOException o_O) {
+			throw new IllegalStateException(String.format("Could not discard build journal entries in %s!", file), o_O);
+		}
+	}
+
+	private void append(String entry) {
+
+		try {
+
+			File parent = file.getParentFile();
+
+			if (!parent.exists()) {
+				parent.mkdirs();
+			}
+
+			Files.write(file.toPath(), Collections.singletonList(entry), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+
+		} catch (IOException o_O) {
+			log.warn("Could not record {} in build journal {}: {}", entry, file, o_O.getMessage());
+		}
+	}
+
+	private List<String> readLines() {
+
+		if (!file.exists()) {
+			return new ArrayList<>();
+		}
+
+		try {
+			return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		} catch (IOException o_O) {
+			log.warn("Could not read build journal {}: {}", file, o_O.getMessage());
+			return new ArrayList<>();
+		}
+	}
+}
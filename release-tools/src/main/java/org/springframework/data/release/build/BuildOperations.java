@@ -50,6 +50,8 @@ public class BuildOperations {
 	private final @NonNull Logger logger;
 	private final @NonNull MavenProperties properties;
 	private final @NonNull BuildExecutor executor;
+	private final @NonNull BuildJournal journal;
+	private final @NonNull BuildCache cache;
 
 	/**
 	 * Updates all inter-project dependencies based on the given {@link TrainIteration} and release {@link Phase}.
@@ -99,15 +101,19 @@ public class BuildOperations {
 	}
 
 	/**
-	 * Performs the release build for all modules in the given {@link TrainIteration}.
+	 * Performs the release build for all modules in the given {@link TrainIteration}. Modules already deployed by a
+	 * previous, partially failed release build of the same {@link TrainIteration} are not built again, their previous
+	 * {@link DeploymentInformation} is returned instead.
 	 *
 	 * @param iteration must not be {@literal null}.
 	 * @return
 	 */
 	public List<DeploymentInformation> performRelease(TrainIteration iteration) {
 
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
 		BuildExecutor.Summary<DeploymentInformation> summary = executor.doWithBuildSystemOrdered(iteration,
-				(buildSystem, moduleIteration) -> performRelease(moduleIteration));
+				(buildSystem, moduleIteration) -> performRelease(moduleIteration), journal.getDeployments(iteration));
 
 		logger.log(iteration, "Release: %s", summary);
 
@@ -121,7 +127,21 @@ public class BuildOperations {
 	 * @return
 	 */
 	public DeploymentInformation performRelease(ModuleIteration module) {
-		return buildAndDeployRelease(module);
+
+		DeploymentInformation information = buildAndDeployRelease(module);
+		journal.record(information);
+
+		return information;
+	}
+
+	/**
+	 * Discards the deployments recorded for the given {@link TrainIteration} so that the next release build starts from
+	 * scratch.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 */
+	public void discardDeployments(TrainIteration iteration) {
+		journal.discard(iteration);
 	}
 
 	/**
@@ -198,6 +218,22 @@ public class BuildOperations {
 		executor.doWithBuildSystemAnyOrder(iteration, BuildSystem::triggerPreReleaseCheck);
 	}
 
+	/**
+	 * Triggers a normal build for all modules of the given {@link TrainIteration} in declaration order.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 */
+	public void triggerBuild(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		BuildCache.Statistics statistics = cache.getStatistics();
+
+		cache.build(() -> iteration.forEach(this::triggerBuild));
+
+		logger.log(iteration, "Build cache: %s", cache.getStatistics().since(statistics));
+	}
+
 	/**
 	 * Selects the build system for the module contained in the given {@link ModuleIteration} and executes the given
 	 * function with it.
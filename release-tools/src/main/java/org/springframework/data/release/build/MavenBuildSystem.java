@@ -66,6 +66,7 @@ class MavenBuildSystem implements BuildSystem {
 	Logger logger;
 	MavenRuntime mvn;
 	DeploymentProperties properties;
+	BuildCache cache;
 
 	/*
 	 * (non-Javadoc)
@@ -78,12 +79,12 @@ class MavenBuildSystem implements BuildSystem {
 
 		if (updater.isBuildProject()) {
 
-			updateBom(information);
-			updateParentPom(information);
+			updateBom(module, information);
+			updateParentPom(module, information);
 
 		} else {
 
-			execute(workspace.getFile(POM_XML, updater.getProject()), pom -> {
+			execute(getFile(POM_XML, module), pom -> {
 
 				updater.updateDependencyProperties(pom);
 				updater.updateParentVersion(pom);
@@ -107,21 +108,21 @@ class MavenBuildSystem implements BuildSystem {
 			return module;
 		}
 
-		if (!isMavenProject(project)) {
+		if (!getFile(POM_XML, module).exists()) {
 			logger.log(project, "Skipping project as no pom.xml could be found in the working directory!");
 			return module;
 		}
 
 		logger.log(project, "Triggering distribution build…");
 
-		mvn.execute(project, CommandLine.of(Goal.CLEAN, Goal.DEPLOY, //
+		mvn.execute(module, CommandLine.of(Goal.CLEAN, Goal.DEPLOY, //
 				SKIP_TESTS, profile("distribute"), Argument.of("-B"),
 				arg("artifactory.server").withValue(properties.getServer().getUri()),
 				arg("artifactory.distribution-repository").withValue(properties.getDistributionRepository()),
 				arg("artifactory.username").withValue(properties.getUsername()),
 				arg("artifactory.password").withValue(properties.getPassword())));
 
-		mvn.execute(project, CommandLine.of(Goal.CLEAN, Goal.DEPLOY, //
+		mvn.execute(module, CommandLine.of(Goal.CLEAN, Goal.DEPLOY, //
 				SKIP_TESTS, profile("distribute-schema"), Argument.of("-B"),
 				arg("artifactory.server").withValue(properties.getServer().getUri()),
 				arg("artifactory.distribution-repository").withValue(properties.getDistributionRepository()),
@@ -133,13 +134,13 @@ class MavenBuildSystem implements BuildSystem {
 		return module;
 	}
 
-	private void updateBom(UpdateInformation updateInformation) {
+	private void updateBom(ProjectAware build, UpdateInformation updateInformation) {
 
 		TrainIteration iteration = updateInformation.getTrain();
 
 		logger.log(BUILD, "Updating BOM pom.xml…");
 
-		execute(workspace.getFile("bom/pom.xml", BUILD), pom -> {
+		execute(getFile("bom/pom.xml", build), pom -> {
 
 			for (ModuleIteration module : iteration.getModulesExcept(BUILD)) {
 
@@ -177,10 +178,10 @@ class MavenBuildSystem implements BuildSystem {
 		});
 	}
 
-	private void updateParentPom(UpdateInformation information) {
+	private void updateParentPom(ProjectAware build, UpdateInformation information) {
 
 		// Fix version of shared resources to to-be-released version.
-		execute(workspace.getFile("parent/pom.xml", BUILD), ParentPom.class, pom -> {
+		execute(getFile("parent/pom.xml", build), ParentPom.class, pom -> {
 
 			logger.log(BUILD, "Setting shared resources version to %s.", information.getParentVersionToSet());
 			pom.setSharedResourcesVersion(information.getParentVersionToSet());
@@ -192,9 +193,7 @@ class MavenBuildSystem implements BuildSystem {
 
 	public boolean isMavenProject(ModuleIteration module) {
 
-		Project project = module.getProject();
-
-		if (!isMavenProject(project)) {
+		if (!workspace.getFile(POM_XML, module).exists()) {
 			logger.log(module, "No pom.xml file found, skipping project.");
 			return false;
 		}
@@ -214,17 +213,17 @@ class MavenBuildSystem implements BuildSystem {
 
 		CommandLine goals = CommandLine.of(goal("versions:set"), goal("versions:commit"));
 
-		mvn.execute(project, goals.and(arg("newVersion").withValue(information.getProjectVersionToSet(project)))
+		mvn.execute(module, goals.and(arg("newVersion").withValue(information.getProjectVersionToSet(project)))
 				.and(arg("generateBackupPoms").withValue("false")));
 
 		if (BUILD.equals(project)) {
 
-			mvn.execute(project, goals.and(arg("newVersion").withValue(information.getReleaseTrainVersion())) //
+			mvn.execute(module, goals.and(arg("newVersion").withValue(information.getReleaseTrainVersion())) //
 					.and(arg("generateBackupPoms").withValue("false")) //
 					.and(arg("groupId").withValue("org.springframework.data")) //
 					.and(arg("artifactId").withValue("spring-data-releasetrain")));
 
-			mvn.execute(project, CommandLine.of(Goal.INSTALL));
+			mvn.execute(module, CommandLine.of(Goal.INSTALL));
 		}
 
 		return module;
@@ -254,10 +253,11 @@ class MavenBuildSystem implements BuildSystem {
 	@Override
 	public <M extends ProjectAware> M triggerBuild(M module) {
 
+		Project project = module.getProject();
 		CommandLine arguments = CommandLine.of(Goal.CLEAN, Goal.INSTALL)//
-				.conditionalAnd(SKIP_TESTS, () -> module.getProject().skipTests());
+				.conditionalAnd(SKIP_TESTS, () -> project.skipTests());
 
-		mvn.execute(module.getProject(), arguments);
+		cache.execute(module, arguments, () -> mvn.execute(module, arguments));
 
 		return module;
 	}
@@ -268,7 +268,8 @@ class MavenBuildSystem implements BuildSystem {
 	 */
 	public <M extends ProjectAware> M triggerPreReleaseCheck(M module) {
 
-		mvn.execute(module.getProject(), CommandLine.of(Goal.CLEAN, Goal.VALIDATE, profile("pre-release")));
+		// Verifies external state (e.g. absence of snapshot dependencies) and thus must never be served from the cache
+		mvn.execute(module, CommandLine.of(Goal.CLEAN, Goal.VALIDATE, profile("pre-release")));
 
 		return module;
 	}
@@ -310,7 +311,7 @@ class MavenBuildSystem implements BuildSystem {
 				arg("artifactory.build-name").withQuotedValue(information.getBuildName()),
 				arg("artifactory.build-number").withValue(information.getBuildNumber()));
 
-		mvn.execute(module.getProject(), arguments);
+		mvn.execute(module, arguments);
 	}
 
 	/**
@@ -340,13 +341,29 @@ class MavenBuildSystem implements BuildSystem {
 				arg("gpg.keyname").withValue(gpg.getKeyname()), //
 				arg("gpg.password").withValue(gpg.getPassword()), arg("skipStagingRepositoryClose").withValue("true"));
 
-		mvn.execute(module.getProject(), arguments);
+		mvn.execute(module, arguments);
 	}
 
 	private boolean isMavenProject(Project project) {
 		return workspace.getFile(POM_XML, project).exists();
 	}
 
+	/**
+	 * Returns the file with the given name for the given {@link ProjectAware}, i.e. relative to the directory a
+	 * {@link ModuleIteration} is worked on in or to the {@link Project}'s directory otherwise.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param module must not be {@literal null}.
+	 * @return
+	 * @see Workspace#getProjectDirectory(ModuleIteration)
+	 */
+	private File getFile(String name, ProjectAware module) {
+
+		return module instanceof ModuleIteration //
+				? workspace.getFile(name, (ModuleIteration) module) //
+				: workspace.getFile(name, module.getProject());
+	}
+
 	private void execute(File file, Consumer<Pom> callback) {
 		execute(file, Pom.class, callback);
 	}
@@ -24,6 +24,7 @@ import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Maven configuration properties.
@@ -42,6 +43,10 @@ class MavenProperties {
 	private Map<String, String> plugins;
 	private boolean consoleLogger = true;
 	private boolean parallelize = false;
+	private Backend backend = Backend.FORK;
+	private File daemonHome;
+	private boolean buildCache = true;
+	private DataSize buildCacheSize = DataSize.ofGigabytes(2);
 
 	/**
 	 * Configures the local Maven repository location to use. In case the given folder does not already exists it's
@@ -62,6 +67,35 @@ class MavenProperties {
 		}
 	}
 
+	/**
+	 * Configures the installation of the Maven Daemon (mvnd) to use with {@link Backend#DAEMON}.
+	 *
+	 * @param daemonHome must not be {@literal null} or empty.
+	 */
+	public void setDaemonHome(String daemonHome) {
+
+		Assert.hasText(daemonHome, "Daemon home must not be null or empty!");
+
+		this.daemonHome = new File(daemonHome.replace("~", System.getProperty("user.home")));
+	}
+
+	/**
+	 * Returns the Maven Daemon executable to use with {@link Backend#DAEMON}.
+	 *
+	 * @return
+	 * @throws IllegalStateException in case no or an invalid daemon home is configured.
+	 */
+	public File getDaemonExecutable() {
+
+		Assert.state(daemonHome != null, "No Maven Daemon home configured! Please set maven.daemon-home.");
+
+		File executable = new File(daemonHome, "bin/mvnd");
+
+		Assert.state(executable.isFile(), () -> String.format("No Maven Daemon executable found at %s!", executable));
+
+		return executable;
+	}
+
 	/**
 	 * Returns the fully-qualified plugin goal for the given local one.
 	 *
@@ -84,4 +118,22 @@ class MavenProperties {
 
 		return plugins.get(parts[0]).concat(":").concat(parts[1]);
 	}
+
+	/**
+	 * Execution backend for Maven invocations.
+	 */
+	enum Backend {
+
+		/**
+		 * Forks a new Maven JVM for every invocation.
+		 */
+		FORK,
+
+		/**
+		 * Runs invocations on warm, long-lived Maven Daemon (mvnd) JVMs that keep loaded classes, resolved plugins and
+		 * JIT-compiled code across invocations. The daemon client starts additional daemons for concurrent invocations so
+		 * that each build worker gets a warm JVM of its own.
+		 */
+		DAEMON;
+	}
 }
@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,9 +32,12 @@ import org.apache.maven.shared.invoker.DefaultInvoker;
 import org.apache.maven.shared.invoker.InvocationResult;
 import org.apache.maven.shared.invoker.Invoker;
 
+import org.springframework.data.release.build.MavenProperties.Backend;
 import org.springframework.data.release.io.OsOperations;
 import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.ProjectAware;
 import org.springframework.data.release.utils.Logger;
 import org.springframework.shell.support.util.StringUtils;
 import org.springframework.stereotype.Component;
@@ -50,6 +54,7 @@ class MavenRuntime {
 	private final OsOperations os;
 	private final Logger logger;
 	private final MavenProperties properties;
+	private final BuildDurations durations;
 
 	/**
 	 * Creates a new {@link MavenRuntime} for the given {@link Workspace} and Maven home.
@@ -58,16 +63,52 @@ class MavenRuntime {
 	 * @param os must not be {@literal null}.
 	 * @param logger must not be {@literal null}.
 	 * @param properties must not be {@literal null}.
+	 * @param durations must not be {@literal null}.
 	 */
-	public MavenRuntime(Workspace workspace, OsOperations os, Logger logger, MavenProperties properties) {
+	public MavenRuntime(Workspace workspace, OsOperations os, Logger logger, MavenProperties properties,
+			BuildDurations durations) {
 
 		this.workspace = workspace;
 		this.os = os;
 		this.logger = logger;
 		this.properties = properties;
+		this.durations = durations;
 	}
 
 	public void execute(Project project, CommandLine arguments) {
+		execute(project, workspace.getProjectDirectory(project), arguments);
+	}
+
+	/**
+	 * Executes the given {@link CommandLine} in the directory the given {@link ModuleIteration} is worked on in, i.e. in
+	 * the worktree of its branch if available.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @see Workspace#getProjectDirectory(ModuleIteration)
+	 */
+	public void execute(ModuleIteration module, CommandLine arguments) {
+		execute(module.getProject(), workspace.getProjectDirectory(module), arguments);
+	}
+
+	/**
+	 * Executes the given {@link CommandLine} for the given {@link ProjectAware}, i.e. in the directory a
+	 * {@link ModuleIteration} is worked on in or in the {@link Project}'s directory otherwise.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @see #execute(ModuleIteration, CommandLine)
+	 */
+	public void execute(ProjectAware module, CommandLine arguments) {
+
+		if (module instanceof ModuleIteration) {
+			execute((ModuleIteration) module, arguments);
+		} else {
+			execute(module.getProject(), arguments);
+		}
+	}
+
+	private void execute(Project project, File directory, CommandLine arguments) {
 
 		logger.log(project, "Executing mvn %s", arguments.toString());
 
@@ -87,18 +128,30 @@ class MavenRuntime {
 			DefaultInvocationRequest request = new DefaultInvocationRequest();
 			request.setJavaHome(os.getJavaHome());
 			request.setShellEnvironmentInherited(true);
-			request.setBaseDirectory(workspace.getProjectDirectory(project));
+			request.setBaseDirectory(directory);
 
 			request.setGoals(arguments.toCommandLine(it -> properties.getFullyQualifiedPlugin(it.getGoal())));
 
+			if (properties.getBackend() == Backend.DAEMON) {
+
+				invoker.setMavenExecutable(properties.getDaemonExecutable());
+
+				// The daemon builds modules in parallel by default, retain the sequential reactor of forked builds
+				request.setThreads("1");
+			}
+
+			long start = System.nanoTime();
 			InvocationResult result = invoker.execute(request);
+			Duration duration = Duration.ofNanos(System.nanoTime() - start);
 
 			if (result.getExitCode() != 0) {
 				logger.warn(project, "Failed execution mvn %s", arguments.toString());
 
 				throw new IllegalStateException("Failed execution mvn " + arguments.toString(), result.getExecutionException());
 			}
-			logger.log(project, "Successful execution mvn %s", arguments.toString());
+
+			durations.record(project, arguments, duration);
+			logger.log(project, "Successful execution mvn %s (took %s sec)", arguments.toString(), duration.getSeconds());
 		} catch (Exception e) {
 			if (e instanceof RuntimeException) {
 				throw (RuntimeException) e;
@@ -86,12 +86,17 @@ class ReleaseCommands extends TimedCommand {
 
 	@CliCommand(value = "release build")
 	public void buildRelease(@CliOption(key = "", mandatory = true) TrainIteration iteration, //
-			@CliOption(key = "project", mandatory = false) String projectName) {
+			@CliOption(key = "project", mandatory = false) String projectName, //
+			@CliOption(key = "restart", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false") boolean restart) {
 
 		if (!iteration.getIteration().isPublic()) {
 			deployment.verifyAuthentication();
 		}
 
+		if (restart) {
+			build.discardDeployments(iteration);
+		}
+
 		if (projectName != null) {
 
 			Project project = Projects.requiredByName(projectName);
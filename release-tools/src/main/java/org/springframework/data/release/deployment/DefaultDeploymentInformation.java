@@ -15,7 +15,6 @@
  */
 package org.springframework.data.release.deployment;
 
-import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -33,7 +32,7 @@ import org.springframework.web.util.UriTemplate;
  *
  * @author Oliver Gierke
  */
-@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@RequiredArgsConstructor
 public class DefaultDeploymentInformation implements DeploymentInformation {
 
 	private static UriTemplate REPOSITORY_TEMPLATE = new UriTemplate(
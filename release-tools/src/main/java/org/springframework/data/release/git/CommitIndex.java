@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Project;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Index of the commits of the currently checked out branch of a {@link Project} by the ticket reference their summary
+ * starts with, i.e. the part in front of the first {@code " - "}. The index is kept in memory and persisted in the
+ * workspace per branch. Once built, it is only updated with the commits added on top of the last indexed head and
+ * rebuilt entirely if the branch was rewritten.
+ */
+@Slf4j
+@Component
+class CommitIndex {
+
+	static final String DIRECTORY = ".commit-index";
+	private static final String SEPARATOR = " - ";
+
+	private final Workspace workspace;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link CommitIndex} persisted in the given {@link Workspace}.
+	 *
+	 * @param workspace must not be {@literal null}.
+	 */
+	public CommitIndex(Workspace workspace) {
+
+		Assert.notNull(workspace, "Workspace must not be null!");
+
+		this.workspace = workspace;
+	}
+
+	/**
+	 * Returns the most recent commit reachable from the {@code HEAD} of the given {@link Repository} whose summary starts
+	 * with the given trigger.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param repository must not be {@literal null}.
+	 * @param trigger must not be {@literal null} and contain a ticket reference followed by {@code " - "}.
+	 * @return
+	 */
+	public Optional<ObjectId> findCommit(Project project, Repository repository, String trigger) {
+		return findCommit(project, repository, Constants.HEAD, trigger);
+	}
+
+	/**
+	 * Returns the most recent commit reachable from the given ref of the given {@link Repository} whose summary starts
+	 * with the given trigger.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param repository must not be {@literal null}.
+	 * @param ref must not be {@literal null} or empty.
+	 * @param trigger must not be {@literal null} and contain a ticket reference followed by {@code " - "}.
+	 * @return
+	 */
+	public Optional<ObjectId> findCommit(Project project, Repository repository, String ref, String trigger) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(repository, "Repository must not be null!");
+		Assert.hasText(ref, "Ref must not be null or empty!");
+		Assert.isTrue(trigger != null && trigger.contains(SEPARATOR),
+				() -> String.format("Trigger must start with a ticket reference followed by '%s'!", SEPARATOR));
+
+		try {
+
+			ObjectId head = repository.resolve(ref);
+
+			if (head == null) {
+				return Optional.empty();
+			}
+
+			String name = Constants.HEAD.equals(ref) ? repository.getFullBranch() : ref;
+			List<IndexedCommit> commits = getEntry(project, repository, name, head).commits
+					.getOrDefault(trigger.substring(0, trigger.indexOf(SEPARATOR)), Collections.emptyList());
+
+			return commits.stream() //
+					.filter(it -> it.summary.startsWith(trigger)) //
+					.map(it -> it.id) //
+					.findFirst();
+
+		} catch (IOException o_O) {
+			throw new IllegalStateException(String.format("Could not index commits of %s!", project.getName()), o_O);
+		}
+	}
+
+	private Entry getEntry(Project project, Repository repository, String ref, ObjectId head) throws IOException {
+
+		File file = getFile(project, ref);
+		Entry entry = entries.get(file.getPath());
+
+		if (entry == null) {
+			entry = load(file);
+		}
+
+		if (entry != null && entry.head.equals(head)) {
+			return entry;
+		}
+
+		Entry updated = update(repository, entry, head);
+
+		save(file, updated);
+		entries.put(file.getPath(), updated);
+
+		return updated;
+	}
+
+	/**
+	 * Indexes the commits reachable from the given head using a single {@link RevWalk}. Only the commits not reachable
+	 * from the head of the given {@link Entry} are walked if that head is an ancestor of the new one.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @param entry can be {@literal null}.
+	 * @param head must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private static Entry update(Repository repository, Entry entry, ObjectId head) throws IOException {
+
+		try (RevWalk walk = new RevWalk(repository)) {
+
+			RevCommit start = walk.parseCommit(head);
+			boolean incremental = entry != null && repository.getObjectDatabase().has(entry.head)
+					&& walk.isMergedInto(walk.parseCommit(entry.head), start);
+
+			walk.reset();
+			walk.markStart(start);
+
+			if (incremental) {
+				walk.markUninteresting(walk.parseCommit(entry.head));
+			}
+
+			List<IndexedCommit> added = new ArrayList<>();
+
+			for (RevCommit commit : walk) {
+
+				added.add(new IndexedCommit(commit.getId(), commit.getShortMessage()));
+				commit.disposeBody();
+			}
+
+			return new Entry(head, added, incremental ? entry.commits : Collections.emptyMap());
+		}
+	}
+
+	private File getFile(Project project, String branch) {
+
+		String name = Repository.shortenRefName(branch).replace('/', '_');
+
+		return new File(new File(new File(workspace.getWorkingDirectory(), DIRECTORY), project.getFolderName()), name);
+	}
+
+	private static Entry load(File file) {
+
+		if (!file.exists()) {
+			return null;
+		}
+
+		try {
+
+			List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+
+			if (lines.isEmpty()) {
+				return null;
+			}
+
+			List<IndexedCommit> commits = new ArrayList<>(lines.size() - 1);
+
+			for (String line : lines.subList(1, lines.size())) {
+
+				int index = line.indexOf(' ');
+				commits.add(new IndexedCommit(ObjectId.fromString(line.substring(0, index)), line.substring(index + 1)));
+			}
+
+			return new Entry(ObjectId.fromString(lines.get(0)), commits, Collections.emptyMap());
+
+		} catch (IOException | RuntimeException o_O) {
+
+			log.warn("Could not read commit index {}: {}", file, o_O.getMessage());
+			return null;
+		}
+	}
+
+	private static void save(File file, Entry entry) {
+
+		List<String> lines = new ArrayList<>();
+		lines.add(entry.head.name());
+
+		entry.commits.values().stream() //
+				.flatMap(List::stream) //
+				.forEach(it -> lines.add(it.id.name().concat(" ").concat(it.summary)));
+
+		try {
+
+			file.getParentFile().mkdirs();
+
+			File temp = new File(file.getParentFile(), file.getName().concat(".tmp"));
+
+			Files.write(temp.toPath(), lines, StandardCharsets.UTF_8);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		} catch (IOException o_O) {
+			log.warn("Could not store commit index {}: {}", file, o_O.getMessage());
+		}
+	}
+
+	private static class IndexedCommit {
+
+		private final ObjectId id;
+		private final String summary;
+
+		IndexedCommit(ObjectId id, String summary) {
+			this.id = id;
+			this.summary = summary;
+		}
+	}
+
+	private static class Entry {
+
+		private final ObjectId head;
+		private final Map<String, List<IndexedCommit>> commits;
+
+		/**
+		 * Creates a new {@link Entry} for the given head adding the given commits, ordered from newest to oldest, in front
+		 * of the already indexed ones.
+		 */
+		private Entry(ObjectId head, List<IndexedCommit> added, Map<String, List<IndexedCommit>> indexed) {
+
+			Map<String, List<IndexedCommit>> commits = new HashMap<>();
+
+			for (IndexedCommit commit : added) {
+
+				int index = commit.summary.indexOf(SEPARATOR);
+
+				if (index != -1) {
+					commits.computeIfAbsent(commit.summary.substring(0, index), it -> new ArrayList<>()).add(commit);
+				}
+			}
+
+			indexed.forEach((key, value) -> commits.computeIfAbsent(key, it -> new ArrayList<>()).addAll(value));
+
+			this.head = head;
+			this.commits = commits;
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import lombok.Value;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.release.model.Project;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Coordinates the fetches of the repositories of {@link Project}s. Concurrent callers for the same {@link Project}
+ * share a single in-flight fetch and a successful fetch is reused for the freshness window configured through
+ * {@link GitProperties#getFetchFreshness()} unless a fetch is forced. Fetch timings are recorded per {@link Project}.
+ */
+@Component
+class FetchCoordinator {
+
+	private final GitProperties properties;
+	private final Clock clock;
+	private final Map<Project, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+	private final Map<Project, Metrics> metrics = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link FetchCoordinator} for the given {@link GitProperties}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 */
+	@Autowired
+	public FetchCoordinator(GitProperties properties) {
+		this(properties, Clock.systemUTC());
+	}
+
+	FetchCoordinator(GitProperties properties, Clock clock) {
+
+		Assert.notNull(properties, "GitProperties must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.properties = properties;
+		this.clock = clock;
+	}
+
+	/**
+	 * Runs the given fetch for the given {@link Project} unless the last successful fetch is still fresh. Waits for the
+	 * completion of a fetch already in progress for the {@link Project} instead of starting another one. Forced fetches
+	 * ignore the freshness window but still join a fetch in progress.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param force whether to fetch even if the last fetch is still fresh.
+	 * @param fetch must not be {@literal null}.
+	 * @return whether a fetch was run or joined, {@literal false} if the last fetch was reused.
+	 */
+	public boolean fetch(Project project, boolean force, FetchCallback fetch) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(fetch, "Fetch must not be null!");
+
+		Metrics projectMetrics = metrics.computeIfAbsent(project, it -> new Metrics());
+		Instant start = clock.instant();
+
+		if (!force && projectMetrics.isFresh(start, properties.getFetchFreshness())) {
+
+			projectMetrics.reused.incrementAndGet();
+			return false;
+		}
+
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		CompletableFuture<Void> existing = inFlight.putIfAbsent(project, future);
+
+		if (existing != null) {
+
+			projectMetrics.joined.incrementAndGet();
+			await(existing);
+
+			return true;
+		}
+
+		long nanos = System.nanoTime();
+
+		try {
+
+			fetch.doFetch();
+
+			projectMetrics.recordFetch(start, Duration.ofNanos(System.nanoTime() - nanos));
+			future.complete(null);
+
+			return true;
+
+		} catch (Exception o_O) {
+
+			RuntimeException exception = o_O instanceof RuntimeException ? (RuntimeException) o_O
+					: new IllegalStateException(String.format("Could not fetch %s!", project.getName()), o_O);
+
+			projectMetrics.failures.incrementAndGet();
+			future.completeExceptionally(exception);
+
+			throw exception;
+
+		} finally {
+			inFlight.remove(project, future);
+		}
+	}
+
+	/**
+	 * Returns the fetch statistics per {@link Project}.
+	 *
+	 * @return
+	 */
+	public List<Statistics> getStatistics() {
+
+		return metrics.entrySet().stream() //
+				.map(it -> it.getValue().toStatistics(it.getKey())) //
+				.sorted(Comparator.comparing(it -> it.getProject().getName())) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Callback to actually fetch the repository of a {@link Project}.
+	 */
+	interface FetchCallback {
+		void doFetch() throws Exception;
+	}
+
+	private static void await(CompletableFuture<Void> future) {
+
+		try {
+			future.join();
+		} catch (CompletionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+		}
+	}
+
+	private static class Metrics {
+
+		final AtomicLong fetches = new AtomicLong();
+		final AtomicLong reused = new AtomicLong();
+		final AtomicLong joined = new AtomicLong();
+		final AtomicLong failures = new AtomicLong();
+		final AtomicLong totalNanos = new AtomicLong();
+
+		volatile Instant lastFetch;
+		volatile Duration lastDuration = Duration.ZERO;
+
+		boolean isFresh(Instant now, Duration freshness) {
+
+			Instant last = lastFetch;
+
+			return last != null && last.plus(freshness).isAfter(now);
+		}
+
+		void recordFetch(Instant start, Duration duration) {
+
+			fetches.incrementAndGet();
+			totalNanos.addAndGet(duration.toNanos());
+			lastDuration = duration;
+			lastFetch = start;
+		}
+
+		Statistics toStatistics(Project project) {
+
+			long count = fetches.get();
+			Duration average = count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.get() / count);
+
+			return new Statistics(project, count, reused.get(), joined.get(), failures.get(), lastDuration, average);
+		}
+	}
+
+	/**
+	 * Fetch statistics of a single {@link Project}.
+	 */
+	@Value
+	static class Statistics {
+
+		Project project;
+		long fetches, reused, joined, failures;
+		Duration lastDuration, averageDuration;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s: %s fetches (last %s ms, avg %s ms), %s reused, %s joined, %s failed", project.getName(),
+					fetches, lastDuration.toMillis(), averageDuration.toMillis(), reused, joined, failures);
+		}
+	}
+}
@@ -19,7 +19,9 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,9 +60,18 @@ class GitCommands extends TimedCommand {
 	}
 
 	@CliCommand("git update")
-	public void update(@CliOption(key = { "", "train" }, mandatory = true) String trainName)
+	public void update(@CliOption(key = { "", "train" }, mandatory = true) String trainName,
+			@CliOption(key = "force", specifiedDefaultValue = "true", unspecifiedDefaultValue = "false") boolean force)
 			throws Exception, InterruptedException {
-		git.update(ReleaseTrains.getTrainByName(trainName));
+		git.update(ReleaseTrains.getTrainByName(trainName), force);
+	}
+
+	@CliCommand("git fetches")
+	public String fetches() {
+
+		return git.getFetchStatistics().stream() //
+				.map(Object::toString) //
+				.collect(Collectors.joining(System.lineSeparator()));
 	}
 
 	@CliCommand("git tags")
@@ -87,6 +98,23 @@ class GitCommands extends TimedCommand {
 		git.prepare(iteration);
 	}
 
+	/**
+	 * Creates worktrees for all projects contained in the given {@link TrainIteration} so that it can be worked on
+	 * concurrently with other release trains.
+	 *
+	 * @param iteration
+	 * @throws Exception
+	 */
+	@CliCommand("git worktree add")
+	public void addWorktrees(@CliOption(key = "", mandatory = true) TrainIteration iteration) throws Exception {
+		git.createWorktrees(iteration);
+	}
+
+	@CliCommand("git worktree remove")
+	public void removeWorktrees(@CliOption(key = "", mandatory = true) TrainIteration iteration) throws Exception {
+		git.removeWorktrees(iteration);
+	}
+
 	/**
 	 * Pushes all changes of all modules of the given {@link TrainIteration} to the remote server. If {@code tags} is
 	 * given, only the tags are pushed.
@@ -160,4 +188,45 @@ class GitCommands extends TimedCommand {
 
 		return table;
 	}
+
+	/**
+	 * List the branches with their tickets of the git repositories of all projects of a release train.
+	 *
+	 * @param trainName
+	 * @return
+	 * @throws Exception
+	 */
+	@CliCommand("git train-issuebranches")
+	public Table trainIssuebranches(@CliOption(key = { "" }, mandatory = true) String trainName,
+			@CliOption(key = "resolved", unspecifiedDefaultValue = "false", specifiedDefaultValue = "true") Boolean resolved)
+			throws Exception {
+
+		Map<Project, TicketBranches> ticketBranches = git.listTicketBranches(ReleaseTrains.getTrainByName(trainName));
+
+		Table table = new Table();
+		table.addHeader(1, new TableHeader("Project"));
+		table.addHeader(2, new TableHeader("Branch"));
+		table.addHeader(3, new TableHeader("Status"));
+		table.addHeader(4, new TableHeader("Description"));
+
+		ticketBranches.entrySet().stream() //
+				.sorted(Comparator.comparing(it -> it.getKey().getName())) //
+				.forEachOrdered(entry -> {
+
+					TicketBranches branches = entry.getValue();
+
+					branches.stream().sorted().//
+							filter(branch -> branches.hasTicketFor(branch, resolved)).//
+							forEachOrdered(branch -> {
+
+								Optional<Ticket> ticket = branches.findTicket(branch);
+
+								table.addRow(entry.getKey().getName(), branch.toString(), //
+										ticket.map(t -> t.getTicketStatus().getLabel()).orElse(""), //
+										ticket.map(t -> t.getSummary()).orElse(""));
+							});
+				});
+
+		return table;
+	}
 }
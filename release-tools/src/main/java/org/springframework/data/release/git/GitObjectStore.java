@@ -0,0 +1,270 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jgit.api.CreateBranchCommand.SetupUpstreamMode;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.RefUpdate.Result;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.RemoteConfig;
+import org.eclipse.jgit.transport.TagOpt;
+import org.eclipse.jgit.transport.URIish;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Object store shared by all workspaces on a machine. For every repository, a bare mirror is kept in the configured
+ * {@link GitProperties#getObjectStore() object store directory}. Workspace repositories are created as reference
+ * clones of these mirrors, i.e. they borrow all objects through {@code objects/info/alternates} and get their
+ * remote-tracking branches and tags copied over from the mirror. Creating or updating a workspace repository then
+ * doesn't download or copy any history already known to the machine.
+ * <p>
+ * Workspace repositories rely on the objects of the mirror, so mirrors must not be garbage collected with pruning
+ * while workspaces referring to them exist.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class GitObjectStore {
+
+	private static final String ORIGIN = "origin";
+	private static final String REMOTE_BRANCHES = Constants.R_REMOTES + ORIGIN + "/";
+
+	@NonNull GitProperties properties;
+	Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns whether a shared object store is configured.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return properties.getObjectStore() != null;
+	}
+
+	/**
+	 * Creates or updates the mirror of the repository with the given name from the given URI.
+	 *
+	 * @param repositoryName must not be {@literal null} or empty.
+	 * @param uri must not be {@literal null} or empty.
+	 */
+	public void update(String repositoryName, String uri) {
+
+		Assert.hasText(repositoryName, "Repository name must not be null or empty!");
+		Assert.hasText(uri, "URI must not be null or empty!");
+
+		File mirror = getMirror(repositoryName);
+		ReentrantLock lock = locks.computeIfAbsent(repositoryName, it -> new ReentrantLock());
+
+		lock.lock();
+
+		try {
+
+			if (!mirror.exists()) {
+
+				log.info("Creating mirror of {} in {}.", uri, mirror);
+
+				// A fresh clone is up to date already, no need to fetch again
+				Git.cloneRepository()//
+						.setURI(uri)//
+						.setDirectory(mirror)//
+						.setBare(true)//
+						.setCloneAllBranches(true)//
+						.call()//
+						.close();
+
+				return;
+			}
+
+			try (Git git = Git.open(mirror)) {
+
+				git.fetch()//
+						.setRemote(uri)//
+						.setRefSpecs(new RefSpec("+refs/heads/*:refs/heads/*"), new RefSpec("+refs/tags/*:refs/tags/*"))//
+						.setTagOpt(TagOpt.NO_TAGS)//
+						.setRemoveDeletedRefs(true)//
+						.call();
+			}
+
+		} catch (Exception o_O) {
+			throw new IllegalStateException(String.format("Could not update mirror %s from %s!", mirror, uri), o_O);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Creates a reference clone of the mirror of the given repository in the given directory, using the given URI as
+	 * {@code origin} and checking out the given branch. Requires the mirror to be {@link #update(String, String)
+	 * updated} before.
+	 *
+	 * @param repositoryName must not be {@literal null} or empty.
+	 * @param uri must not be {@literal null} or empty.
+	 * @param directory must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 */
+	public void clone(String repositoryName, String uri, File directory, Branch branch) {
+
+		Assert.hasText(repositoryName, "Repository name must not be null or empty!");
+		Assert.hasText(uri, "URI must not be null or empty!");
+		Assert.notNull(directory, "Directory must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		File mirror = getMirror(repositoryName);
+
+		Assert.state(mirror.exists(), () -> String.format("No mirror found for %s in %s!", repositoryName, mirror));
+
+		try {
+
+			Git.init().setDirectory(directory).call().close();
+
+			File alternates = new File(directory, ".git/objects/info/alternates");
+			alternates.getParentFile().mkdirs();
+
+			Files.write(alternates.toPath(),
+					Collections.singletonList(new File(mirror, "objects").getAbsolutePath()), StandardCharsets.UTF_8);
+
+			// Reopen the repository so that the alternates are picked up
+			try (Git git = Git.open(directory)) {
+
+				StoredConfig config = git.getRepository().getConfig();
+
+				RemoteConfig remote = new RemoteConfig(config, ORIGIN);
+				remote.addURI(new URIish(uri));
+				remote.addFetchRefSpec(new RefSpec("+refs/heads/*:" + REMOTE_BRANCHES + "*"));
+				remote.update(config);
+
+				config.save();
+
+				synchronize(repositoryName, git.getRepository());
+
+				git.checkout()//
+						.setCreateBranch(true)//
+						.setName(branch.toString())//
+						.setStartPoint(ORIGIN + "/" + branch)//
+						.setUpstreamMode(SetupUpstreamMode.TRACK)//
+						.call();
+			}
+
+		} catch (Exception o_O) {
+			throw new IllegalStateException(String.format("Could not clone %s into %s!", repositoryName, directory), o_O);
+		}
+	}
+
+	/**
+	 * Updates the remote-tracking branches and tags of the given workspace {@link Repository} to the state of the mirror
+	 * of the given repository. No objects are transferred as the workspace repository borrows them from the mirror.
+	 * Remote-tracking branches deleted upstream are removed while tags are only added.
+	 *
+	 * @param repositoryName must not be {@literal null} or empty.
+	 * @param repository must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public void synchronize(String repositoryName, Repository repository) throws IOException {
+
+		Assert.hasText(repositoryName, "Repository name must not be null or empty!");
+		Assert.notNull(repository, "Repository must not be null!");
+
+		try (Git mirror = Git.open(getMirror(repositoryName))) {
+
+			Repository source = mirror.getRepository();
+
+			copyRefs(source.getRefDatabase().getRefs(Constants.R_HEADS), REMOTE_BRANCHES, repository, true);
+
+			// Tags are created in the workspace before they're pushed, so only ever add them like git fetch --prune does
+			copyRefs(source.getRefDatabase().getRefs(Constants.R_TAGS), Constants.R_TAGS, repository, false);
+		}
+	}
+
+	/**
+	 * Returns the directory of the mirror for the repository with the given name.
+	 *
+	 * @param repositoryName must not be {@literal null} or empty.
+	 * @return
+	 */
+	File getMirror(String repositoryName) {
+
+		Assert.state(isEnabled(), "No shared object store (git.object-store) configured!");
+
+		return new File(properties.getObjectStore(), repositoryName.concat(".git"));
+	}
+
+	/**
+	 * Points the refs below the given prefix in the given target {@link Repository} to the objects of the given refs.
+	 *
+	 * @param refs the refs to copy keyed by their name relative to the prefix, must not be {@literal null}.
+	 * @param prefix must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param prune whether to delete refs below the prefix not contained in the given refs, i.e. deleted in the source.
+	 * @throws IOException
+	 */
+	static void copyRefs(Map<String, Ref> refs, String prefix, Repository target, boolean prune) throws IOException {
+
+		for (Map.Entry<String, Ref> entry : refs.entrySet()) {
+
+			RefUpdate update = target.updateRef(prefix.concat(entry.getKey()));
+			update.setNewObjectId(entry.getValue().getObjectId());
+			update.setForceUpdate(true);
+
+			verify(update, update.update());
+		}
+
+		if (!prune) {
+			return;
+		}
+
+		for (Ref ref : target.getRefDatabase().getRefs(prefix).values()) {
+
+			// Symbolic refs like origin/HEAD are not copied and deleting them would delete the ref they point to
+			if (ref.isSymbolic() || refs.containsKey(ref.getName().substring(prefix.length()))) {
+				continue;
+			}
+
+			RefUpdate delete = target.updateRef(ref.getName());
+			delete.setForceUpdate(true);
+
+			verify(delete, delete.delete());
+		}
+	}
+
+	private static void verify(RefUpdate update, Result result) throws IOException {
+
+		if (result == Result.LOCK_FAILURE || result == Result.IO_FAILURE || result == Result.REJECTED) {
+			throw new IOException(String.format("Could not update %s: %s", update.getName(), result));
+		}
+	}
+}
@@ -30,18 +30,18 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.jgit.api.CheckoutCommand;
-import org.eclipse.jgit.api.CherryPickResult;
-import org.eclipse.jgit.api.CherryPickResult.CherryPickStatus;
 import org.eclipse.jgit.api.CreateBranchCommand.SetupUpstreamMode;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.MergeCommand.FastForwardMode;
+import org.eclipse.jgit.api.MergeResult;
 import org.eclipse.jgit.api.ResetCommand.ResetType;
 import org.eclipse.jgit.api.errors.RefNotFoundException;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
-import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.eclipse.jgit.transport.RefSpec;
 import org.eclipse.jgit.transport.TagOpt;
 import org.springframework.data.release.io.Workspace;
@@ -49,12 +49,15 @@ import org.springframework.data.release.issues.IssueTracker;
 import org.springframework.data.release.issues.Ticket;
 import org.springframework.data.release.model.ArtifactVersion;
 import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.Module;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Project;
 import org.springframework.data.release.model.Train;
 import org.springframework.data.release.model.TrainIteration;
 import org.springframework.data.release.utils.ExecutionUtils;
 import org.springframework.data.release.utils.Logger;
+import org.springframework.data.util.Pair;
+import org.springframework.data.util.Streamable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
@@ -69,15 +72,18 @@ import org.springframework.util.Assert;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class GitOperations {
 
-	private enum BranchCheckoutMode {
-		CREATE_ONLY, CREATE_AND_UPDATE;
-	}
-
 	GitServer server = new GitServer();
 	Workspace workspace;
+	GitRepositories repositories;
+	GitObjectStore objectStore;
+	TagIndex tagIndex;
+	CommitIndex commitIndex;
 	Logger logger;
 	PluginRegistry<IssueTracker, Project> issueTracker;
 	GitProperties gitProperties;
+	FetchCoordinator fetches;
+	RemoteRefs remoteRefs;
+	GitWorktrees worktrees;
 
 	/**
 	 * Returns the {@link GitProject} for the given {@link Project}.
@@ -100,7 +106,69 @@ public class GitOperations {
 		Assert.notNull(train, "Train must not be null!");
 
 		ExecutionUtils.run(train, module -> {
-			reset(module.getProject(), Branch.from(module));
+			reset(module);
+		});
+	}
+
+	/**
+	 * Creates worktrees for the branches of all modules of the given {@link TrainIteration}, so that the release train
+	 * can be worked on concurrently with other trains of the same projects. All operations on the modules of the train
+	 * then use the worktrees instead of the projects' repositories.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @see Workspace#getProjectDirectory(ModuleIteration)
+	 */
+	public void createWorktrees(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		ExecutionUtils.run(iteration, module -> {
+
+			Project project = module.getProject();
+			Branch branch = Branch.from(module);
+
+			if (worktrees.exists(project, branch)) {
+
+				logger.log(module, "Worktree for branch %s already exists, skipping.", branch);
+				return;
+			}
+
+			// The worktree branch is started from origin, so it must not be created from stale refs
+			update(project, true);
+
+			logger.log(module, "git worktree add %s %s", workspace.getWorktreeDirectory(project, branch), branch);
+
+			doWithGit(project, git -> {
+				worktrees.create(project, git.getRepository(), getGitProject(project).getProjectUri(), branch);
+			});
+		});
+	}
+
+	/**
+	 * Removes the worktrees of all modules of the given {@link TrainIteration}.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 */
+	public void removeWorktrees(TrainIteration iteration) {
+
+		Assert.notNull(iteration, "Train iteration must not be null!");
+
+		ExecutionUtils.run(iteration, module -> {
+
+			Project project = module.getProject();
+			Branch branch = Branch.from(module);
+
+			if (!worktrees.exists(project, branch)) {
+				return;
+			}
+
+			logger.log(module, "git worktree remove %s", workspace.getWorktreeDirectory(project, branch));
+
+			repositories.evict(module);
+
+			doWithGit(project, git -> {
+				worktrees.remove(project, git.getRepository(), branch);
+			});
 		});
 	}
 
@@ -113,7 +181,8 @@ public class GitOperations {
 
 		Assert.notNull(train, "Train must not be null!");
 
-		update(train);
+		// Branches are reset to origin below, so always fetch
+		update(train, true);
 
 		AtomicBoolean masterSwitch = new AtomicBoolean();
 		ExecutionUtils.run(train, module -> {
@@ -175,7 +244,9 @@ public class GitOperations {
 			Tag tag = findTagFor(project, artifactVersion).orElseThrow(() -> new IllegalStateException(
 					String.format("No tag found for version %s of project %s, aborting.", artifactVersion, project)));
 
-			doWithGit(project, git -> {
+			synchronizeWorktree(module);
+
+			doWithGit(module, git -> {
 
 				logger.log(module, "git checkout %s", tag);
 				git.checkout().setName(tag.toString()).call();
@@ -192,80 +263,161 @@ public class GitOperations {
 			Project project = module.getProject();
 			Branch branch = Branch.from(module);
 
-			update(project);
-			checkout(project, branch);
+			// Releases must never be prepared on stale refs, so fetch even if the project was fetched recently
+			update(project, true);
+
+			if (worktrees.exists(project, branch)) {
+
+				// The worktree borrows the objects of the freshly updated project repository, so only refs need to be updated
+				synchronizeWorktree(module);
+
+				doWithGit(module, git -> {
+
+					logger.log(module, "git rebase origin/%s", branch);
+					git.rebase()//
+							.setUpstream("origin/".concat(branch.toString()))//
+							.call();
+				});
 
-			logger.log(project, "Pulling latest updates for branch %s…", branch);
+				pinWorktree(project, branch);
 
+				return;
+			}
+
+			switchBranch(project, branch);
+
+			logger.log(project, "Rebasing branch %s onto latest updates…", branch);
+
+			// Changes were fetched by the update above, rebasing onto them doesn't need the remote
 			doWithGit(project, git -> {
 
-				logger.log(project, "git pull origin %s", branch);
-				git.pull()//
-						.setRebase(true)//
+				logger.log(project, "git rebase origin/%s", branch);
+				git.rebase()//
+						.setUpstream("origin/".concat(branch.toString()))//
 						.call();
 			});
 
-			logger.log(project, "Pulling updates done!", branch);
+			logger.log(project, "Rebasing done!", branch);
 		});
 
 		reset(iteration);
 	}
 
 	public void update(Train train) {
-		ExecutionUtils.run(train, module -> update(module.getProject()));
+		update(train, false);
+	}
+
+	/**
+	 * Updates the projects of all modules of the given {@link Train}.
+	 *
+	 * @param train must not be {@literal null}.
+	 * @param force whether to fetch even if a project was fetched recently.
+	 * @see #update(Project, boolean)
+	 */
+	public void update(Train train, boolean force) {
+		ExecutionUtils.run(train, module -> update(module.getProject(), force));
 	}
 
+	/**
+	 * Pushes the branches of all modules of the given {@link TrainIteration}. The first failing push cancels all other
+	 * pushes still in progress.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 */
 	public void push(TrainIteration iteration) {
 
-		ExecutionUtils.run(iteration, module -> {
+		ExecutionUtils.runFailFast(iteration, module -> {
 
 			Branch branch = Branch.from(module);
 			logger.log(module, "git push origin %s", branch);
 
-			if (!branchExists(module.getProject(), branch)) {
+			doWithGit(module, git -> {
 
-				logger.log(module, "No branch %s in %s, skip push", branch, module.getProject().getName());
-				return;
-			}
+				Ref ref = git.getRepository().findRef(branch.toString());
 
-			doWithGit(module.getProject(), git -> {
+				if (ref == null) {
 
-				Ref ref = git.getRepository().findRef(branch.toString());
+					logger.log(module, "No branch %s in %s, skip push", branch, module.getProject().getName());
+					return;
+				}
+
+				if (remoteRefs.get(module.getProject()).getHead(branch).filter(ref.getObjectId()::equals).isPresent()) {
+
+					logger.log(module, "Branch %s already up to date in origin, skip push", branch);
+					return;
+				}
 
 				git.push()//
 						.setRemote("origin")//
 						.setRefSpecs(new RefSpec(ref.getName()))//
 						.setCredentialsProvider(gitProperties.getCredentials())//
 						.call();
+
+				remoteRefs.evict(module.getProject());
 			});
 		});
 	}
 
+	/**
+	 * Pushes the tags of all modules of the given {@link Train}. The first failing push cancels all other pushes still in
+	 * progress.
+	 *
+	 * @param train must not be {@literal null}.
+	 */
 	public void pushTags(Train train) {
 
-		ExecutionUtils.run(train.getModules(), module -> {
+		ExecutionUtils.runFailFast(train.getModules(), module -> {
 
 			logger.log(module.getProject(), "git push --tags origin");
 
 			doWithGit(module.getProject(), git -> {
 
+				List<String> tags = git.tagList().call().stream()//
+						.map(Ref::getName)//
+						.map(Repository::shortenRefName)//
+						.collect(Collectors.toList());
+
+				if (remoteRefs.get(module.getProject()).hasTags(tags)) {
+
+					logger.log(module.getProject(), "All tags already present in origin, skip push");
+					return;
+				}
+
 				git.push()//
 						.setRemote("origin")//
 						.setPushTags()//
 						.setCredentialsProvider(gitProperties.getCredentials())//
 						.call();
+
+				remoteRefs.evict(module.getProject());
 			});
 		});
 	}
 
 	/**
 	 * Updates the given {@link Project}. Will either pull the latest changes or clone the project's repository if not
-	 * already available.
+	 * already available. Doesn't fetch if the project was fetched recently, so this is only to be used for read-only
+	 * commands. Operations rebasing or resetting onto {@code origin} have to {@link #update(Project, boolean) force} the
+	 * fetch.
 	 *
 	 * @param project must not be {@literal null}.
 	 * @throws Exception
 	 */
 	public void update(Project project) {
+		update(project, false);
+	}
+
+	/**
+	 * Updates the given {@link Project}. Will either fetch the latest changes and fast-forward the master branch to them
+	 * or clone the project's repository if not already available. Concurrent updates of the same {@link Project} share a
+	 * single fetch and a repository fetched within the configured freshness window is not fetched again unless forced.
+	 * Apart from the fetch, no remote is contacted.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param force whether to fetch even if the project was fetched recently.
+	 * @see GitProperties#getFetchFreshness()
+	 */
+	public void update(Project project, boolean force) {
 
 		Assert.notNull(project, "Project must not be null!");
 
@@ -274,31 +426,141 @@ public class GitOperations {
 		GitProject gitProject = new GitProject(project, server);
 		String repositoryName = gitProject.getRepositoryName();
 
-		doWithGit(project, git -> {
+		if (force) {
+			remoteRefs.evict(project);
+		}
+
+		if (!workspace.hasProjectDirectory(project)) {
 
-			if (workspace.hasProjectDirectory(project)) {
+			fetches.fetch(project, true, () -> clone(project));
+			logger.log(project, "Project update done!");
 
-				logger.log(project, "Found existing repository %s. Obtaining latest changes…", repositoryName);
+			return;
+		}
 
-				checkout(project, Branch.MASTER);
+		logger.log(project, "Found existing repository %s. Obtaining latest changes…", repositoryName);
 
-				logger.log(project, "git fetch --tags");
-				git.fetch().setTagOpt(TagOpt.FETCH_TAGS).call();
+		fetch(project, force);
+
+		fastForward(project, Branch.MASTER);
+
+		logger.log(project, "Project update done!");
+	}
+
+	/**
+	 * Fetches the latest changes of the given {@link Project} through the {@link FetchCoordinator}. With a shared object
+	 * store, the mirror is updated and the workspace repository gets its refs from it, so that objects are only ever
+	 * downloaded into the mirror.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param force whether to fetch even if the project was fetched recently.
+	 * @return whether a fetch was run or joined.
+	 */
+	private boolean fetch(Project project, boolean force) {
+
+		GitProject gitProject = new GitProject(project, server);
+		String repositoryName = gitProject.getRepositoryName();
+
+		boolean fetched = fetches.fetch(project, force, () -> doWithGit(project, git -> {
+
+			if (objectStore.isEnabled()) {
+
+				logger.log(project, "Updating shared object store…");
+				objectStore.update(repositoryName, gitProject.getProjectUri());
+				objectStore.synchronize(repositoryName, git.getRepository());
 
 			} else {
-				clone(project);
+
+				// Objects are only negotiated if the advertised refs point to commits not available locally
+				logger.log(project, "git fetch --tags");
+				git.fetch().setTagOpt(TagOpt.FETCH_TAGS).call();
 			}
-		});
+		}));
 
-		logger.log(project, "Project update done!");
+		if (!fetched) {
+			logger.log(project, "Repository fetched less than %s ago, skipping fetch.", gitProperties.getFetchFreshness());
+		}
+
+		return fetched;
 	}
 
+	/**
+	 * Returns the fetch statistics of all projects updated so far.
+	 *
+	 * @return
+	 */
+	List<FetchCoordinator.Statistics> getFetchStatistics() {
+		return fetches.getStatistics();
+	}
+
+	/**
+	 * Returns the {@link VersionTags} of the given {@link Project}. The tags are served from the {@link TagIndex} unless
+	 * the tags of the repository changed.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
 	public VersionTags getTags(Project project) {
 
+		Assert.notNull(project, "Project must not be null!");
+
+		return tagIndex.getTags(project, () -> doWithGit(project, git -> {
+			return git.tagList().call().stream()//
+					.map(Ref::getName)//
+					.collect(Collectors.toList());
+		}));
+	}
+
+	/**
+	 * Returns the hash of the tree currently checked out for the given {@link Project}. Returns {@link Optional#empty()}
+	 * if the project is not checked out or its working tree contains uncommitted changes, as the tree hash then doesn't
+	 * identify the sources.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
+	public Optional<String> getTreeHash(Project project) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		if (!new File(workspace.getProjectDirectory(project), ".git").exists()) {
+			return Optional.empty();
+		}
+
 		return doWithGit(project, git -> {
-			return new VersionTags(git.tagList().call().stream()//
-					.map(ref -> Tag.of(ref.getName()))//
-					.collect(Collectors.toList()));
+
+			if (!git.status().call().isClean()) {
+				return Optional.empty();
+			}
+
+			return Optional.ofNullable(git.getRepository().resolve(Constants.HEAD + "^{tree}")).map(ObjectId::name);
+		});
+	}
+
+	/**
+	 * Returns the hash of the tree currently checked out in the directory the given {@link ModuleIteration} is worked on
+	 * in, i.e. its worktree if available. Returns {@link Optional#empty()} under the same conditions as
+	 * {@link #getTreeHash(Project)}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 * @see Workspace#getProjectDirectory(ModuleIteration)
+	 */
+	public Optional<String> getTreeHash(ModuleIteration module) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+
+		if (!workspace.getFile(".git", module).exists()) {
+			return Optional.empty();
+		}
+
+		return doWithGit(module, git -> {
+
+			if (!git.status().call().isClean()) {
+				return Optional.empty();
+			}
+
+			return Optional.ofNullable(git.getRepository().resolve(Constants.HEAD + "^{tree}")).map(ObjectId::name);
 		});
 	}
 
@@ -315,34 +577,37 @@ public class GitOperations {
 		IssueTracker tracker = issueTracker.getRequiredPluginFor(project,
 				() -> String.format("No issue tracker found for project %!", project));
 
-		return doWithGit(project, git -> {
+		Map<String, Branch> ticketIds = getRemoteBranches(project)//
+				.filter(branch -> branch.isIssueBranch(project.getTracker()))//
+				.collect(Collectors.toMap(Branch::toString, branch -> branch));
 
-			update(project);
+		Collection<Ticket> tickets = tracker.findTickets(project, ticketIds.keySet());
 
-			Map<String, Branch> ticketIds = getRemoteBranches(project)//
-					.filter(branch -> branch.isIssueBranch(project.getTracker()))//
-					.collect(Collectors.toMap(Branch::toString, branch -> branch));
+		return TicketBranches
+				.from(tickets.stream().collect(Collectors.toMap(ticket -> ticketIds.get(ticket.getId()), ticket -> ticket)));
+	}
 
-			Collection<Ticket> tickets = tracker.findTickets(project, ticketIds.keySet());
+	/**
+	 * Retrieve the remote branches where their related ticket is resolved for all projects of the given {@link Train}.
+	 * The remote branches of all projects are captured concurrently upfront.
+	 *
+	 * @param train must not be {@literal null}.
+	 * @return
+	 */
+	public Map<Project, TicketBranches> listTicketBranches(Train train) {
 
-			return TicketBranches
-					.from(tickets.stream().collect(Collectors.toMap(ticket -> ticketIds.get(ticket.getId()), ticket -> ticket)));
-		});
-	}
+		Assert.notNull(train, "Train must not be null!");
 
-	private Stream<Branch> getRemoteBranches(Project project) {
+		Streamable<Project> projects = train.map(Module::getProject);
 
-		return doWithGit(project, git -> {
+		remoteRefs.get(projects);
 
-			Collection<Ref> refs = git.lsRemote()//
-					.setHeads(true)//
-					.setTags(false)//
-					.call();
+		return ExecutionUtils.runAndReturn(projects, project -> Pair.of(project, listTicketBranches(project)),
+				Collectors.toMap(Pair::getFirst, Pair::getSecond));
+	}
 
-			return refs.stream()//
-					.map(Ref::getName)//
-					.map(Branch::from);//
-		});
+	private Stream<Branch> getRemoteBranches(Project project) {
+		return remoteRefs.get(project).getBranches();
 	}
 
 	/**
@@ -439,7 +704,7 @@ public class GitOperations {
 
 		logger.log(module, "git commit -m \"%s\" --author=\"%s <%s>\"", commit, author, email);
 
-		doWithGit(project, git -> {
+		doWithGit(module, git -> {
 
 			git.commit()//
 					.setMessage(commit.toString())//
@@ -448,31 +713,35 @@ public class GitOperations {
 					.setAll(true)//
 					.call();
 		});
+
+		pinWorktree(project, Branch.from(module));
 	}
 
 	/**
 	 * Checks out the given {@link Branch} of the given {@link Project}. If the given branch doesn't exist yet, a tracking
-	 * branch is created assuming the branch exists in the {@code origin} remote. Pulls the latest changes from the
-	 * checked out branch will be pulled to make sure we see them.
+	 * branch is created assuming the branch exists in the {@code origin} remote. The latest changes are always fetched
+	 * (see {@link #update(Project, boolean)}) and the branch is fast-forwarded to them to make sure we see them.
 	 *
 	 * @param project must not be {@literal null}.
 	 * @param branch must not be {@literal null}.
 	 */
 	public void checkout(Project project, Branch branch) {
-		checkout(project, branch, BranchCheckoutMode.CREATE_AND_UPDATE);
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		fetch(project, true);
+		fastForward(project, branch);
 	}
 
 	/**
-	 * Checks out the given {@link Branch} of the given {@link Project}. If the given branch doesn't exist yet, a tracking
-	 * branch is created assuming the branch exists in the {@code origin} remote. If the {@link BranchCheckoutMode} is set
-	 * to {@code CREATE_AND_UPDATE} the latest changes from the checked out branch will be pulled to make sure we see
-	 * them.
+	 * Checks out the given {@link Branch} of the given {@link Project} without updating it. If the given branch doesn't
+	 * exist yet, a tracking branch is created assuming the branch exists in the {@code origin} remote.
 	 *
 	 * @param project must not be {@literal null}.
 	 * @param branch must not be {@literal null}.
-	 * @param mode must not be {@literal null}.
 	 */
-	private void checkout(Project project, Branch branch, BranchCheckoutMode mode) {
+	private void switchBranch(Project project, Branch branch) {
 
 		Assert.notNull(project, "Project must not be null!");
 		Assert.notNull(branch, "Branch must not be null!");
@@ -502,25 +771,41 @@ public class GitOperations {
 			} catch (RefNotFoundException o_O) {
 				// TODO:
 			}
+		});
 
-			switch (mode) {
+		logger.log(project, "Checkout done!");
+	}
 
-				case CREATE_ONLY:
-					break;
-				case CREATE_AND_UPDATE:
-				default:
-					// Pull latest changes to make sure the branch is up to date
-					logger.log(project, "git pull origin %s", branch);
+	/**
+	 * Checks out the given {@link Branch} of the given {@link Project} and fast-forwards it to its remote-tracking branch.
+	 * Works on the local repository only, i.e. the remote-tracking branch has to be fetched upfront.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 */
+	private void fastForward(Project project, Branch branch) {
 
-					git.pull()//
-							.setRemote("origin")//
-							.setRemoteBranchName(branch.toString())//
-							.call();
-					break;
+		switchBranch(project, branch);
+
+		doWithGit(project, git -> {
+
+			Ref remote = git.getRepository().exactRef(Constants.R_REMOTES + "origin/" + branch);
+
+			if (remote == null) {
+				return;
 			}
-		});
 
-		logger.log(project, "Checkout done!");
+			logger.log(project, "git merge --ff-only origin/%s", branch);
+
+			MergeResult result = git.merge()//
+					.include(remote)//
+					.setFastForward(FastForwardMode.FF_ONLY)//
+					.call();
+
+			if (!result.getMergeStatus().isSuccessful()) {
+				logger.warn(project, "Branch %s diverged from origin/%s, not fast-forwarding!", branch, branch);
+			}
+		});
 	}
 
 	public void createMaintenanceBranches(TrainIteration iteration) {
@@ -534,7 +819,7 @@ public class GitOperations {
 		ExecutionUtils.run(iteration, module -> {
 
 			Branch branch = createMaintenanceBranch(module);
-			checkout(module.getProject(), branch, BranchCheckoutMode.CREATE_ONLY);
+			switchBranch(module.getProject(), branch);
 		});
 	}
 
@@ -562,7 +847,10 @@ public class GitOperations {
 
 	/**
 	 * Back-ports the change log created for the given {@link TrainIteration} to the given release {@link Train}s. If the
-	 * {@link TrainIteration} is a service iteration itself, the master branch will become an additional port target.
+	 * {@link TrainIteration} is a service iteration itself, the master branch will become an additional port target. The
+	 * change log commit is cherry-picked onto the target branches in memory, i.e. without checking them out. Target
+	 * branches having a worktree are picked onto in the worktree as the worktree's branch supersedes the one of the
+	 * project repository.
 	 *
 	 * @param iteration must not be {@literal null}.
 	 * @param targets must not be {@literal null}.
@@ -577,44 +865,81 @@ public class GitOperations {
 			BackportTargets backportTargets = new BackportTargets(module, targets);
 			Project project = module.getProject();
 
-			doWithGit(project, git -> {
+			// The changelog commit might have been created in a worktree
+			Optional<ObjectId> objectId = doWithGit(module, git -> {
+				return getChangelogUpdate(module, git.getRepository(), backportTargets.getSource());
+			});
 
-				checkout(project, backportTargets.getSource());
-				Optional<ObjectId> objectId = getChangelogUpdate(module);
+			if (!objectId.isPresent()) {
+				logger.log(project, "No changelog commit found, skipping backports!");
+				return;
+			}
 
-				objectId.ifPresent(it -> backportTargets.forEach(target -> cherryPickCommitToBranch(it, project, target)));
+			// Make the commit available to the project repository and the worktrees borrowing its objects
+			pinWorktree(project, backportTargets.getSource());
 
-				if (!objectId.isPresent()) {
-					logger.log(project, "No changelog commit found, skipping backports!");
-				}
+			for (Branch target : backportTargets) {
 
-			});
+				if (worktrees.exists(project, target)) {
+
+					doWithWorktree(project, target, git -> {
+						cherryPickCommitToBranch(git, objectId.get(), project, target);
+					});
+
+					pinWorktree(project, target);
+
+				} else {
+
+					doWithGit(project, git -> {
+						cherryPickCommitToBranch(git, objectId.get(), project, target);
+					});
+				}
+			}
 		});
 	}
 
-	private void cherryPickCommitToBranch(ObjectId id, Project project, Branch branch) {
+	private void cherryPickCommitToBranch(Git git, ObjectId id, Project project, Branch branch) throws Exception {
 
-		doWithGit(project, git -> {
+		logger.log(project, "git cp %s onto %s", id.getName(), branch);
 
-			try {
-				checkout(project, branch);
-			} catch (RuntimeException o_O) {
+		boolean checkedOut = branch.toString().equals(git.getRepository().getBranch());
 
-				logger.warn(project, "Couldn't check out branch %s. Skipping cherrypick of commit %s.", branch, id.getName());
-				return;
-			}
+		// Moving the checked out branch requires a hard reset of the working tree that would discard local changes
+		if (checkedOut && !git.status().call().isClean()) {
+			logger.warn(project, "Branch %s is checked out with uncommitted changes. Skipping cherrypick of commit %s.",
+					branch, id.getName());
+			return;
+		}
+
+		InCoreCherryPick cherryPick = new InCoreCherryPick(git.getRepository());
 
-			logger.log(project, "git cp %s", id.getName());
-			CherryPickResult result = git.cherryPick().include(id).call();
+		switch (cherryPick.apply(id, branch)) {
 
-			if (result.getStatus().equals(CherryPickStatus.OK)) {
+			case PICKED:
 				logger.log(project, "Successfully cherry-picked commit %s to branch %s.", id.getName(), branch);
-			} else {
-				logger.warn(project, "Cherry pick failed. aborting…");
-				logger.log(project, "git reset --hard");
-				git.reset().setMode(ResetType.HARD).call();
-			}
-		});
+				break;
+
+			case EMPTY:
+				logger.log(project, "Commit %s already applied to branch %s, skipping.", id.getName(), branch);
+				return;
+
+			case CONFLICTING:
+				logger.warn(project, "Cherry pick of commit %s to branch %s failed, leaving branch untouched.", id.getName(),
+						branch);
+				return;
+
+			case NO_BRANCH:
+			default:
+				logger.warn(project, "Couldn't find branch %s. Skipping cherrypick of commit %s.", branch, id.getName());
+				return;
+		}
+
+		if (checkedOut) {
+
+			// The ref of the checked out branch moved, so bring the working tree up to date
+			logger.log(project, "git reset --hard");
+			git.reset().setMode(ResetType.HARD).call();
+		}
 	}
 
 	/**
@@ -640,8 +965,7 @@ public class GitOperations {
 	/**
 	 * Returns the {@link ObjectId} of the commit that is considered the release commit. It is identified by the summary
 	 * starting with the release ticket identifier, followed by a dash separated by spaces and the key word
-	 * {@code Release}. To prevent skimming through the entire Git history, we expect such a commit to be found within the
-	 * 50 most recent commits.
+	 * {@code Release}. Commits are looked up through the {@link CommitIndex} of the currently checked out branch.
 	 *
 	 * @param module
 	 * @return
@@ -651,8 +975,26 @@ public class GitOperations {
 		return findRequiredCommit(module, "Release");
 	}
 
-	private Optional<ObjectId> getChangelogUpdate(ModuleIteration module) {
-		return findCommit(module, "Updated changelog");
+	/**
+	 * Returns the {@link ObjectId} of the changelog commit on the given {@link Branch}, preferring the local branch over
+	 * the remote one.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param repository must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private Optional<ObjectId> getChangelogUpdate(ModuleIteration module, Repository repository, Branch branch)
+			throws IOException {
+
+		String local = Constants.R_HEADS.concat(branch.toString());
+		String ref = repository.exactRef(local) != null ? local
+				: Constants.R_REMOTES.concat("origin/").concat(branch.toString());
+
+		String trigger = calculateTrigger(module, "Updated changelog");
+
+		return commitIndex.findCommit(module.getProject(), repository, ref, trigger);
 	}
 
 	private ObjectId findRequiredCommit(ModuleIteration module, String summary) {
@@ -664,21 +1006,11 @@ public class GitOperations {
 	}
 
 	private Optional<ObjectId> findCommit(ModuleIteration module, String summary) {
-		return findCommitWithTrigger(module.getProject(), calculateTrigger(module, summary));
-	}
-
-	private Optional<ObjectId> findCommitWithTrigger(Project project, String trigger) {
 
-		return doWithGit(project, git -> {
-
-			for (RevCommit commit : git.log().setMaxCount(50).call()) {
-
-				if (commit.getShortMessage().startsWith(trigger)) {
-					return Optional.of(commit.getId());
-				}
-			}
+		String trigger = calculateTrigger(module, summary);
 
-			return Optional.empty();
+		return doWithGit(module, git -> {
+			return commitIndex.findCommit(module.getProject(), git.getRepository(), trigger);
 		});
 	}
 
@@ -702,42 +1034,46 @@ public class GitOperations {
 	 */
 	private Optional<Tag> findTagFor(Project project, ArtifactVersion version) {
 
-		return getTags(project).stream()//
-				.filter(tag -> tag.toArtifactVersion().map(it -> it.equals(version)).orElse(false))//
-				.findFirst();
-	}
-
-	private Repository getRepository(Project project) throws IOException {
-		return FileRepositoryBuilder.create(workspace.getFile(".git", project));
+		return getTags(project).findTag(version);
 	}
 
 	private void clone(Project project) throws Exception {
 
 		GitProject gitProject = getGitProject(project);
 
+		if (objectStore.isEnabled()) {
+
+			String repositoryName = gitProject.getRepositoryName();
+
+			logger.log(project, "No repository found! Creating reference clone of %s from shared object store…",
+					gitProject.getProjectUri());
+
+			objectStore.update(repositoryName, gitProject.getProjectUri());
+			objectStore.clone(repositoryName, gitProject.getProjectUri(), workspace.getProjectDirectory(project),
+					Branch.MASTER);
+
+			logger.log(project, "Cloning done!", project);
+
+			return;
+		}
+
 		logger.log(project, "No repository found! Cloning from %s…", gitProject.getProjectUri());
 
-		Git git = Git.cloneRepository()//
+		try (Git git = Git.cloneRepository()//
 				.setURI(gitProject.getProjectUri())//
 				.setDirectory(workspace.getProjectDirectory(project))//
-				.call();
+				.call()) {
 
-		git.checkout()//
-				.setName(Branch.MASTER.toString())//
-				.call();
+			git.checkout()//
+					.setName(Branch.MASTER.toString())//
+					.call();
+		}
 
 		logger.log(project, "Cloning done!", project);
 	}
 
 	private boolean branchExists(Project project, Branch branch) {
-
-		try (Git git = new Git(getRepository(project))) {
-
-			return git.getRepository().findRef(branch.toString()) != null;
-
-		} catch (Exception o_O) {
-			throw new RuntimeException(o_O);
-		}
+		return doWithGit(project, git -> git.getRepository().findRef(branch.toString()) != null);
 	}
 
 	private void reset(Project project, Branch branch) throws Exception {
@@ -753,19 +1089,92 @@ public class GitOperations {
 		});
 	}
 
+	private void reset(ModuleIteration module) throws Exception {
+
+		Branch branch = Branch.from(module);
+
+		logger.log(module, "git reset --hard origin/%s", branch);
+
+		doWithGit(module, git -> {
+
+			git.reset()//
+					.setMode(ResetType.HARD)//
+					.setRef("origin/".concat(branch.toString()))//
+					.call();
+		});
+
+		pinWorktree(module.getProject(), branch);
+	}
+
+	/**
+	 * Updates the remote-tracking branches and tags of the worktree of the given {@link ModuleIteration} from the
+	 * project's repository. A no-op if no worktree exists for the module.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	private void synchronizeWorktree(ModuleIteration module) {
+
+		Project project = module.getProject();
+		Branch branch = Branch.from(module);
+
+		if (!worktrees.exists(project, branch)) {
+			return;
+		}
+
+		doWithGit(project, git -> {
+			doWithWorktree(project, branch, worktree -> {
+				worktrees.synchronize(git.getRepository(), worktree.getRepository());
+			});
+		});
+	}
+
+	/**
+	 * Pins the worktree of the given {@link Branch} in the {@link Project}'s repository so that commits created in the
+	 * worktree become available to the latter. A no-op if no worktree exists for the branch.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @see GitWorktrees#pin(Repository, Repository, Branch)
+	 */
+	private void pinWorktree(Project project, Branch branch) {
+
+		if (!worktrees.exists(project, branch)) {
+			return;
+		}
+
+		doWithGit(project, git -> {
+			doWithWorktree(project, branch, worktree -> {
+				worktrees.pin(git.getRepository(), worktree.getRepository(), branch);
+			});
+		});
+	}
+
 	private static String expandSummary(String summary, ModuleIteration module, TrainIteration iteration) {
 		return summary.contains("%s") ? String.format(summary, module.getMediumVersionString()) : summary;
 	}
 
 	private <T> T doWithGit(Project project, GitCallback<T> callback) {
+		return repositories.doWithGit(project, callback::doWithGit);
+	}
 
-		try (Git git = new Git(getRepository(project))) {
-			T result = callback.doWithGit(git);
-			Thread.sleep(100);
-			return result;
-		} catch (Exception o_O) {
-			throw new RuntimeException(o_O);
-		}
+	private <T> T doWithGit(ModuleIteration module, GitCallback<T> callback) {
+		return repositories.doWithGit(module, callback::doWithGit);
+	}
+
+	private void doWithGit(ModuleIteration module, VoidGitCallback callback) {
+
+		doWithGit(module, (GitCallback<Void>) git -> {
+			callback.doWithGit(git);
+			return null;
+		});
+	}
+
+	private void doWithWorktree(Project project, Branch branch, VoidGitCallback callback) {
+
+		repositories.doWithWorktree(project, branch, git -> {
+			callback.doWithGit(git);
+			return null;
+		});
 	}
 
 	private void doWithGit(Project project, VoidGitCallback callback) {
@@ -19,6 +19,9 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 
+import java.io.File;
+import java.time.Duration;
+
 import javax.annotation.PostConstruct;
 
 import org.eclipse.jgit.transport.CredentialsProvider;
@@ -42,6 +45,12 @@ public class GitProperties {
 
 	private @Getter(AccessLevel.PRIVATE) Password password;
 	private String username, author, email;
+	private File objectStore;
+
+	/**
+	 * How long a successful fetch of a repository is reused before fetching again.
+	 */
+	private Duration fetchFreshness = Duration.ofMinutes(5);
 
 	@PostConstruct
 	public void init() {
@@ -52,6 +61,23 @@ public class GitProperties {
 		Assert.hasText(email, "No Git email (git.email) configured!");
 	}
 
+	/**
+	 * Configures the directory of the object store to be shared by all workspaces on the machine. In case the given
+	 * folder does not already exist it's created.
+	 *
+	 * @param objectStore must not be {@literal null} or empty.
+	 */
+	public void setObjectStore(String objectStore) {
+
+		Assert.hasText(objectStore, "Object store must not be null or empty!");
+
+		this.objectStore = new File(objectStore.replace("~", System.getProperty("user.home")));
+
+		if (!this.objectStore.exists()) {
+			this.objectStore.mkdirs();
+		}
+	}
+
 	/**
 	 * Returns the jGit {@link CredentialsProvider} to be used.
 	 * 
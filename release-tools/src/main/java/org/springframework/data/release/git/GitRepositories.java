@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PreDestroy;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.io.WorkspaceCleanupEvent;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Pool of long-lived JGit {@link Repository} handles, one per {@link Project} and worktree. Handles are opened on first access and
+ * kept open for the rest of the workspace session so that pack files and the index don't have to be reloaded for every
+ * Git operation. Access to a single repository is serialized through a per-project lock that is reentrant, so that Git
+ * operations can be nested on the same thread. All handles are closed on {@link Workspace#cleanup()}. Evicted handles
+ * are only closed once the operations in flight on them have completed, operations waiting for them reopen the
+ * repository.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class GitRepositories {
+
+	@NonNull Workspace workspace;
+	Map<File, RepositoryHandle> handles = new ConcurrentHashMap<>();
+
+	/**
+	 * Executes the given {@link GitCallback} with a {@link Git} instance for the given {@link Project} while holding the
+	 * lock for the project's repository.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 */
+	public <T> T doWithGit(Project project, GitCallback<T> callback) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return doWithGit(workspace.getFile(".git", project), callback);
+	}
+
+	/**
+	 * Executes the given {@link GitCallback} with a {@link Git} instance for the repository the given
+	 * {@link ModuleIteration} is worked on in, i.e. its worktree if available, while holding the lock for that
+	 * repository.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 * @see Workspace#getProjectDirectory(ModuleIteration)
+	 */
+	public <T> T doWithGit(ModuleIteration module, GitCallback<T> callback) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return doWithGit(workspace.getFile(".git", module), callback);
+	}
+
+	/**
+	 * Executes the given {@link GitCallback} with a {@link Git} instance for the worktree of the given {@link Branch} of
+	 * the given {@link Project} while holding the lock for the worktree's repository.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 * @see Workspace#getWorktreeDirectory(Project, Branch)
+	 */
+	public <T> T doWithWorktree(Project project, Branch branch, GitCallback<T> callback) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return doWithGit(new File(workspace.getWorktreeDirectory(project, branch), ".git"), callback);
+	}
+
+	private <T> T doWithGit(File gitDirectory, GitCallback<T> callback) {
+
+		// Not cloned yet, use a transient handle so that we don't keep a repository without any state around
+		if (!gitDirectory.exists()) {
+
+			try (Repository repository = FileRepositoryBuilder.create(gitDirectory); Git git = new Git(repository)) {
+				return callback.doWithGit(git);
+			} catch (Exception o_O) {
+				throw asRuntimeException(o_O);
+			}
+		}
+
+		for (;;) {
+
+			RepositoryHandle handle = handles.computeIfAbsent(gitDirectory, RepositoryHandle::open);
+
+			handle.lock.lock();
+
+			try {
+
+				// Evicted while we were waiting for the lock, retry with a newly opened handle
+				if (handle.evicted) {
+					continue;
+				}
+
+				return callback.doWithGit(new Git(handle.repository));
+
+			} catch (Exception o_O) {
+				throw asRuntimeException(o_O);
+			} finally {
+				handle.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Closes and removes the handle for the given {@link Project}, e.g. because the repository was re-created on disk.
+	 *
+	 * @param project must not be {@literal null}.
+	 */
+	public void evict(Project project) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		evict(workspace.getFile(".git", project));
+	}
+
+	/**
+	 * Closes and removes the handle for the worktree of the given {@link ModuleIteration}, e.g. because the worktree is
+	 * about to be removed.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	public void evict(ModuleIteration module) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+
+		evict(new File(workspace.getWorktreeDirectory(module), ".git"));
+	}
+
+	/**
+	 * Closes all currently open handles.
+	 */
+	@PreDestroy
+	public void evictAll() {
+		handles.keySet().forEach(this::evict);
+	}
+
+	private void evict(File gitDirectory) {
+
+		RepositoryHandle handle = handles.remove(gitDirectory);
+
+		if (handle != null) {
+			handle.close();
+		}
+	}
+
+	@EventListener
+	void onWorkspaceCleanup(WorkspaceCleanupEvent event) {
+		evictAll();
+	}
+
+	private static RuntimeException asRuntimeException(Exception o_O) {
+		return o_O instanceof RuntimeException ? (RuntimeException) o_O : new RuntimeException(o_O);
+	}
+
+	interface GitCallback<T> {
+		T doWithGit(Git git) throws Exception;
+	}
+
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	private static class RepositoryHandle {
+
+		private final Repository repository;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		// Guarded by the lock
+		private boolean evicted, closed;
+
+		static RepositoryHandle open(File gitDirectory) {
+
+			try {
+				return new RepositoryHandle(FileRepositoryBuilder.create(gitDirectory));
+			} catch (IOException o_O) {
+				throw new RuntimeException(o_O);
+			}
+		}
+
+		/**
+		 * Marks the handle as evicted once in-flight operations of other threads have completed so that operations still
+		 * waiting for it open a new one. The underlying {@link Repository} is closed right away unless the current thread
+		 * is using it, in which case it is closed once its outermost operation completes.
+		 */
+		void close() {
+
+			lock.lock();
+
+			try {
+				evicted = true;
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Releases the lock, closing the underlying {@link Repository} if the handle was evicted and no operation of the
+		 * current thread is using it anymore.
+		 */
+		void unlock() {
+
+			try {
+
+				if (evicted && !closed && lock.getHoldCount() == 1) {
+
+					closed = true;
+					repository.close();
+				}
+
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
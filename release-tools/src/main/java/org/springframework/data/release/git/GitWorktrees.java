@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.eclipse.jgit.api.CreateBranchCommand.SetupUpstreamMode;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.RefUpdate.Result;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.RemoteConfig;
+import org.eclipse.jgit.transport.TagOpt;
+import org.eclipse.jgit.transport.URIish;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Project;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Worktrees of the {@link Project} repositories, one per branch, located in
+ * {@link Workspace#getWorktreeDirectory(Project, Branch)}. A worktree is a repository of its own, i.e. it has its own
+ * {@code HEAD}, index and refs, that borrows the objects of the project's repository through
+ * {@code objects/info/alternates}. Creating a worktree thus doesn't copy any history.
+ * <p>
+ * Objects created in a worktree are stored in the worktree itself. To make them available to the project's repository,
+ * e.g. to tag them, and to keep the project's repository from pruning objects the worktree relies on, the worktree's
+ * branch is {@link #pin(Repository, Repository, Branch) pinned} in the project's repository as
+ * {@code refs/worktrees/<branch>}.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class GitWorktrees {
+
+	private static final String ORIGIN = "origin";
+	private static final String REMOTE_BRANCHES = Constants.R_REMOTES + ORIGIN + "/";
+	private static final String PINNED = Constants.R_REFS + "worktrees/";
+
+	@NonNull Workspace workspace;
+
+	/**
+	 * Returns whether a worktree exists for the given {@link Branch} of the given {@link Project}.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @return
+	 */
+	public boolean exists(Project project, Branch branch) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		return new File(workspace.getWorktreeDirectory(project, branch), ".git").exists();
+	}
+
+	/**
+	 * Creates a worktree for the given {@link Branch} of the given {@link Project} from the given project
+	 * {@link Repository} and checks out the branch in it. The branch is started from the project repository's local
+	 * branch if available or from its remote-tracking branch otherwise and pinned in the project repository right away.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param source the repository of the project, must not be {@literal null}.
+	 * @param uri the URI of the {@code origin} remote, must not be {@literal null} or empty.
+	 * @param branch must not be {@literal null}.
+	 */
+	public void create(Project project, Repository source, String uri, Branch branch) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(source, "Source repository must not be null!");
+		Assert.hasText(uri, "URI must not be null or empty!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		File directory = workspace.getWorktreeDirectory(project, branch);
+
+		try {
+
+			Git.init().setDirectory(directory).call().close();
+
+			File alternates = new File(directory, ".git/objects/info/alternates");
+			alternates.getParentFile().mkdirs();
+
+			Files.write(alternates.toPath(),
+					Collections.singletonList(new File(source.getDirectory(), "objects").getAbsolutePath()),
+					StandardCharsets.UTF_8);
+
+			// Reopen the repository so that the alternates are picked up
+			try (Git git = Git.open(directory)) {
+
+				StoredConfig config = git.getRepository().getConfig();
+
+				RemoteConfig remote = new RemoteConfig(config, ORIGIN);
+				remote.addURI(new URIish(uri));
+				remote.addFetchRefSpec(new RefSpec("+refs/heads/*:" + REMOTE_BRANCHES + "*"));
+				remote.update(config);
+
+				config.save();
+
+				synchronize(source, git.getRepository());
+
+				Ref localBranch = source.exactRef(Constants.R_HEADS.concat(branch.toString()));
+				String startPoint = localBranch != null ? localBranch.getObjectId().name() : ORIGIN + "/" + branch;
+
+				git.checkout()//
+						.setCreateBranch(true)//
+						.setName(branch.toString())//
+						.setStartPoint(startPoint)//
+						.setUpstreamMode(SetupUpstreamMode.TRACK)//
+						.call();
+
+				pin(source, git.getRepository(), branch);
+			}
+
+		} catch (Exception o_O) {
+
+			FileSystemUtils.deleteRecursively(directory);
+
+			throw new IllegalStateException(
+					String.format("Could not create worktree for %s in %s!", project.getName(), directory), o_O);
+		}
+	}
+
+	/**
+	 * Updates the remote-tracking branches and tags of the given worktree {@link Repository} to the state of the given
+	 * project {@link Repository}, removing the ones deleted there.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param worktree must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public void synchronize(Repository source, Repository worktree) throws IOException {
+
+		Assert.notNull(source, "Source repository must not be null!");
+		Assert.notNull(worktree, "Worktree repository must not be null!");
+
+		// Worktrees get all their remote-tracking branches and tags from the project repository
+		GitObjectStore.copyRefs(source.getRefDatabase().getRefs(REMOTE_BRANCHES), REMOTE_BRANCHES, worktree, true);
+		GitObjectStore.copyRefs(source.getRefDatabase().getRefs(Constants.R_TAGS), Constants.R_TAGS, worktree, true);
+	}
+
+	/**
+	 * Pins the given {@link Branch} of the given worktree {@link Repository} in the given project {@link Repository},
+	 * i.e. transfers the objects created in the worktree into the project's repository and points
+	 * {@code refs/worktrees/<branch>} to the branch's head. A no-op if the pin is up to date already.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param worktree must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @throws Exception
+	 */
+	public void pin(Repository source, Repository worktree, Branch branch) throws Exception {
+
+		Assert.notNull(source, "Source repository must not be null!");
+		Assert.notNull(worktree, "Worktree repository must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		Ref head = worktree.exactRef(Constants.R_HEADS.concat(branch.toString()));
+
+		if (head == null) {
+			return;
+		}
+
+		Ref pinned = source.exactRef(PINNED.concat(branch.toString()));
+
+		if (pinned != null && head.getObjectId().equals(pinned.getObjectId())) {
+			return;
+		}
+
+		// Only the objects not known to the project repository are transferred
+		try (Git git = new Git(source)) {
+
+			git.fetch()//
+					.setRemote(worktree.getDirectory().getAbsolutePath())//
+					.setRefSpecs(new RefSpec("+" + head.getName() + ":" + PINNED + branch))//
+					.setTagOpt(TagOpt.NO_TAGS)//
+					.call();
+		}
+	}
+
+	/**
+	 * Removes the worktree of the given {@link Branch} of the given {@link Project} and unpins the branch in the given
+	 * project {@link Repository}. The repository handle for the worktree has to be released upfront.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public void remove(Project project, Repository source, Branch branch) throws IOException {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(source, "Source repository must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		FileSystemUtils.deleteRecursively(workspace.getWorktreeDirectory(project, branch));
+
+		Ref pinned = source.exactRef(PINNED.concat(branch.toString()));
+
+		if (pinned == null) {
+			return;
+		}
+
+		RefUpdate update = source.updateRef(pinned.getName());
+		update.setForceUpdate(true);
+
+		Result result = update.delete();
+
+		if (result == Result.LOCK_FAILURE || result == Result.IO_FAILURE || result == Result.REJECTED) {
+			throw new IOException(String.format("Could not delete %s: %s", pinned.getName(), result));
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import java.io.IOException;
+
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.merge.MergeStrategy;
+import org.eclipse.jgit.merge.ThreeWayMerger;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.springframework.util.Assert;
+
+/**
+ * Cherry-picks commits onto branches without checking them out. The change is merged with JGit's in-core merger and
+ * the resulting commit is created directly on the branch ref so that neither the index nor the working tree are
+ * touched. A local branch not available yet is created tracking its remote counterpart, a local branch behind its
+ * remote counterpart is fast-forwarded first.
+ */
+class InCoreCherryPick {
+
+	private static final String REMOTE = "origin";
+
+	private final Repository repository;
+
+	/**
+	 * Creates a new {@link InCoreCherryPick} for the given {@link Repository}.
+	 *
+	 * @param repository must not be {@literal null}.
+	 */
+	InCoreCherryPick(Repository repository) {
+
+		Assert.notNull(repository, "Repository must not be null!");
+
+		this.repository = repository;
+	}
+
+	/**
+	 * Applies the commit with the given {@link ObjectId} onto the given {@link Branch}.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @return the outcome of the cherry-pick.
+	 * @throws IOException
+	 */
+	Result apply(ObjectId id, Branch branch) throws IOException {
+
+		Assert.notNull(id, "Commit id must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		String localName = Constants.R_HEADS.concat(branch.toString());
+
+		Ref local = repository.exactRef(localName);
+		Ref remote = repository.exactRef(Constants.R_REMOTES + REMOTE + "/" + branch);
+
+		if (local == null && remote == null) {
+			return Result.NO_BRANCH;
+		}
+
+		try (RevWalk walk = new RevWalk(repository); ObjectInserter inserter = repository.newObjectInserter()) {
+
+			RevCommit commit = walk.parseCommit(id);
+
+			if (commit.getParentCount() != 1) {
+				throw new IllegalArgumentException(String.format("Cannot cherry-pick commit %s with %s parents!", id.name(),
+						commit.getParentCount()));
+			}
+
+			RevCommit parent = walk.parseCommit(commit.getParent(0));
+			RevCommit head = getHead(walk, local, remote);
+
+			ThreeWayMerger merger = (ThreeWayMerger) MergeStrategy.RECURSIVE.newMerger(repository, true);
+			merger.setBase(parent.getTree());
+
+			if (!merger.merge(head, commit)) {
+				return Result.CONFLICTING;
+			}
+
+			ObjectId tree = merger.getResultTreeId();
+
+			if (tree.equals(head.getTree())) {
+				return Result.EMPTY;
+			}
+
+			CommitBuilder builder = new CommitBuilder();
+			builder.setTreeId(tree);
+			builder.setParentId(head);
+			builder.setAuthor(commit.getAuthorIdent());
+			builder.setCommitter(new PersonIdent(repository));
+			builder.setMessage(commit.getFullMessage());
+
+			ObjectId picked = inserter.insert(builder);
+			inserter.flush();
+
+			RefUpdate update = repository.updateRef(localName);
+			update.setNewObjectId(picked);
+			update.setExpectedOldObjectId(local == null ? ObjectId.zeroId() : local.getObjectId());
+			update.setRefLogMessage("cherry-pick: ".concat(commit.getShortMessage()), false);
+
+			RefUpdate.Result result = update.update(walk);
+
+			if (result != RefUpdate.Result.NEW && result != RefUpdate.Result.FAST_FORWARD) {
+				throw new IllegalStateException(
+						String.format("Could not update %s to %s: %s!", localName, picked.name(), result));
+			}
+
+			if (local == null) {
+				setUpTracking(branch);
+			}
+
+			return Result.PICKED;
+		}
+	}
+
+	/**
+	 * Returns the commit to apply the cherry-pick to. That's the tip of the local branch unless the remote one is ahead
+	 * of it.
+	 */
+	private static RevCommit getHead(RevWalk walk, Ref local, Ref remote) throws IOException {
+
+		if (remote == null) {
+			return walk.parseCommit(local.getObjectId());
+		}
+
+		RevCommit remoteHead = walk.parseCommit(remote.getObjectId());
+
+		if (local == null) {
+			return remoteHead;
+		}
+
+		RevCommit localHead = walk.parseCommit(local.getObjectId());
+
+		return walk.isMergedInto(localHead, remoteHead) ? remoteHead : localHead;
+	}
+
+	private void setUpTracking(Branch branch) throws IOException {
+
+		StoredConfig config = repository.getConfig();
+
+		config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch.toString(), ConfigConstants.CONFIG_KEY_REMOTE,
+				REMOTE);
+		config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch.toString(), ConfigConstants.CONFIG_KEY_MERGE,
+				Constants.R_HEADS.concat(branch.toString()));
+		config.save();
+	}
+
+	/**
+	 * The outcome of a cherry-pick.
+	 */
+	enum Result {
+
+		/**
+		 * The commit was applied to the branch.
+		 */
+		PICKED,
+
+		/**
+		 * The change is already contained in the branch, no commit was created.
+		 */
+		EMPTY,
+
+		/**
+		 * The change conflicts with the branch, the branch was left untouched.
+		 */
+		CONFLICTING,
+
+		/**
+		 * Neither a local nor a remote branch exists.
+		 */
+		NO_BRANCH;
+	}
+}
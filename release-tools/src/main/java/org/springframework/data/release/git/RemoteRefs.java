@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import lombok.Value;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.utils.ExecutionUtils;
+import org.springframework.data.util.Streamable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Snapshots of the branches and tags of the remote repositories of {@link Project}s. A snapshot is captured with a
+ * single ref advertisement per remote, is kept for the freshness window configured through
+ * {@link GitProperties#getFetchFreshness()} and has to be evicted once the remote repository was changed.
+ */
+@Component
+class RemoteRefs {
+
+	private final GitServer server;
+	private final GitProperties properties;
+	private final Clock clock;
+	private final Map<Project, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link RemoteRefs} for the given {@link GitServer} and {@link GitProperties}.
+	 *
+	 * @param server must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	@Autowired
+	public RemoteRefs(GitServer server, GitProperties properties) {
+		this(server, properties, Clock.systemUTC());
+	}
+
+	RemoteRefs(GitServer server, GitProperties properties, Clock clock) {
+
+		Assert.notNull(server, "GitServer must not be null!");
+		Assert.notNull(properties, "GitProperties must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.server = server;
+		this.properties = properties;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the {@link Snapshot} of the remote repository of the given {@link Project}, capturing a new one if none is
+	 * available or the current one is outdated.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @return
+	 */
+	public Snapshot get(Project project) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		Instant now = clock.instant();
+		Snapshot snapshot = snapshots.get(project);
+
+		if (snapshot != null && snapshot.isFresh(now, properties)) {
+			return snapshot;
+		}
+
+		// Capture outside of the map to not block snapshots of other projects
+		Snapshot captured = capture(project, now);
+		snapshots.put(project, captured);
+
+		return captured;
+	}
+
+	/**
+	 * Returns the {@link Snapshot}s of the remote repositories of all given {@link Project}s. Outdated snapshots are
+	 * captured concurrently.
+	 *
+	 * @param projects must not be {@literal null}.
+	 * @return
+	 */
+	public Map<Project, Snapshot> get(Streamable<Project> projects) {
+
+		Assert.notNull(projects, "Projects must not be null!");
+
+		return ExecutionUtils.runAndReturn(projects, this::get,
+				Collectors.toMap(Snapshot::getProject, Function.identity()));
+	}
+
+	/**
+	 * Drops the {@link Snapshot} of the remote repository of the given {@link Project}.
+	 *
+	 * @param project must not be {@literal null}.
+	 */
+	public void evict(Project project) {
+
+		Assert.notNull(project, "Project must not be null!");
+
+		snapshots.remove(project);
+	}
+
+	private Snapshot capture(Project project, Instant now) {
+
+		String uri = new GitProject(project, server).getProjectUri();
+
+		try {
+
+			Collection<Ref> refs = Git.lsRemoteRepository() //
+					.setRemote(uri) //
+					.setHeads(true) //
+					.setTags(true) //
+					.call();
+
+			return new Snapshot(project, now, getObjectIds(refs, Constants.R_HEADS), getObjectIds(refs, Constants.R_TAGS));
+
+		} catch (GitAPIException o_O) {
+			throw new IllegalStateException(String.format("Could not list remote refs of %s!", uri), o_O);
+		}
+	}
+
+	private static Map<String, ObjectId> getObjectIds(Collection<Ref> refs, String prefix) {
+
+		return refs.stream() //
+				.filter(it -> it.getName().startsWith(prefix)) //
+				.filter(it -> it.getObjectId() != null) //
+				.collect(Collectors.toMap(it -> it.getName().substring(prefix.length()), Ref::getObjectId));
+	}
+
+	/**
+	 * The branches and tags of the remote repository of a {@link Project} as of a point in time.
+	 */
+	@Value
+	static class Snapshot {
+
+		Project project;
+		Instant timestamp;
+		Map<String, ObjectId> branches, tags;
+
+		/**
+		 * Returns all remote {@link Branch}es.
+		 *
+		 * @return
+		 */
+		public Stream<Branch> getBranches() {
+			return branches.keySet().stream().map(Branch::from);
+		}
+
+		/**
+		 * Returns whether the given {@link Branch} exists in the remote repository.
+		 *
+		 * @param branch must not be {@literal null}.
+		 * @return
+		 */
+		public boolean hasBranch(Branch branch) {
+
+			Assert.notNull(branch, "Branch must not be null!");
+
+			return branches.containsKey(branch.toString());
+		}
+
+		/**
+		 * Returns the commit the given {@link Branch} points to in the remote repository.
+		 *
+		 * @param branch must not be {@literal null}.
+		 * @return
+		 */
+		public Optional<ObjectId> getHead(Branch branch) {
+
+			Assert.notNull(branch, "Branch must not be null!");
+
+			return Optional.ofNullable(branches.get(branch.toString()));
+		}
+
+		/**
+		 * Returns whether the remote repository contains all of the given tags.
+		 *
+		 * @param tags must not be {@literal null}.
+		 * @return
+		 */
+		public boolean hasTags(Collection<String> tags) {
+
+			Assert.notNull(tags, "Tags must not be null!");
+
+			return this.tags.keySet().containsAll(tags);
+		}
+
+		boolean isFresh(Instant now, GitProperties properties) {
+			return timestamp.plus(properties.getFetchFreshness()).isAfter(now);
+		}
+	}
+}
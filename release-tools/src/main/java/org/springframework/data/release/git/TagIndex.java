@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Project;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Index of the {@link VersionTags} of each {@link Project}. The index is kept in memory and persisted in the workspace
+ * so that a new shell session starts warm. An index entry is only rebuilt if the fingerprint of the tag refs of the
+ * repository, i.e. a hash of its {@code packed-refs} file and the loose refs in {@code refs/tags}, changes.
+ */
+@Slf4j
+@Component
+class TagIndex {
+
+	static final String DIRECTORY = ".tag-index";
+
+	private final Workspace workspace;
+	private final Map<Project, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link TagIndex} persisted in the given {@link Workspace}.
+	 *
+	 * @param workspace must not be {@literal null}.
+	 */
+	public TagIndex(Workspace workspace) {
+
+		Assert.notNull(workspace, "Workspace must not be null!");
+
+		this.workspace = workspace;
+	}
+
+	/**
+	 * Returns the {@link VersionTags} of the given {@link Project}, obtaining the tag names from the given
+	 * {@link Callable} in case the index entry for the project is missing or outdated.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param tagNames must not be {@literal null}.
+	 * @return
+	 */
+	public VersionTags getTags(Project project, Callable<List<String>> tagNames) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(tagNames, "Tag names must not be null!");
+
+		String fingerprint = getFingerprint(workspace.getFile(".git", project));
+		Entry entry = entries.get(project);
+
+		if (entry != null && entry.fingerprint.equals(fingerprint)) {
+			return entry.tags;
+		}
+
+		File file = getFile(project);
+		List<String> names = load(file, fingerprint);
+
+		if (names == null) {
+
+			try {
+				names = tagNames.call();
+			} catch (Exception o_O) {
+				throw o_O instanceof RuntimeException ? (RuntimeException) o_O : new IllegalStateException(o_O);
+			}
+
+			save(file, fingerprint, names);
+		}
+
+		VersionTags tags = new VersionTags(names.stream().map(Tag::of).collect(Collectors.toList()));
+		entries.put(project, new Entry(fingerprint, tags));
+
+		return tags;
+	}
+
+	private File getFile(Project project) {
+		return new File(new File(workspace.getWorkingDirectory(), DIRECTORY), project.getFolderName());
+	}
+
+	/**
+	 * Computes the fingerprint of the tags of the repository in the given Git directory.
+	 *
+	 * @param gitDirectory must not be {@literal null}.
+	 * @return
+	 */
+	static String getFingerprint(File gitDirectory) {
+
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+
+		try {
+
+			Path packedRefs = new File(gitDirectory, "packed-refs").toPath();
+
+			if (Files.exists(packedRefs)) {
+				digest.update(Files.readAllBytes(packedRefs));
+			}
+
+			Path tags = new File(gitDirectory, "refs/tags").toPath();
+
+			if (Files.exists(tags)) {
+
+				try (Stream<Path> files = Files.walk(tags)) {
+
+					for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+						digest.update(tags.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+						digest.update(Files.readAllBytes(file));
+					}
+				}
+			}
+
+		} catch (IOException o_O) {
+			throw new IllegalStateException(String.format("Could not read tags in %s!", gitDirectory), o_O);
+		}
+
+		StringBuilder builder = new StringBuilder();
+
+		for (byte b : digest.digest()) {
+			builder.append(String.format("%02x", b));
+		}
+
+		return builder.toString();
+	}
+
+	private static List<String> load(File file, String fingerprint) {
+
+		if (!file.exists()) {
+			return null;
+		}
+
+		try {
+
+			List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+
+			return !lines.isEmpty() && lines.get(0).equals(fingerprint) ? new ArrayList<>(lines.subList(1, lines.size()))
+					: null;
+
+		} catch (IOException o_O) {
+
+			log.warn("Could not read tag index {}: {}", file, o_O.getMessage());
+			return null;
+		}
+	}
+
+	private static void save(File file, String fingerprint, List<String> names) {
+
+		List<String> lines = new ArrayList<>(names.size() + 1);
+		lines.add(fingerprint);
+		lines.addAll(names);
+
+		try {
+
+			file.getParentFile().mkdirs();
+
+			File temp = new File(file.getParentFile(), file.getName().concat(".tmp"));
+
+			Files.write(temp.toPath(), lines, StandardCharsets.UTF_8);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		} catch (IOException o_O) {
+			log.warn("Could not store tag index {}: {}", file, o_O.getMessage());
+		}
+	}
+
+	private static class Entry {
+
+		private final String fingerprint;
+		private final VersionTags tags;
+
+		Entry(String fingerprint, VersionTags tags) {
+			this.fingerprint = fingerprint;
+			this.tags = tags;
+		}
+	}
+}
@@ -17,24 +17,35 @@ package org.springframework.data.release.git;
 
 import lombok.EqualsAndHashCode;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.springframework.data.release.model.ArtifactVersion;
 import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Version;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
 /**
- * Value object to represent a collection of {@link Tag}s.
+ * Value object to represent a collection of {@link Tag}s. The {@link ArtifactVersion}s of the tags are parsed once and
+ * indexed in a sorted structure so that lookups by version and queries for the latest version within a version range
+ * take logarithmic time.
  *
  * @author Oliver Gierke
  */
-@EqualsAndHashCode
+@EqualsAndHashCode(of = "tags")
 public class VersionTags implements Streamable<Tag> {
 
 	private final List<Tag> tags;
+	private final NavigableMap<ArtifactVersion, Tag> versions;
+	private final NavigableMap<ArtifactVersion, Tag> gaVersions;
 
 	/**
 	 * Creates a new {@link VersionTags} instance for the given {@link List} of {@link Tag}s.
@@ -45,9 +56,24 @@ public class VersionTags implements Streamable<Tag> {
 
 		Assert.notNull(source, "Tags must not be null!");
 
-		this.tags = source.stream().//
-				filter(Tag::isVersionTag).//
-				sorted().collect(Collectors.toList());
+		this.versions = new TreeMap<>();
+		this.gaVersions = new TreeMap<>();
+
+		List<Tag> tags = new ArrayList<>();
+
+		source.forEach(tag -> tag.toArtifactVersion().ifPresent(version -> {
+
+			tags.add(tag);
+			versions.putIfAbsent(version, tag);
+
+			if (isGA(version)) {
+				gaVersions.putIfAbsent(version, tag);
+			}
+		}));
+
+		this.tags = tags.stream()//
+				.sorted(Comparator.comparing(it -> it.toArtifactVersion().get()))//
+				.collect(Collectors.toList());
 	}
 
 	/**
@@ -56,7 +82,47 @@ public class VersionTags implements Streamable<Tag> {
 	 * @return
 	 */
 	public Tag getLatest() {
-		return tags.get(tags.size() - 1);
+		return versions.lastEntry().getValue();
+	}
+
+	/**
+	 * Returns the {@link Tag} for the given {@link ArtifactVersion}.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return
+	 */
+	public Optional<Tag> findTag(ArtifactVersion version) {
+
+		Assert.notNull(version, "Version must not be null!");
+
+		return Optional.ofNullable(versions.get(version));
+	}
+
+	/**
+	 * Returns the latest {@link Tag} within the major and minor version of the given {@link Version}, e.g. the latest
+	 * {@code 2.2.x} tag for {@code 2.2}.
+	 *
+	 * @param version must not be {@literal null}.
+	 * @return
+	 */
+	public Optional<Tag> findLatestWithin(Version version) {
+
+		Assert.notNull(version, "Version must not be null!");
+
+		ArtifactVersion lowerBound = ArtifactVersion.of(version.withBugfix(0)).getSnapshotVersion();
+		ArtifactVersion upperBound = ArtifactVersion.of(version.nextMinor()).getSnapshotVersion();
+
+		return Optional.ofNullable(versions.subMap(lowerBound, true, upperBound, false).lastEntry())//
+				.map(Map.Entry::getValue);
+	}
+
+	/**
+	 * Returns the latest {@link Tag} of a GA release, i.e. a release of a new major or minor version.
+	 *
+	 * @return
+	 */
+	public Optional<Tag> findLatestGA() {
+		return Optional.ofNullable(gaVersions.lastEntry()).map(Map.Entry::getValue);
 	}
 
 	public Tag createTag(ModuleIteration iteration) {
@@ -80,4 +146,8 @@ public class VersionTags implements Streamable<Tag> {
 	public Iterator<Tag> iterator() {
 		return tags.iterator();
 	}
+
+	private static boolean isGA(ArtifactVersion version) {
+		return version.isReleaseVersion() && !version.isBugFixVersion();
+	}
 }
@@ -40,8 +40,11 @@ import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.data.release.git.Branch;
+import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Project;
 import org.springframework.data.release.utils.Logger;
 import org.springframework.stereotype.Component;
@@ -58,10 +61,12 @@ import org.springframework.util.Assert;
 public class Workspace {
 
 	private static final Charset UTF_8 = StandardCharsets.UTF_8;
+	private static final String WORKTREES = ".worktrees";
 
 	@NonNull IoProperties ioProperties;
 	@NonNull ResourcePatternResolver resolver;
 	@NonNull Logger logger;
+	@NonNull ApplicationEventPublisher publisher;
 
 	/**
 	 * Returns the current working directory.
@@ -82,12 +87,15 @@ public class Workspace {
 	}
 
 	/**
-	 * Cleans up the working directory by removing all files and folders in it.
+	 * Cleans up the working directory by removing all files and folders in it. Publishes a
+	 * {@link WorkspaceCleanupEvent} upfront so that resources held on files in the workspace can be released.
 	 *
 	 * @throws IOException
 	 */
 	public void cleanup() throws IOException {
 
+		publisher.publishEvent(new WorkspaceCleanupEvent(this));
+
 		delete(getWorkingDirectory().toPath(), "workspace");
 		delete(getLogsDirectory().toPath(), "logs");
 	}
@@ -154,6 +162,56 @@ public class Workspace {
 		return new File(getWorkingDirectory(), project.getFolderName());
 	}
 
+	/**
+	 * Returns the directory of the worktree for the branch the given {@link ModuleIteration} is developed on.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 * @see #getWorktreeDirectory(Project, Branch)
+	 */
+	public File getWorktreeDirectory(ModuleIteration module) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+
+		return getWorktreeDirectory(module.getProject(), Branch.from(module));
+	}
+
+	/**
+	 * Returns the directory of the worktree for the given {@link Branch} of the given {@link Project}. Worktrees are
+	 * separate checkouts of the {@link Project}'s repository per branch so that several release trains of the same
+	 * project can be worked on concurrently. Trains developed on the same branch share its worktree.
+	 *
+	 * @param project must not be {@literal null}.
+	 * @param branch must not be {@literal null}.
+	 * @return
+	 */
+	public File getWorktreeDirectory(Project project, Branch branch) {
+
+		Assert.notNull(project, "Project must not be null!");
+		Assert.notNull(branch, "Branch must not be null!");
+
+		File projectDirectory = new File(new File(getWorkingDirectory(), WORKTREES), project.getFolderName());
+
+		return new File(projectDirectory, branch.toString());
+	}
+
+	/**
+	 * Returns the directory to work with the given {@link ModuleIteration} in. That's the worktree for the module's
+	 * branch if one was created or the {@link Project}'s directory otherwise.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 * @see #getWorktreeDirectory(ModuleIteration)
+	 */
+	public File getProjectDirectory(ModuleIteration module) {
+
+		Assert.notNull(module, "Module iteration must not be null!");
+
+		File worktree = getWorktreeDirectory(module);
+
+		return worktree.exists() ? worktree : getProjectDirectory(module.getProject());
+	}
+
 	/**
 	 * Returns whether the project directory for the given project already exists.
 	 *
@@ -181,6 +239,22 @@ public class Workspace {
 		return new File(getProjectDirectory(project), name);
 	}
 
+	/**
+	 * Returns a file with the given name relative to the directory to work with the given {@link ModuleIteration} in.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param module must not be {@literal null}.
+	 * @return
+	 * @see #getProjectDirectory(ModuleIteration)
+	 */
+	public File getFile(String name, ModuleIteration module) {
+
+		Assert.hasText(name, "Filename must not be null or empty!");
+		Assert.notNull(module, "Module iteration must not be null!");
+
+		return new File(getProjectDirectory(module), name);
+	}
+
 	public Stream<File> getFiles(String pattern, Project project) {
 
 		File projectDirectory = getProjectDirectory(project);
@@ -194,8 +268,23 @@ public class Workspace {
 	}
 
 	public boolean processFile(String filename, Project project, LineCallback callback) {
+		return processFile(getFile(filename, project), callback);
+	}
+
+	/**
+	 * Processes the file with the given name in the directory to work with the given {@link ModuleIteration} in.
+	 *
+	 * @param filename must not be {@literal null} or empty.
+	 * @param module must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return whether the file existed and was processed.
+	 * @see #getProjectDirectory(ModuleIteration)
+	 */
+	public boolean processFile(String filename, ModuleIteration module, LineCallback callback) {
+		return processFile(getFile(filename, module), callback);
+	}
 
-		File file = getFile(filename, project);
+	private boolean processFile(File file, LineCallback callback) {
 
 		if (!file.exists()) {
 			return false;
@@ -211,7 +300,7 @@ public class Workspace {
 				callback.doWith(scanner.nextLine(), number++).ifPresent(it -> builder.append(it).append("\n"));
 			}
 
-			writeContentToFile(filename, project, builder.toString());
+			Files.write(file.toPath(), Collections.singleton(builder.toString()), UTF_8);
 
 		} catch (Exception o_O) {
 			throw new RuntimeException(o_O);
@@ -220,12 +309,6 @@ public class Workspace {
 		return true;
 	}
 
-	private void writeContentToFile(String name, Project project, String content) throws IOException {
-
-		File file = getFile(name, project);
-		Files.write(file.toPath(), Collections.singleton(content), UTF_8);
-	}
-
 	/**
 	 * Initializes the working directory and creates the folders if necessary.
 	 *
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.io;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published by {@link Workspace} before its working directory is cleaned up. Components holding on to resources
+ * located inside the workspace are expected to release them when receiving this event.
+ */
+public class WorkspaceCleanupEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = 2584107283914713552L;
+
+	/**
+	 * Creates a new {@link WorkspaceCleanupEvent} for the given {@link Workspace}.
+	 *
+	 * @param workspace must not be {@literal null}.
+	 */
+	public WorkspaceCleanupEvent(Workspace workspace) {
+		super(workspace);
+	}
+
+	/**
+	 * Returns the {@link Workspace} about to be cleaned up.
+	 *
+	 * @return
+	 */
+	public Workspace getWorkspace() {
+		return (Workspace) getSource();
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.ArtifactVersion;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Tracker;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Persistent store of the issues a {@link Changelog} was last created from. Each {@link ModuleIteration} keeps a
+ * {@link Snapshot} of the raw tracker issues along with the time they were fetched so that subsequent changelog runs
+ * only need to look up the issues updated since then. The store lives in the workspace and is thus reset by a
+ * workspace cleanup.
+ */
+@Slf4j
+@Component
+public class ChangelogStore {
+
+	static final String DIRECTORY = ".changelogs";
+
+	private final Workspace workspace;
+	private final ObjectMapper mapper;
+
+	/**
+	 * Creates a new {@link ChangelogStore} persisted in the given {@link Workspace}.
+	 *
+	 * @param workspace must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 */
+	public ChangelogStore(Workspace workspace, ObjectMapper mapper) {
+
+		Assert.notNull(workspace, "Workspace must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+
+		this.workspace = workspace;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Returns the {@link Snapshot} stored for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param type the type of the issues, must not be {@literal null}.
+	 * @return
+	 */
+	public <T> Optional<Snapshot<T>> get(ModuleIteration module, Class<T> type) {
+
+		Assert.notNull(module, "ModuleIteration must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		File file = getFile(module);
+
+		if (!file.exists()) {
+			return Optional.empty();
+		}
+
+		JavaType snapshotType = mapper.getTypeFactory().constructParametricType(Snapshot.class, type);
+
+		try {
+			return Optional.of(mapper.readValue(file, snapshotType));
+		} catch (IOException o_O) {
+
+			log.warn("Could not read changelog snapshot {}: {}", file, o_O.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Stores the given {@link Snapshot} for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param snapshot must not be {@literal null}.
+	 */
+	public void save(ModuleIteration module, Snapshot<?> snapshot) {
+
+		Assert.notNull(module, "ModuleIteration must not be null!");
+		Assert.notNull(snapshot, "Snapshot must not be null!");
+
+		File file = getFile(module);
+
+		try {
+
+			file.getParentFile().mkdirs();
+
+			File temp = new File(file.getParentFile(), file.getName().concat(".tmp"));
+
+			mapper.writeValue(temp, snapshot);
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+		} catch (IOException o_O) {
+			log.warn("Could not store changelog snapshot {}: {}", file, o_O.getMessage());
+		}
+	}
+
+	/**
+	 * Removes the {@link Snapshot} stored for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	public void evict(ModuleIteration module) {
+
+		Assert.notNull(module, "ModuleIteration must not be null!");
+
+		try {
+			Files.deleteIfExists(getFile(module).toPath());
+		} catch (IOException o_O) {
+			log.warn("Could not remove changelog snapshot for {}: {}", module, o_O.getMessage());
+		}
+	}
+
+	/**
+	 * Removes all {@link Snapshot}s stored for modules using the given {@link Tracker}.
+	 *
+	 * @param tracker must not be {@literal null}.
+	 */
+	public void clear(Tracker tracker) {
+
+		Assert.notNull(tracker, "Tracker must not be null!");
+
+		FileSystemUtils.deleteRecursively(getDirectory(tracker));
+	}
+
+	private File getFile(ModuleIteration module) {
+
+		String name = String.format("%s-%s.json", module.getProject().getFolderName(), ArtifactVersion.of(module));
+
+		return new File(getDirectory(module.getProject().getTracker()), name);
+	}
+
+	private File getDirectory(Tracker tracker) {
+		return new File(new File(workspace.getWorkingDirectory(), DIRECTORY), tracker.name().toLowerCase(Locale.US));
+	}
+
+	/**
+	 * The issues of a {@link ModuleIteration} as of a point in time. Issues are ordered by the numeric part of their
+	 * identifier so that a snapshot created from a full fetch is identical to one merged from updates.
+	 */
+	@Value
+	public static class Snapshot<T> {
+
+		private static final Pattern NUMBER = Pattern.compile("(\\d+)$");
+
+		long timestamp;
+		List<T> issues;
+
+		/**
+		 * Creates a new {@link Snapshot} of the given issues fetched at the given point in time.
+		 *
+		 * @param timestamp must not be {@literal null}.
+		 * @param issues must not be {@literal null}.
+		 * @param identifier function to obtain the identifier of an issue, must not be {@literal null}.
+		 * @return
+		 */
+		public static <T> Snapshot<T> of(Instant timestamp, Collection<T> issues, Function<T, String> identifier) {
+
+			Assert.notNull(timestamp, "Timestamp must not be null!");
+			Assert.notNull(issues, "Issues must not be null!");
+			Assert.notNull(identifier, "Identifier function must not be null!");
+
+			List<T> sorted = new ArrayList<>(issues);
+			sorted.sort(Comparator.comparing(identifier, Snapshot::compareIdentifiers));
+
+			return new Snapshot<>(timestamp.toEpochMilli(), sorted);
+		}
+
+		/**
+		 * Returns a new {@link Snapshot} as of the given point in time with the given updated issues replacing the ones
+		 * with the same identifier or being added.
+		 *
+		 * @param timestamp must not be {@literal null}.
+		 * @param updates must not be {@literal null}.
+		 * @param identifier function to obtain the identifier of an issue, must not be {@literal null}.
+		 * @return
+		 */
+		public Snapshot<T> merge(Instant timestamp, Collection<T> updates, Function<T, String> identifier) {
+
+			Assert.notNull(updates, "Updates must not be null!");
+			Assert.notNull(identifier, "Identifier function must not be null!");
+
+			Map<String, T> merged = new LinkedHashMap<>();
+
+			issues.forEach(it -> merged.put(identifier.apply(it), it));
+			updates.forEach(it -> merged.put(identifier.apply(it), it));
+
+			return of(timestamp, merged.values(), identifier);
+		}
+
+		/**
+		 * Returns the time elapsed between the creation of the {@link Snapshot} and the given point in time.
+		 *
+		 * @param now must not be {@literal null}.
+		 * @return
+		 */
+		public Duration getAge(Instant now) {
+
+			Assert.notNull(now, "Instant must not be null!");
+
+			return Duration.between(Instant.ofEpochMilli(timestamp), now);
+		}
+
+		private static int compareIdentifiers(String left, String right) {
+
+			Matcher leftNumber = NUMBER.matcher(left);
+			Matcher rightNumber = NUMBER.matcher(right);
+
+			if (leftNumber.find() && rightNumber.find()) {
+
+				int result = Long.compare(Long.parseLong(leftNumber.group(1)), Long.parseLong(rightNumber.group(1)));
+
+				if (result != 0) {
+					return result;
+				}
+			}
+
+			return left.compareTo(right);
+		}
+	}
+}
@@ -0,0 +1,901 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+
+/**
+ * Persistent HTTP response cache for {@code GET} requests. Responses carrying an {@code ETag} or
+ * {@code Last-Modified} header are stored on disk and revalidated using {@code If-None-Match} and
+ * {@code If-Modified-Since} so that unchanged resources are answered with a {@code 304 Not Modified} that doesn't
+ * count against rate limits. Responses still fresh according to their {@code Cache-Control: max-age} are served
+ * without a request unless a modifying request was issued in the meantime. Requests marked via
+ * {@link SafeRequests} are passed through without invalidating the cache. Responses are copied into the cache while
+ * their body is read so that they are not buffered in memory on a miss. The cache is bounded by size, evicting the
+ * least recently used responses first.
+ * <p>
+ * Used as {@link ClientHttpRequestInterceptor} for {@link org.springframework.web.client.RestTemplate}s and, through
+ * {@link #toExchangeFilter(ExchangeStrategies)}, for {@link org.springframework.web.reactive.function.client.WebClient}s
+ * so that blocking and non-blocking tracker clients share the same responses.
+ */
+@Slf4j
+class HttpResponseCache implements ClientHttpRequestInterceptor {
+
+	private static final String SUFFIX = ".response";
+	private static final String TEMP_SUFFIX = ".tmp";
+	private static final DataBufferFactory BUFFERS = new DefaultDataBufferFactory();
+
+	private final File directory;
+	private final long maxSize;
+	private final Map<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, Long> freshUntil = new LinkedHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong revalidations = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	private long size;
+
+	/**
+	 * Creates a new {@link HttpResponseCache} storing responses in the given directory.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @param maxSize must not be {@literal null}.
+	 */
+	HttpResponseCache(File directory, DataSize maxSize) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+		Assert.notNull(maxSize, "Maximum size must not be null!");
+
+		this.directory = directory;
+		this.maxSize = maxSize.toBytes();
+
+		// Leftovers of responses that were still being read when the cache was used the last time
+		File[] leftovers = directory.listFiles((dir, name) -> name.endsWith(TEMP_SUFFIX));
+
+		if (leftovers != null) {
+			Arrays.stream(leftovers).forEach(File::delete);
+		}
+
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+
+		if (files != null) {
+
+			Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+
+			for (File file : files) {
+				sizes.put(file.getName().substring(0, file.getName().length() - SUFFIX.length()), file.length());
+				size += file.length();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.client.ClientHttpRequestInterceptor#intercept(org.springframework.http.HttpRequest, byte[], org.springframework.http.client.ClientHttpRequestExecution)
+	 */
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		if (!HttpMethod.GET.equals(request.getMethod())) {
+
+			if (!SafeRequests.isSafe(request.getMethod(), request.getHeaders())) {
+				invalidate();
+			}
+
+			return execution.execute(request, body);
+		}
+
+		String key = getKey(request.getURI(), request.getHeaders());
+		Optional<CachedResponse> cached = read(key);
+
+		if (cached.isPresent() && isFresh(key)) {
+
+			hits.incrementAndGet();
+			return cached.get().toResponse(cached.get().headers);
+		}
+
+		cached.ifPresent(it -> it.addConditions(request.getHeaders()));
+
+		ClientHttpResponse response = execution.execute(request, body);
+
+		if (cached.isPresent() && response.getRawStatusCode() == HttpStatus.NOT_MODIFIED.value()) {
+
+			revalidations.incrementAndGet();
+
+			CachedResponse revalidated = cached.get().revalidate(response.getHeaders());
+			response.close();
+
+			write(key, revalidated);
+
+			return revalidated.toResponse(revalidated.headers);
+		}
+
+		misses.incrementAndGet();
+
+		HttpHeaders headers = response.getHeaders();
+
+		if (!isCacheable(response.getRawStatusCode(), headers)) {
+			return response;
+		}
+
+		CacheWriter writer = new CacheWriter(key, response.getRawStatusCode(), headers);
+		InputStream content = new CachingInputStream(response.getBody(), writer);
+
+		return new ClientHttpResponse() {
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+
+			@Override
+			public InputStream getBody() {
+				return content;
+			}
+
+			@Override
+			public HttpStatus getStatusCode() throws IOException {
+				return response.getStatusCode();
+			}
+
+			@Override
+			public int getRawStatusCode() throws IOException {
+				return response.getRawStatusCode();
+			}
+
+			@Override
+			public String getStatusText() throws IOException {
+				return response.getStatusText();
+			}
+
+			@Override
+			public void close() {
+
+				try {
+					content.close();
+				} catch (IOException o_O) {
+					log.debug("Could not close response body: {}", o_O.getMessage());
+				}
+
+				response.close();
+			}
+		};
+	}
+
+	/**
+	 * Returns an {@link ExchangeFilterFunction} applying this cache to the requests of a
+	 * {@link org.springframework.web.reactive.function.client.WebClient}. Responses served from the cache are decoded
+	 * using the given {@link ExchangeStrategies}.
+	 *
+	 * @param strategies must not be {@literal null}.
+	 * @return
+	 */
+	public ExchangeFilterFunction toExchangeFilter(ExchangeStrategies strategies) {
+
+		Assert.notNull(strategies, "ExchangeStrategies must not be null!");
+
+		return (request, next) -> exchange(request, next, strategies);
+	}
+
+	/**
+	 * Returns a snapshot of the current {@link Statistics}.
+	 *
+	 * @return
+	 */
+	public Statistics getStatistics() {
+
+		synchronized (this) {
+			return new Statistics(hits.get(), revalidations.get(), misses.get(), sizes.size(), size);
+		}
+	}
+
+	private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, ExchangeStrategies strategies) {
+
+		if (!HttpMethod.GET.equals(request.method())) {
+
+			if (!SafeRequests.isSafe(request.method(), request.headers())) {
+				invalidate();
+			}
+
+			return next.exchange(request);
+		}
+
+		String key = getKey(request.url(), request.headers());
+
+		// Cached responses live on disk, keep reading them off the event loop
+		return Mono.fromCallable(() -> read(key)) //
+				.subscribeOn(Schedulers.elastic()) //
+				.flatMap(cached -> {
+
+					if (cached.isPresent() && isFresh(key)) {
+
+						hits.incrementAndGet();
+						return Mono.just(cached.get().toResponse(ClientResponse.create(HttpStatus.OK, strategies)));
+					}
+
+					ClientRequest conditional = ClientRequest.from(request) //
+							.headers(headers -> cached.ifPresent(it -> it.addConditions(headers))) //
+							.build();
+
+					return next.exchange(conditional).flatMap(response -> onResponse(key, cached, response));
+				});
+	}
+
+	private Mono<ClientResponse> onResponse(String key, Optional<CachedResponse> cached, ClientResponse response) {
+
+		if (cached.isPresent() && response.rawStatusCode() == HttpStatus.NOT_MODIFIED.value()) {
+
+			revalidations.incrementAndGet();
+
+			CachedResponse revalidated = cached.get().revalidate(response.headers().asHttpHeaders());
+
+			return response.releaseBody() //
+					.then(Mono.fromCallable(() -> {
+
+						write(key, revalidated);
+						return revalidated.toResponse(ClientResponse.from(response));
+
+					}).subscribeOn(Schedulers.elastic()));
+		}
+
+		misses.incrementAndGet();
+
+		if (!isCacheable(response.rawStatusCode(), response.headers().asHttpHeaders())) {
+			return Mono.just(response);
+		}
+
+		// Copy the body into the cache while it's passed on. Writes go to a buffered stream and thus rarely block.
+		Flux<DataBuffer> body = Flux.defer(() -> {
+
+			CacheWriter writer = new CacheWriter(key, response.rawStatusCode(), response.headers().asHttpHeaders());
+
+			return response.bodyToFlux(DataBuffer.class) //
+					.doOnNext(writer::write) //
+					.doOnComplete(writer::commit) //
+					.doOnError(it -> writer.discard()) //
+					.doOnCancel(writer::discard);
+		});
+
+		return Mono.just(ClientResponse.from(response).body(body).build());
+	}
+
+	/**
+	 * Drops all freshness information as whatever we consider fresh might have been changed by a modifying request.
+	 */
+	private synchronized void invalidate() {
+		freshUntil.clear();
+	}
+
+	private synchronized boolean isFresh(String key) {
+
+		Long until = freshUntil.get(key);
+
+		return until != null && until > System.currentTimeMillis();
+	}
+
+	private Optional<CachedResponse> read(String key) {
+
+		File file = getFile(key);
+
+		synchronized (this) {
+			if (sizes.get(key) == null) {
+				return Optional.empty();
+			}
+		}
+
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+
+			CachedResponse response = CachedResponse.read(stream);
+			file.setLastModified(System.currentTimeMillis());
+
+			return Optional.of(response);
+
+		} catch (IOException o_O) {
+
+			log.debug("Could not read cached response {}: {}", file, o_O.getMessage());
+			remove(key);
+
+			return Optional.empty();
+		}
+	}
+
+	private void write(String key, CachedResponse response) {
+
+		CacheWriter writer = new CacheWriter(key, response.status, response.headers);
+
+		writer.write(response.body, 0, response.body.length);
+		writer.commit();
+	}
+
+	/**
+	 * Moves the given temporary file into the cache as the response for the given key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param temp must not be {@literal null}.
+	 * @param headers the headers of the response, must not be {@literal null}.
+	 */
+	private void commit(String key, File temp, HttpHeaders headers) {
+
+		File file = getFile(key);
+
+		try {
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException o_O) {
+
+			log.warn("Could not cache response in {}: {}", file, o_O.getMessage());
+			temp.delete();
+
+			return;
+		}
+
+		long maxAge = getMaxAge(headers);
+
+		synchronized (this) {
+
+			Long previous = sizes.put(key, file.length());
+			size += file.length() - (previous == null ? 0 : previous);
+
+			if (maxAge > 0) {
+				freshUntil.put(key, System.currentTimeMillis() + maxAge * 1000);
+			} else {
+				freshUntil.remove(key);
+			}
+
+			evict();
+		}
+	}
+
+	private synchronized void remove(String key) {
+
+		Long previous = sizes.remove(key);
+		freshUntil.remove(key);
+
+		if (previous != null) {
+			size -= previous;
+		}
+
+		getFile(key).delete();
+	}
+
+	/**
+	 * Evicts the least recently used responses until the cache fits into the maximum size.
+	 */
+	private void evict() {
+
+		Iterator<Map.Entry<String, Long>> iterator = sizes.entrySet().iterator();
+
+		while (size > maxSize && iterator.hasNext()) {
+
+			Map.Entry<String, Long> eldest = iterator.next();
+
+			iterator.remove();
+			freshUntil.remove(eldest.getKey());
+			size -= eldest.getValue();
+
+			getFile(eldest.getKey()).delete();
+		}
+	}
+
+	private File getFile(String key) {
+		return new File(directory, key.concat(SUFFIX));
+	}
+
+	private static boolean isCacheable(int status, HttpHeaders headers) {
+		return status == HttpStatus.OK.value()
+				&& (headers.getETag() != null || headers.getFirst(HttpHeaders.LAST_MODIFIED) != null);
+	}
+
+	private static long getMaxAge(HttpHeaders headers) {
+
+		String cacheControl = headers.getCacheControl();
+
+		if (cacheControl == null || cacheControl.contains("no-cache") || cacheControl.contains("no-store")) {
+			return 0;
+		}
+
+		for (String directive : cacheControl.split(",")) {
+
+			String[] parts = directive.trim().split("=");
+
+			if (parts.length == 2 && parts[0].equals("max-age")) {
+				try {
+					return Long.parseLong(parts[1].trim());
+				} catch (NumberFormatException o_O) {
+					return 0;
+				}
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Computes the cache key for a request to the given {@link URI} considering the headers the response might vary on.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 */
+	private static String getKey(URI uri, HttpHeaders headers) {
+
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+
+		update(digest, uri.toString());
+		update(digest, String.valueOf(headers.getFirst(HttpHeaders.AUTHORIZATION)));
+		update(digest, String.valueOf(headers.getFirst(HttpHeaders.ACCEPT)));
+
+		StringBuilder builder = new StringBuilder();
+
+		for (byte b : digest.digest()) {
+			builder.append(String.format("%02x", b));
+		}
+
+		return builder.toString();
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Writes a response into a temporary file while its body is read and moves it into the cache once the body was read
+	 * completely. Failing to write only causes the response not to be cached.
+	 */
+	private class CacheWriter {
+
+		private final String key;
+		private final HttpHeaders headers;
+
+		private File temp;
+		private OutputStream target;
+
+		CacheWriter(String key, int status, HttpHeaders headers) {
+
+			this.key = key;
+			this.headers = headers;
+
+			try {
+
+				directory.mkdirs();
+
+				this.temp = Files.createTempFile(directory.toPath(), key, TEMP_SUFFIX).toFile();
+				this.target = new BufferedOutputStream(Files.newOutputStream(temp.toPath()));
+
+				CachedResponse.writeHead(target, status, headers);
+
+			} catch (IOException o_O) {
+				fail(o_O);
+			}
+		}
+
+		void write(int value) {
+
+			if (target == null) {
+				return;
+			}
+
+			try {
+				target.write(value);
+			} catch (IOException o_O) {
+				fail(o_O);
+			}
+		}
+
+		void write(byte[] bytes, int offset, int length) {
+
+			if (target == null) {
+				return;
+			}
+
+			try {
+				target.write(bytes, offset, length);
+			} catch (IOException o_O) {
+				fail(o_O);
+			}
+		}
+
+		void write(DataBuffer buffer) {
+
+			if (target == null) {
+				return;
+			}
+
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.asByteBuffer().get(bytes);
+
+			write(bytes, 0, bytes.length);
+		}
+
+		void commit() {
+
+			if (target == null) {
+				return;
+			}
+
+			try {
+				target.close();
+			} catch (IOException o_O) {
+
+				fail(o_O);
+				return;
+			}
+
+			HttpResponseCache.this.commit(key, temp, headers);
+
+			target = null;
+			temp = null;
+		}
+
+		void discard() {
+
+			if (target != null) {
+
+				try {
+					target.close();
+				} catch (IOException o_O) {
+					// Deleted below anyway
+				}
+
+				target = null;
+			}
+
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+
+		private void fail(IOException o_O) {
+
+			log.warn("Could not cache response in {}: {}", directory, o_O.getMessage());
+			discard();
+		}
+	}
+
+	/**
+	 * Copies the body of a response into a {@link CacheWriter} while it is read. The remainder of the body is read on
+	 * {@link #close()} so that responses get cached even if the consumer doesn't read them till the end.
+	 */
+	private static class CachingInputStream extends FilterInputStream {
+
+		private final CacheWriter writer;
+		private boolean closed;
+
+		CachingInputStream(InputStream delegate, CacheWriter writer) {
+
+			super(delegate);
+
+			this.writer = writer;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+
+			try {
+
+				int value = super.read();
+
+				if (value != -1) {
+					writer.write(value);
+				}
+
+				return value;
+
+			} catch (IOException o_O) {
+
+				writer.discard();
+				throw o_O;
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+
+			try {
+
+				int read = super.read(bytes, offset, length);
+
+				if (read > 0) {
+					writer.write(bytes, offset, read);
+				}
+
+				return read;
+
+			} catch (IOException o_O) {
+
+				writer.discard();
+				throw o_O;
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#skip(long)
+		 */
+		@Override
+		public long skip(long n) throws IOException {
+
+			// Skipped bytes have to end up in the cache as well
+			byte[] buffer = new byte[(int) Math.min(n, StreamUtils.BUFFER_SIZE)];
+			int read = n <= 0 ? 0 : read(buffer, 0, buffer.length);
+
+			return Math.max(read, 0);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#markSupported()
+		 */
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+
+			try {
+
+				StreamUtils.drain(this);
+				writer.commit();
+
+			} finally {
+
+				writer.discard();
+				super.close();
+			}
+		}
+	}
+
+	/**
+	 * A response as stored on disk.
+	 */
+	private static class CachedResponse {
+
+		// Files of earlier versions carried the body length before the body
+		private static final int FORMAT = 2;
+
+		private final int status;
+		private final HttpHeaders headers;
+		private final byte[] body;
+
+		CachedResponse(int status, HttpHeaders headers, byte[] body) {
+			this.status = status;
+			this.headers = headers;
+			this.body = body;
+		}
+
+		static CachedResponse read(InputStream source) throws IOException {
+
+			DataInputStream stream = new DataInputStream(source);
+
+			if (stream.readInt() != FORMAT) {
+				throw new IOException("Unsupported format!");
+			}
+
+			int status = stream.readInt();
+			int headerCount = stream.readInt();
+			HttpHeaders headers = new HttpHeaders();
+
+			for (int i = 0; i < headerCount; i++) {
+				headers.add(stream.readUTF(), stream.readUTF());
+			}
+
+			return new CachedResponse(status, headers, StreamUtils.copyToByteArray(stream));
+		}
+
+		/**
+		 * Adds the headers to revalidate this response to the given request {@link HttpHeaders}.
+		 *
+		 * @param target must not be {@literal null}.
+		 */
+		void addConditions(HttpHeaders target) {
+
+			String etag = headers.getETag();
+
+			if (etag != null) {
+				target.setIfNoneMatch(etag);
+			}
+
+			String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+			if (lastModified != null) {
+				target.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+			}
+		}
+
+		/**
+		 * Returns the response revalidated by a {@code 304 Not Modified} carrying the given {@link HttpHeaders}.
+		 *
+		 * @param notModified must not be {@literal null}.
+		 * @return
+		 */
+		CachedResponse revalidate(HttpHeaders notModified) {
+
+			HttpHeaders merged = new HttpHeaders();
+			merged.putAll(headers);
+			merged.putAll(notModified);
+
+			return new CachedResponse(status, merged, body);
+		}
+
+		/**
+		 * Writes the status and headers of a response to the given {@link OutputStream}. The body is expected to follow
+		 * as is so that it can be copied while it is read.
+		 *
+		 * @param target must not be {@literal null}.
+		 * @param status
+		 * @param headers must not be {@literal null}.
+		 * @throws IOException
+		 */
+		static void writeHead(OutputStream target, int status, HttpHeaders headers) throws IOException {
+
+			DataOutputStream stream = new DataOutputStream(target);
+
+			stream.writeInt(FORMAT);
+			stream.writeInt(status);
+			stream.writeInt(headers.values().stream().mapToInt(List::size).sum());
+
+			for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+				for (String value : header.getValue()) {
+					stream.writeUTF(header.getKey());
+					stream.writeUTF(value);
+				}
+			}
+
+			stream.flush();
+		}
+
+		ClientHttpResponse toResponse(HttpHeaders headers) {
+
+			return new ClientHttpResponse() {
+
+				@Override
+				public HttpHeaders getHeaders() {
+					return headers;
+				}
+
+				@Override
+				public InputStream getBody() {
+					return new ByteArrayInputStream(body);
+				}
+
+				@Override
+				public HttpStatus getStatusCode() {
+					return HttpStatus.valueOf(status);
+				}
+
+				@Override
+				public int getRawStatusCode() {
+					return status;
+				}
+
+				@Override
+				public String getStatusText() {
+					return getStatusCode().getReasonPhrase();
+				}
+
+				@Override
+				public void close() {}
+			};
+		}
+
+		ClientResponse toResponse(ClientResponse.Builder builder) {
+
+			return builder.statusCode(HttpStatus.valueOf(status)) //
+					.headers(it -> {
+						it.clear();
+						it.putAll(headers);
+					}) //
+					.body(Flux.defer(() -> Flux.just(BUFFERS.wrap(body)))) //
+					.build();
+		}
+	}
+
+	/**
+	 * Statistics of the {@link HttpResponseCache}.
+	 */
+	@Value
+	static class Statistics {
+
+		long hits, revalidations, misses;
+		int entries;
+		long size;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s hits, %s revalidated (304), %s misses, %s entries using %s KB", hits, revalidations,
+					misses, entries, size / 1024);
+		}
+	}
+}
@@ -47,10 +47,40 @@ import org.springframework.util.StringUtils;
 class IssueTrackerCommands extends TimedCommand {
 
 	@NonNull PluginRegistry<IssueTracker, Project> tracker;
+	@NonNull HttpResponseCache httpResponseCache;
+	@NonNull TrackerCacheManager caches;
+	@NonNull TrackerRequestScheduler scheduler;
+	@NonNull ChangelogStore changelogs;
 
 	@CliCommand("tracker evict")
-	public void evict() {
-		StreamSupport.stream(tracker.spliterator(), false).forEach(IssueTracker::reset);
+	public void evict(@CliOption(key = "") TrainIteration iteration) {
+
+		if (iteration == null) {
+			StreamSupport.stream(tracker.spliterator(), false).forEach(IssueTracker::reset);
+		} else {
+			iteration.forEach(module -> {
+				caches.evict(module);
+				changelogs.evict(module);
+			});
+		}
+	}
+
+	@CliCommand("tracker cache")
+	public String cache() {
+
+		return caches.getStatistics().stream() //
+				.map(Object::toString) //
+				.collect(Collectors.joining(System.lineSeparator()));
+	}
+
+	@CliCommand("tracker http-cache")
+	public String httpCache() {
+		return httpResponseCache.getStatistics().toString();
+	}
+
+	@CliCommand("tracker rate-limits")
+	public String rateLimits() {
+		return scheduler.getStatistics().toString();
 	}
 
 	@CliCommand(value = "tracker tickets")
@@ -65,6 +95,9 @@ class IssueTrackerCommands extends TimedCommand {
 
 	@CliCommand(value = "tracker releasetickets")
 	public String releaseTickets(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
+
+		prefetchTickets(iteration);
+
 		return runAndReturn(iteration, module -> getTrackerFor(module).getReleaseTicketFor(module),
 				Tickets.toTicketsCollector()).toString();
 	}
@@ -100,26 +133,32 @@ class IssueTrackerCommands extends TimedCommand {
 	@CliCommand(value = "tracker self-assign releasetickets")
 	public String jiraSelfAssignReleaseTickets(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
 
-		return runAndReturn(iteration, module -> getTrackerFor(module).assignReleaseTicketToMe(module),
+		return runAndReturn(iteration,
+				module -> evictAfter(module, getTrackerFor(module).assignReleaseTicketToMe(module)),
 				Tickets.toTicketsCollector()).toString();
 	}
 
 	public String jiraStartProgress(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
 
-		return runAndReturn(iteration, module -> getTrackerFor(module).startReleaseTicketProgress(module),
+		return runAndReturn(iteration,
+				module -> evictAfter(module, getTrackerFor(module).startReleaseTicketProgress(module)),
 				Tickets.toTicketsCollector()).toString();
 	}
 
 	@CliCommand(value = "tracker create releaseversions")
 	public void jiraCreateReleaseVersions(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
-		run(iteration, module -> getTrackerFor(module).createReleaseVersion(module));
+		run(iteration, this::createReleaseVersion);
 	}
 
 	@CliCommand(value = "tracker create releasetickets")
 	public String createReleaseTickets(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
 
-		run(iteration, module -> getTrackerFor(module).createReleaseTicket(module));
-		evict();
+		prefetchTickets(iteration);
+
+		run(iteration, module -> {
+			getTrackerFor(module).createReleaseTicket(module);
+			caches.evict(module);
+		});
 
 		return releaseTickets(iteration);
 	}
@@ -142,12 +181,18 @@ class IssueTrackerCommands extends TimedCommand {
 
 	@CliCommand("tracker close")
 	public void closeIteration(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
-		run(iteration, module -> getTrackerFor(module).closeIteration(module));
+		run(iteration, module -> {
+			getTrackerFor(module).closeIteration(module);
+			caches.evict(module);
+		});
 	}
 
 	@CliCommand("tracker archive")
 	public void archiveIteration(@CliOption(key = "", mandatory = true) TrainIteration iteration) {
-		run(iteration, module -> getTrackerFor(module).archiveReleaseVersion(module));
+		run(iteration, module -> {
+			getTrackerFor(module).archiveReleaseVersion(module);
+			caches.evict(module);
+		});
 	}
 
 	private Changelog getChangelog(ModuleIteration module) {
@@ -155,7 +200,26 @@ class IssueTrackerCommands extends TimedCommand {
 	}
 
 	private void createReleaseVersion(ModuleIteration moduleIteration) {
+
 		getTrackerFor(moduleIteration).createReleaseVersion(moduleIteration);
+		caches.evict(moduleIteration);
+	}
+
+	/**
+	 * Looks up the tickets of the given {@link TrainIteration} per tracker at once, which caches the tickets and release
+	 * tickets of the individual modules as well.
+	 *
+	 * @param iteration
+	 */
+	private void prefetchTickets(TrainIteration iteration) {
+		tracker.getPlugins().forEach(it -> it.getTicketsFor(iteration));
+	}
+
+	private <T> T evictAfter(ModuleIteration moduleIteration, T result) {
+
+		caches.evict(moduleIteration);
+
+		return result;
 	}
 
 	private IssueTracker getTrackerFor(ModuleIteration moduleIteration) {
@@ -15,20 +15,38 @@
  */
 package org.springframework.data.release.issues;
 
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.File;
+import java.time.Duration;
 import java.util.List;
 
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.release.io.Workspace;
 import org.springframework.data.release.model.Project;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fasterxml.jackson.annotation.JsonCreator.Mode;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -46,11 +64,29 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
  */
 @Configuration
 @EnableCaching(proxyTargetClass = true)
-class IssueTrackerConfiguration {
+class IssueTrackerConfiguration extends CachingConfigurerSupport {
 
 	@Bean
-	CacheManager cacheManager() {
-		return new ConcurrentMapCacheManager();
+	TrackerCacheManager cacheManager(TrackerCacheProperties properties,
+			ObjectProvider<PluginRegistry<IssueTracker, Project>> trackers) {
+
+		return new TrackerCacheManager(properties, module -> {
+
+			IssueTracker tracker = trackers.getObject().getRequiredPluginFor(module.getProject());
+			Object target = AopProxyUtils.getSingletonTarget(tracker);
+
+			// Invoke the target directly to bypass the cache that is about to be refreshed
+			return (target instanceof IssueTracker ? (IssueTracker) target : tracker).getReleaseTicketFor(module);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.annotation.CachingConfigurerSupport#keyGenerator()
+	 */
+	@Override
+	public KeyGenerator keyGenerator() {
+		return new TrackerCacheKeyGenerator();
 	}
 
 	@Bean
@@ -66,15 +102,72 @@ class IssueTrackerConfiguration {
 		return mapper;
 	}
 
+	@Bean
+	HttpResponseCache httpResponseCache(Workspace workspace, TrackerCacheProperties properties) {
+		return new HttpResponseCache(new File(workspace.getWorkingDirectory(), ".http-cache"),
+				properties.getHttpCacheSize());
+	}
+
+	@Bean
+	TrackerRequestScheduler trackerRequestScheduler(TrackerSchedulingProperties properties) {
+		return new TrackerRequestScheduler(properties);
+	}
+
 	@Bean
 	@Qualifier("tracker")
-	RestTemplateBuilder restTemplate() {
+	RestTemplateBuilder restTemplate(HttpResponseCache httpResponseCache, TrackerRequestScheduler scheduler,
+			@Value("${tracker.max-connections:50}") int maxConnections,
+			@Value("${tracker.connection-validation-interval:2s}") Duration validationInterval) {
 
 		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
 		converter.setObjectMapper(jacksonObjectMapper());
 
+		// Connections idle for longer than the interval are checked before reuse as writes are not retried
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnections);
+		connectionManager.setValidateAfterInactivity((int) validationInterval.toMillis());
+
+		CloseableHttpClient client = HttpClients.custom() //
+				.useSystemProperties() //
+				.setConnectionManager(connectionManager) //
+				.build();
+
 		return new RestTemplateBuilder().messageConverters(converter)
-				.requestFactory(HttpComponentsClientHttpRequestFactory.class);
+				.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(client)) //
+				.additionalInterceptors(httpResponseCache, scheduler);
+	}
+
+	/**
+	 * {@link WebClient.Builder} for the non-blocking trackers sharing a single connection pool and the
+	 * {@link HttpResponseCache} of the blocking ones. Users are expected to {@link WebClient.Builder#clone() clone} the
+	 * builder before customizing it.
+	 *
+	 * @param httpResponseCache
+	 * @param scheduler
+	 * @param maxConnections
+	 * @return
+	 */
+	@Bean
+	@Qualifier("tracker")
+	WebClient.Builder webClient(HttpResponseCache httpResponseCache, TrackerRequestScheduler scheduler,
+			@Value("${tracker.max-connections:50}") int maxConnections) {
+
+		ObjectMapper mapper = jacksonObjectMapper();
+
+		ExchangeStrategies strategies = ExchangeStrategies.builder().codecs(configurer -> {
+			configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+			configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper));
+			configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024);
+		}).build();
+
+		HttpClient client = HttpClient.create(ConnectionProvider.fixed("tracker", maxConnections));
+
+		return WebClient.builder() //
+				.clientConnector(new ReactorClientHttpConnector(client)) //
+				.exchangeStrategies(strategies) //
+				.filter(httpResponseCache.toExchangeFilter(strategies)) //
+				.filter(scheduler);
 	}
 
 	@Bean
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Utilities to decode JSON arrays element by element from a {@link JsonParser} so that large responses can be mapped
+ * and filtered as they are read instead of materializing the entire array first.
+ */
+public class JsonStreams {
+
+	/**
+	 * Returns a lazy, sequential {@link Stream} of the elements of the JSON array the given {@link JsonParser} is
+	 * positioned at. Elements are only read from the parser when the {@link Stream} is consumed, the parser is
+	 * positioned at the closing {@link JsonToken#END_ARRAY} once the {@link Stream} is exhausted. A {@literal null}
+	 * value is considered an empty array.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> Stream<T> stream(ObjectMapper mapper, JsonParser parser, Class<T> type) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(parser, "JsonParser must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		JsonToken token = parser.currentToken();
+
+		if (token == JsonToken.VALUE_NULL) {
+			return Stream.empty();
+		}
+
+		if (token != JsonToken.START_ARRAY) {
+			throw new IllegalArgumentException(
+					String.format("Expected parser to be positioned at the start of an array but found %s!", token));
+		}
+
+		Spliterator<T> spliterator = new AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action) {
+
+				try {
+
+					if (parser.nextToken() == JsonToken.END_ARRAY) {
+						return false;
+					}
+
+					action.accept(mapper.readValue(parser, type));
+
+					return true;
+
+				} catch (IOException o_O) {
+					throw new UncheckedIOException(o_O);
+				}
+			}
+		};
+
+		return StreamSupport.stream(spliterator, false);
+	}
+
+	/**
+	 * Invokes the given {@link FieldCallback} for each field of the JSON object the given {@link JsonParser} is
+	 * positioned at. The callback is positioned at the field's value and has to consume it entirely, e.g. using
+	 * {@link #stream(ObjectMapper, JsonParser, Class)} or {@link JsonParser#skipChildren()}.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public static void doWithFields(JsonParser parser, FieldCallback callback) throws IOException {
+
+		Assert.notNull(parser, "JsonParser must not be null!");
+		Assert.notNull(callback, "FieldCallback must not be null!");
+
+		if (parser.currentToken() != JsonToken.START_OBJECT) {
+			throw new IllegalArgumentException(String.format(
+					"Expected parser to be positioned at the start of an object but found %s!", parser.currentToken()));
+		}
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			parser.nextToken();
+
+			callback.doWithField(name, parser);
+		}
+	}
+
+	/**
+	 * Callback for individual fields of a JSON object.
+	 */
+	public interface FieldCallback {
+
+		/**
+		 * @param name the name of the field.
+		 * @param parser the {@link JsonParser} positioned at the field's value.
+		 * @throws IOException
+		 */
+		void doWithField(String name, JsonParser parser) throws IOException;
+	}
+}
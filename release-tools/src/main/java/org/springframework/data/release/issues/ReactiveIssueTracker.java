@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.plugin.core.Plugin;
+
+/**
+ * Non-blocking variant of the read operations of {@link IssueTracker}. Implementations issue all requests for a train
+ * concurrently on a shared connection pool and consume paginated resources on demand, so that a handful of threads
+ * serve all modules and pages at once.
+ */
+public interface ReactiveIssueTracker extends Plugin<Project> {
+
+	/**
+	 * Returns the {@link Tickets} for the given {@link TrainIteration}.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param forCurrentUser whether to only return the tickets assigned to the current user.
+	 * @return
+	 */
+	Mono<Tickets> getTicketsFor(TrainIteration iteration, boolean forCurrentUser);
+
+	/**
+	 * Returns the release {@link Ticket} for the given {@link ModuleIteration}. Emits an error if no release ticket
+	 * could be found.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 */
+	Mono<Ticket> getReleaseTicketFor(ModuleIteration module);
+
+	/**
+	 * Returns the {@link Changelog} for the given {@link ModuleIteration}.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return
+	 */
+	Mono<Changelog> getChangelogFor(ModuleIteration module);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+
+/**
+ * Marks requests as safe, i.e. as not modifying any state on the server, although their method is not. Used for
+ * queries that have to be sent as {@code POST} like GraphQL ones so that the {@link HttpResponseCache} doesn't
+ * invalidate its responses and the {@link TrackerRequestScheduler} retries them on server errors. The marker is
+ * removed by the {@link TrackerRequestScheduler} before the request is sent.
+ */
+public class SafeRequests {
+
+	static final String HEADER = "X-Release-Tools-Safe-Request";
+
+	private static final List<HttpMethod> SAFE_METHODS = Arrays.asList(HttpMethod.GET, HttpMethod.HEAD,
+			HttpMethod.OPTIONS, HttpMethod.TRACE);
+
+	/**
+	 * Marks the request carrying the given {@link HttpHeaders} as safe.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @return the given {@link HttpHeaders}.
+	 */
+	public static HttpHeaders markSafe(HttpHeaders headers) {
+
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+
+		headers.set(HEADER, Boolean.TRUE.toString());
+
+		return headers;
+	}
+
+	/**
+	 * Returns whether a request with the given {@link HttpMethod} and {@link HttpHeaders} is safe, either because of
+	 * its method or because it was {@link #markSafe(HttpHeaders) marked} as such.
+	 *
+	 * @param method can be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isSafe(HttpMethod method, HttpHeaders headers) {
+		return SAFE_METHODS.contains(method) || isMarked(headers);
+	}
+
+	static boolean isMarked(HttpHeaders headers) {
+		return headers.containsKey(HEADER);
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+/**
+ * {@link KeyGenerator} that uses a single parameter as is and keeps multiple parameters inspectable so that cache
+ * entries can be evicted for individual modules.
+ *
+ * @see TrackerCacheManager#evict(org.springframework.data.release.model.ModuleIteration)
+ */
+class TrackerCacheKeyGenerator implements KeyGenerator {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.interceptor.KeyGenerator#generate(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		return params.length == 1 && params[0] != null ? params[0] : new CompositeKey(Arrays.asList(params));
+	}
+
+	/**
+	 * Cache key for methods with none or multiple parameters.
+	 */
+	@Value
+	static class CompositeKey {
+		List<Object> parameters;
+	}
+}
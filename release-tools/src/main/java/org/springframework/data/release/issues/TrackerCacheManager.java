@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.release.issues.TrackerCacheKeyGenerator.CompositeKey;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.ExecutionUtils;
+import org.springframework.util.Assert;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * {@link CacheManager} for issue tracker lookups. Caches are bounded in size, expire entries after write and after
+ * access and record statistics. Release tickets are refreshed ahead of expiry in the background so that subsequent
+ * commands see a recent ticket state without waiting for the tracker. Entries can be evicted per
+ * {@link ModuleIteration}.
+ */
+class TrackerCacheManager implements CacheManager {
+
+	private final TrackerCacheProperties properties;
+	private final Function<ModuleIteration, Object> releaseTicketLoader;
+	private final Map<String, CaffeineCache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link TrackerCacheManager} for the given {@link TrackerCacheProperties} and loader to refresh
+	 * release tickets.
+	 *
+	 * @param properties must not be {@literal null}.
+	 * @param releaseTicketLoader must not be {@literal null}.
+	 */
+	TrackerCacheManager(TrackerCacheProperties properties, Function<ModuleIteration, Object> releaseTicketLoader) {
+
+		Assert.notNull(properties, "TrackerCacheProperties must not be null!");
+		Assert.notNull(releaseTicketLoader, "Release ticket loader must not be null!");
+
+		this.properties = properties;
+		this.releaseTicketLoader = releaseTicketLoader;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.CacheManager#getCache(java.lang.String)
+	 */
+	@Override
+	public Cache getCache(String name) {
+		return caches.computeIfAbsent(name, this::createCache);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.CacheManager#getCacheNames()
+	 */
+	@Override
+	public Collection<String> getCacheNames() {
+		return Collections.unmodifiableSet(caches.keySet());
+	}
+
+	/**
+	 * Evicts all entries referring to the given {@link ModuleIteration}, its {@link Project} or its
+	 * {@link TrainIteration} from all caches.
+	 *
+	 * @param module must not be {@literal null}.
+	 */
+	public void evict(ModuleIteration module) {
+
+		Assert.notNull(module, "ModuleIteration must not be null!");
+
+		caches.values().forEach(cache -> cache.getNativeCache().asMap().keySet().removeIf(key -> refersTo(key, module)));
+	}
+
+	/**
+	 * Returns the {@link Statistics} of all caches created so far.
+	 *
+	 * @return
+	 */
+	public Collection<Statistics> getStatistics() {
+
+		return caches.entrySet().stream() //
+				.sorted(Map.Entry.comparingByKey()) //
+				.map(it -> new Statistics(it.getKey(), it.getValue().getNativeCache().estimatedSize(),
+						it.getValue().getNativeCache().stats())) //
+				.collect(Collectors.toList());
+	}
+
+	private CaffeineCache createCache(String name) {
+
+		Caffeine<Object, Object> builder = Caffeine.newBuilder() //
+				.maximumSize(properties.getMaximumSize(name)) //
+				.expireAfterWrite(properties.getExpireAfterWrite()) //
+				.expireAfterAccess(properties.getExpireAfterAccess()) //
+				.executor(command -> ExecutionUtils.getExecutor().execute(command)) //
+				.recordStats();
+
+		if (!properties.getRefreshAhead().contains(name)) {
+			return new CaffeineCache(name, builder.build());
+		}
+
+		return new CaffeineCache(name, builder.refreshAfterWrite(properties.getRefreshAfterWrite()) //
+				.build(key -> key instanceof ModuleIteration ? releaseTicketLoader.apply((ModuleIteration) key) : null));
+	}
+
+	private static boolean refersTo(Object key, ModuleIteration module) {
+
+		if (key instanceof CompositeKey) {
+			return ((CompositeKey) key).getParameters().stream().anyMatch(it -> refersTo(it, module));
+		}
+
+		return module.equals(key) //
+				|| module.getTrainIteration().equals(key) //
+				|| module.getProject().equals(key);
+	}
+
+	/**
+	 * Statistics of a single tracker cache.
+	 */
+	@Value
+	static class Statistics {
+
+		String name;
+		long entries;
+		CacheStats stats;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s: %s entries, %s hits, %s misses, %s evictions, %s loads", name, entries,
+					stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.loadSuccessCount());
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configurable properties for the caches backing issue tracker lookups.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "tracker.cache")
+class TrackerCacheProperties {
+
+	/**
+	 * Maximum number of entries per cache unless overridden in {@link #maximumSizes}.
+	 */
+	private long maximumSize = 500;
+
+	/**
+	 * Per-cache overrides of the maximum number of entries keyed by cache name.
+	 */
+	private Map<String, Long> maximumSizes = new HashMap<>();
+
+	private Duration expireAfterWrite = Duration.ofHours(1);
+	private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+	/**
+	 * Age after which entries of the {@link #refreshAhead} caches are reloaded in the background on access.
+	 */
+	private Duration refreshAfterWrite = Duration.ofMinutes(5);
+	private Set<String> refreshAhead = new HashSet<>(Arrays.asList("release-ticket", "release-tickets"));
+
+	/**
+	 * Maximum size of the persistent cache of HTTP responses used to revalidate tracker requests, see
+	 * {@link HttpResponseCache}.
+	 */
+	private DataSize httpCacheSize = DataSize.ofMegabytes(50);
+
+	/**
+	 * Returns the maximum number of entries for the cache with the given name.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @return
+	 */
+	public long getMaximumSize(String cacheName) {
+		return maximumSizes.getOrDefault(cacheName, maximumSize);
+	}
+}
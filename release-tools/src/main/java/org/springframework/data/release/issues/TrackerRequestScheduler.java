@@ -0,0 +1,601 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * Schedules issue tracker requests according to the rate limits reported by the servers. The remaining budget is
+ * tracked per host and credentials from the {@code X-RateLimit-*} headers so that requests are spread evenly once the
+ * budget runs low and held back until the reset once it is exhausted. Throttled requests ({@code 429} or {@code 403}
+ * with rate limit information) are retried after the delay requested via {@code Retry-After}, failed ones
+ * ({@code 502}, {@code 503}, {@code 504}) with a randomized exponential backoff. Server errors are only retried for
+ * idempotent methods and requests marked via {@link SafeRequests} as the original request might have been applied.
+ * <p>
+ * Used as {@link ClientHttpRequestInterceptor} for {@link org.springframework.web.client.RestTemplate}s and as
+ * {@link ExchangeFilterFunction} for {@link org.springframework.web.reactive.function.client.WebClient}s so that
+ * both share the same budget.
+ */
+@Slf4j
+class TrackerRequestScheduler implements ClientHttpRequestInterceptor, ExchangeFilterFunction {
+
+	private static final String REMAINING = "X-RateLimit-Remaining";
+	private static final String LIMIT = "X-RateLimit-Limit";
+	private static final String RESET = "X-RateLimit-Reset";
+
+	private static final List<Integer> RETRYABLE_SERVER_ERRORS = Arrays.asList(502, 503, 504);
+	private static final List<HttpMethod> IDEMPOTENT_METHODS = Arrays.asList(HttpMethod.GET, HttpMethod.HEAD,
+			HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE);
+
+	private static final Pattern NUMBER = Pattern.compile("\\d+");
+	private static final Pattern ISSUE_KEY = Pattern.compile("[A-Z][A-Z0-9]+-\\d+");
+
+	private final TrackerSchedulingProperties properties;
+	private final Clock clock;
+	private final Sleeper sleeper;
+
+	private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+	private final Map<String, Metrics> metrics = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link TrackerRequestScheduler} for the given {@link TrackerSchedulingProperties}.
+	 *
+	 * @param properties must not be {@literal null}.
+	 */
+	TrackerRequestScheduler(TrackerSchedulingProperties properties) {
+		this(properties, Clock.systemUTC(), Thread::sleep);
+	}
+
+	TrackerRequestScheduler(TrackerSchedulingProperties properties, Clock clock, Sleeper sleeper) {
+
+		Assert.notNull(properties, "Properties must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+		Assert.notNull(sleeper, "Sleeper must not be null!");
+
+		this.properties = properties;
+		this.clock = clock;
+		this.sleeper = sleeper;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.client.ClientHttpRequestInterceptor#intercept(org.springframework.http.HttpRequest, byte[], org.springframework.http.client.ClientHttpRequestExecution)
+	 */
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+
+		String budget = getBudgetKey(request.getURI(), request.getHeaders());
+		Metrics metrics = getMetrics(request.getMethod(), request.getURI());
+		boolean idempotent = isIdempotent(request.getMethod(), request.getHeaders());
+		HttpRequest unmarked = unmark(request);
+
+		for (int attempt = 0;; attempt++) {
+
+			sleep(acquire(budget), metrics);
+
+			long started = clock.millis();
+			ClientHttpResponse response = execution.execute(unmarked, body);
+			metrics.recordLatency(clock.millis() - started);
+
+			int status = response.getRawStatusCode();
+			Optional<Duration> retry = onResponse(budget, idempotent, status, response.getHeaders(), attempt, metrics);
+
+			if (!retry.isPresent()) {
+				return response;
+			}
+
+			response.close();
+			log.debug("Retrying {} {} after {} ({} of {}).", request.getMethod(), request.getURI(), status, attempt + 1,
+					properties.getMaxRetries());
+
+			sleep(retry.get(), metrics);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.function.client.ExchangeFilterFunction#filter(org.springframework.web.reactive.function.client.ClientRequest, org.springframework.web.reactive.function.client.ExchangeFunction)
+	 */
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+		String budget = getBudgetKey(request.url(), request.headers());
+		Metrics metrics = getMetrics(request.method(), request.url());
+		boolean idempotent = isIdempotent(request.method(), request.headers());
+
+		ClientRequest unmarked = SafeRequests.isMarked(request.headers()) //
+				? ClientRequest.from(request).headers(it -> it.remove(SafeRequests.HEADER)).build() //
+				: request;
+
+		return exchange(unmarked, next, budget, metrics, idempotent, 0);
+	}
+
+	/**
+	 * Returns a snapshot of the remaining budgets and the statistics of all endpoints requested so far.
+	 *
+	 * @return
+	 */
+	public Statistics getStatistics() {
+
+		List<BudgetStatistics> budgets = this.budgets.entrySet().stream() //
+				.map(it -> it.getValue().toStatistics(it.getKey())) //
+				.sorted(Comparator.comparing(BudgetStatistics::getName)) //
+				.collect(Collectors.toList());
+
+		List<EndpointStatistics> endpoints = this.metrics.entrySet().stream() //
+				.map(it -> it.getValue().toStatistics(it.getKey())) //
+				.sorted(Comparator.comparing(EndpointStatistics::getEndpoint)) //
+				.collect(Collectors.toList());
+
+		return new Statistics(budgets, endpoints);
+	}
+
+	private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, String budget, Metrics metrics,
+			boolean idempotent, int attempt) {
+
+		return Mono.defer(() -> {
+
+			Duration wait = acquire(budget);
+			metrics.recordWait(wait);
+
+			return Mono.delay(wait).then(Mono.defer(() -> {
+
+				long started = clock.millis();
+
+				return next.exchange(request).doOnNext(it -> metrics.recordLatency(clock.millis() - started));
+			}));
+
+		}).flatMap(response -> {
+
+			Optional<Duration> retry = onResponse(budget, idempotent, response.rawStatusCode(),
+					response.headers().asHttpHeaders(), attempt, metrics);
+
+			if (!retry.isPresent()) {
+				return Mono.just(response);
+			}
+
+			metrics.recordWait(retry.get());
+
+			return response.releaseBody() //
+					.then(Mono.delay(retry.get())) //
+					.then(exchange(request, next, budget, metrics, idempotent, attempt + 1));
+		});
+	}
+
+	/**
+	 * Reserves a request from the given budget and returns how long to wait before it may be sent.
+	 *
+	 * @param key
+	 * @return
+	 * @throws IllegalStateException in case the budget is exhausted for longer than the configured maximum wait.
+	 */
+	Duration acquire(String key) {
+
+		Budget budget = budgets.computeIfAbsent(key, it -> new Budget());
+		long now = clock.millis();
+
+		synchronized (budget) {
+
+			long start = Math.max(now, Math.max(budget.nextAt, budget.blockedUntil));
+
+			if (budget.remaining >= 0 && budget.resetAt > start) {
+
+				if (budget.remaining == 0) {
+					start = budget.resetAt;
+				} else if (budget.remaining < budget.limit * properties.getPacingThreshold()) {
+
+					// Spread the rest of the budget evenly across the time until it is reset
+					budget.nextAt = start + (budget.resetAt - start) / budget.remaining;
+				}
+			}
+
+			Duration wait = Duration.ofMillis(start - now);
+
+			if (wait.compareTo(properties.getMaxWait()) > 0) {
+				throw new IllegalStateException(
+						String.format("Rate limit for %s exhausted until %s!", key, Instant.ofEpochMilli(start)));
+			}
+
+			if (budget.remaining > 0) {
+				budget.remaining--;
+			}
+
+			return wait;
+		}
+	}
+
+	/**
+	 * Updates the given budget from the response and returns the delay before the request is to be retried, if it is
+	 * to be retried at all.
+	 *
+	 * @return
+	 */
+	private Optional<Duration> onResponse(String key, boolean idempotent, int status, HttpHeaders headers, int attempt,
+			Metrics metrics) {
+
+		Budget budget = budgets.computeIfAbsent(key, it -> new Budget());
+		long now = clock.millis();
+
+		Optional<Long> remaining = getLong(headers, REMAINING);
+		Optional<Long> limit = getLong(headers, LIMIT);
+		Optional<Long> reset = getReset(headers, now);
+		Optional<Duration> retryAfter = getRetryAfter(headers, now);
+
+		synchronized (budget) {
+
+			remaining.ifPresent(it -> budget.remaining = it);
+			limit.ifPresent(it -> budget.limit = it);
+			reset.ifPresent(it -> budget.resetAt = it);
+			retryAfter.ifPresent(it -> budget.blockedUntil = Math.max(budget.blockedUntil, now + it.toMillis()));
+		}
+
+		boolean throttled = status == HttpStatus.TOO_MANY_REQUESTS.value() || (status == HttpStatus.FORBIDDEN.value()
+				&& (retryAfter.isPresent() || remaining.filter(it -> it == 0).isPresent()));
+
+		if (throttled) {
+			metrics.throttled.increment();
+		}
+
+		boolean retryable = throttled || (RETRYABLE_SERVER_ERRORS.contains(status) && idempotent);
+
+		if (!retryable || attempt >= properties.getMaxRetries()) {
+			return Optional.empty();
+		}
+
+		metrics.retries.increment();
+
+		boolean exhausted = remaining.filter(it -> it == 0).isPresent() && reset.isPresent();
+
+		// The budget already holds the request back until the server is ready to accept it again
+		return throttled && (retryAfter.isPresent() || exhausted) //
+				? Optional.of(Duration.ZERO) //
+				: Optional.of(getBackoff(attempt));
+	}
+
+	/**
+	 * Returns a random backoff between zero and the exponentially growing upper bound for the given attempt to avoid
+	 * concurrent retries hitting the server at the same time.
+	 *
+	 * @param attempt
+	 * @return
+	 */
+	private Duration getBackoff(int attempt) {
+
+		long initial = properties.getInitialBackoff().toMillis();
+		long bound = Math.min(properties.getMaxBackoff().toMillis(), initial << Math.min(attempt, 30));
+
+		return Duration.ofMillis(bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1));
+	}
+
+	private void sleep(Duration duration, Metrics metrics) throws IOException {
+
+		if (duration.isZero() || duration.isNegative()) {
+			return;
+		}
+
+		metrics.recordWait(duration);
+
+		try {
+			sleeper.sleep(duration.toMillis());
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for rate limit!");
+		}
+	}
+
+	/**
+	 * Returns whether the request can be repeated without side effects, either because of its method or because it
+	 * was marked as {@link SafeRequests safe}.
+	 *
+	 * @param method can be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isIdempotent(HttpMethod method, HttpHeaders headers) {
+		return (method != null && IDEMPOTENT_METHODS.contains(method)) || SafeRequests.isMarked(headers);
+	}
+
+	/**
+	 * Removes the {@link SafeRequests} marker as it is only meant for the client side.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private static HttpRequest unmark(HttpRequest request) {
+
+		if (!SafeRequests.isMarked(request.getHeaders())) {
+			return request;
+		}
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.putAll(request.getHeaders());
+		headers.remove(SafeRequests.HEADER);
+
+		return new HttpRequestWrapper(request) {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.http.client.support.HttpRequestWrapper#getHeaders()
+			 */
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+		};
+	}
+
+	private Metrics getMetrics(HttpMethod method, URI uri) {
+		return metrics.computeIfAbsent(String.format("%s %s%s", method, uri.getHost(), normalize(uri.getPath())),
+				it -> new Metrics());
+	}
+
+	/**
+	 * Replaces numbers and issue keys in the given path so that requests to the same endpoint are aggregated.
+	 *
+	 * @param path
+	 * @return
+	 */
+	static String normalize(String path) {
+
+		if (path == null) {
+			return "";
+		}
+
+		String[] segments = path.split("/", -1);
+
+		for (int i = 0; i < segments.length; i++) {
+
+			// Keep API versions like /rest/api/2
+			if (NUMBER.matcher(segments[i]).matches() && (i == 0 || !segments[i - 1].equals("api"))) {
+				segments[i] = "{number}";
+			} else if (ISSUE_KEY.matcher(segments[i]).matches()) {
+				segments[i] = "{key}";
+			}
+		}
+
+		return String.join("/", segments);
+	}
+
+	private static String getBudgetKey(URI uri, HttpHeaders headers) {
+
+		String authorization = headers.getFirst(HttpHeaders.AUTHORIZATION);
+
+		return authorization == null //
+				? uri.getHost() //
+				: String.format("%s (%08x)", uri.getHost(), authorization.hashCode());
+	}
+
+	private static Optional<Long> getLong(HttpHeaders headers, String name) {
+
+		String value = headers.getFirst(name);
+
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		try {
+			return Optional.of(Long.parseLong(value.trim()));
+		} catch (NumberFormatException o_O) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Returns the time the budget is reset in epoch milliseconds. Reported either as epoch seconds (GitHub), seconds
+	 * from now or as ISO-8601 timestamp (Jira).
+	 *
+	 * @param headers
+	 * @param now
+	 * @return
+	 */
+	private static Optional<Long> getReset(HttpHeaders headers, long now) {
+
+		String value = headers.getFirst(RESET);
+
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		Optional<Long> seconds = getLong(headers, RESET);
+
+		if (seconds.isPresent()) {
+			return seconds.map(it -> it > 1_000_000_000L ? it * 1000 : now + it * 1000);
+		}
+
+		try {
+			return Optional.of(ZonedDateTime.parse(value.trim(), DateTimeFormatter.ISO_DATE_TIME).toInstant().toEpochMilli());
+		} catch (DateTimeParseException o_O) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Returns the delay requested via {@code Retry-After} given in either seconds or as HTTP date.
+	 *
+	 * @param headers
+	 * @param now
+	 * @return
+	 */
+	private static Optional<Duration> getRetryAfter(HttpHeaders headers, long now) {
+
+		String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		Optional<Long> seconds = getLong(headers, HttpHeaders.RETRY_AFTER);
+
+		if (seconds.isPresent()) {
+			return seconds.map(Duration::ofSeconds);
+		}
+
+		try {
+
+			long until = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+
+			return Optional.of(Duration.ofMillis(Math.max(0, until - now)));
+
+		} catch (DateTimeParseException o_O) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Strategy to wait for a given number of milliseconds.
+	 */
+	interface Sleeper {
+		void sleep(long millis) throws InterruptedException;
+	}
+
+	/**
+	 * The rate limit budget of a host and credentials. A {@link #remaining} value of {@literal -1} indicates the server
+	 * has not reported a budget (yet).
+	 */
+	private static class Budget {
+
+		long remaining = -1, limit, resetAt, nextAt, blockedUntil;
+
+		synchronized BudgetStatistics toStatistics(String name) {
+			return new BudgetStatistics(name, remaining, limit, resetAt == 0 ? null : Instant.ofEpochMilli(resetAt));
+		}
+	}
+
+	private static class Metrics {
+
+		final LongAdder requests = new LongAdder(), retries = new LongAdder(), throttled = new LongAdder();
+		final LongAdder latency = new LongAdder(), waited = new LongAdder();
+		final AtomicLong maxLatency = new AtomicLong();
+
+		void recordLatency(long millis) {
+
+			requests.increment();
+			latency.add(millis);
+			maxLatency.accumulateAndGet(millis, Math::max);
+		}
+
+		void recordWait(Duration duration) {
+			waited.add(duration.toMillis());
+		}
+
+		EndpointStatistics toStatistics(String endpoint) {
+
+			long requests = this.requests.sum();
+
+			return new EndpointStatistics(endpoint, requests, retries.sum(), throttled.sum(),
+					requests == 0 ? 0 : latency.sum() / requests, maxLatency.get(), waited.sum());
+		}
+	}
+
+	/**
+	 * Statistics of the {@link TrackerRequestScheduler}.
+	 */
+	@Value
+	static class Statistics {
+
+		Collection<BudgetStatistics> budgets;
+		Collection<EndpointStatistics> endpoints;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+
+			return Stream.concat(budgets.stream(), endpoints.stream()) //
+					.map(Object::toString) //
+					.collect(Collectors.joining(System.lineSeparator()));
+		}
+	}
+
+	@Value
+	static class BudgetStatistics {
+
+		String name;
+		long remaining, limit;
+		Instant reset;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return remaining < 0 //
+					? String.format("%s: no rate limit reported", name) //
+					: String.format("%s: %s of %s remaining, reset at %s", name, remaining, limit, reset);
+		}
+	}
+
+	@Value
+	static class EndpointStatistics {
+
+		String endpoint;
+		long requests, retries, throttled, averageLatency, maxLatency, waited;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s: %s requests, %s ms average, %s ms max, %s retries, %s throttled, %s ms waited",
+					endpoint, requests, averageLatency, maxLatency, retries, throttled, waited);
+		}
+	}
+}
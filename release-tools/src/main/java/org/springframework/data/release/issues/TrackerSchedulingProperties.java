@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configurable properties for the {@link TrackerRequestScheduler}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "tracker.scheduling")
+class TrackerSchedulingProperties {
+
+	/**
+	 * Number of times a throttled ({@code 429}) or failed ({@code 502}, {@code 503}, {@code 504}) request is retried.
+	 */
+	private int maxRetries = 3;
+
+	/**
+	 * Backoff before the first retry unless the server asks for a specific delay. Doubled for every further attempt
+	 * and randomized to spread concurrent retries.
+	 */
+	private Duration initialBackoff = Duration.ofMillis(500);
+	private Duration maxBackoff = Duration.ofSeconds(30);
+
+	/**
+	 * Longest time a request waits for the rate limit budget to be reset before failing.
+	 */
+	private Duration maxWait = Duration.ofMinutes(5);
+
+	/**
+	 * Fraction of the rate limit below which requests are spread evenly until the budget is reset.
+	 */
+	private double pacingThreshold = 0.2;
+}
@@ -18,6 +18,7 @@ package org.springframework.data.release.issues.github;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,16 +27,21 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.release.git.GitProject;
 import org.springframework.data.release.issues.Changelog;
+import org.springframework.data.release.issues.ChangelogStore;
 import org.springframework.data.release.issues.IssueTracker;
+import org.springframework.data.release.issues.JsonStreams;
+import org.springframework.data.release.issues.SafeRequests;
 import org.springframework.data.release.issues.Ticket;
 import org.springframework.data.release.issues.Tickets;
 import org.springframework.data.release.issues.github.GitHubIssue.Milestone;
@@ -48,13 +54,20 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Oliver Gierke
  * @author Mark Paluch
@@ -62,32 +75,54 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 @Component
 class GitHub implements IssueTracker {
 
-	private static final String MILESTONE_URI = "/repos/spring-projects/{repoName}/milestones?state={state}";
-	private static final String ISSUES_BY_MILESTONE_AND_ASSIGNEE_URI_TEMPLATE = "/repos/spring-projects/{repoName}/issues?milestone={id}&state=all&assignee={assignee}";
-	private static final String ISSUES_BY_MILESTONE_URI_TEMPLATE = "/repos/spring-projects/{repoName}/issues?milestone={id}&state=all";
+	static final String MILESTONE_URI = "/repos/spring-projects/{repoName}/milestones?state={state}";
+	static final String ISSUES_BY_MILESTONE_AND_ASSIGNEE_URI_TEMPLATE = "/repos/spring-projects/{repoName}/issues?milestone={id}&state=all&assignee={assignee}";
+	static final String ISSUES_BY_MILESTONE_URI_TEMPLATE = "/repos/spring-projects/{repoName}/issues?milestone={id}&state=all";
+	static final String ISSUES_BY_MILESTONE_SINCE_URI_TEMPLATE = "/repos/spring-projects/{repoName}/issues?milestone={id}&state=all&since={since}";
 	private static final String MILESTONES_URI_TEMPLATE = "/repos/spring-projects/{repoName}/milestones";
 	private static final String MILESTONE_BY_ID_URI_TEMPLATE = "/repos/spring-projects/{repoName}/milestones/{id}";
 	private static final String ISSUE_BY_ID_URI_TEMPLATE = "/repos/spring-projects/{repoName}/issues/{id}";
 	private static final String ISSUES_URI_TEMPLATE = "/repos/spring-projects/{repoName}/issues";
+	private static final String GRAPHQL_URI = "/graphql";
+	private static final String OWNER = "spring-projects";
+
+	/**
+	 * Number of issues to resolve using a single GraphQL request.
+	 */
+	private static final int ISSUE_BATCH_SIZE = 50;
+	private static final Pattern LINK_PATTERN = Pattern.compile("<([^ ]*)>; rel=\"(\\w+)\"");
 
 	private static final ParameterizedTypeReference<List<Milestone>> MILESTONES_TYPE = new ParameterizedTypeReference<List<Milestone>>() {};
-	private static final ParameterizedTypeReference<List<GitHubIssue>> ISSUES_TYPE = new ParameterizedTypeReference<List<GitHubIssue>>() {};
 	private static final ParameterizedTypeReference<GitHubIssue> ISSUE_TYPE = new ParameterizedTypeReference<GitHubIssue>() {};
 
 	private final RestOperations operations;
 	private final Logger logger;
 	private final GitHubProperties properties;
+	private final ReactiveGitHub reactive;
+	private final CacheManager cacheManager;
+	private final ObjectMapper mapper;
+	private final ChangelogStore changelogs;
 
 	/**
 	 * @param templateBuilder
 	 * @param logger
 	 * @param properties
+	 * @param reactive
+	 * @param cacheManager
+	 * @param mapper
+	 * @param changelogs
 	 */
-	public GitHub(@Qualifier("tracker") RestTemplateBuilder templateBuilder, Logger logger, GitHubProperties properties) {
+	public GitHub(@Qualifier("tracker") RestTemplateBuilder templateBuilder, Logger logger, GitHubProperties properties,
+			ReactiveGitHub reactive, CacheManager cacheManager, ObjectMapper mapper,
+			ChangelogStore changelogs) {
 
 		this.operations = templateBuilder.uriTemplateHandler(new DefaultUriBuilderFactory(properties.getApiUrl())).build();
 		this.logger = logger;
 		this.properties = properties;
+		this.reactive = reactive;
+		this.cacheManager = cacheManager;
+		this.mapper = mapper;
+		this.changelogs = changelogs;
 	}
 
 	/*
@@ -97,7 +132,7 @@ class GitHub implements IssueTracker {
 	@Override
 	@CacheEvict(value = { "tickets", "release-tickets", "milestone" }, allEntries = true)
 	public void reset() {
-
+		changelogs.clear(Tracker.GITHUB);
 	}
 
 	/*
@@ -107,7 +142,7 @@ class GitHub implements IssueTracker {
 	@Override
 	@Cacheable("release-tickets")
 	public Ticket getReleaseTicketFor(ModuleIteration module) {
-		return getTicketsFor(module).getReleaseTicket(module);
+		return reactive.getReleaseTicketFor(module).block();
 	}
 
 	/*
@@ -120,9 +155,61 @@ class GitHub implements IssueTracker {
 	public Collection<Ticket> findTickets(Project project, Collection<String> ticketIds) {
 
 		String repositoryName = GitProject.of(project).getRepositoryName();
+
+		List<String> numbers = ticketIds.stream() //
+				.map(it -> it.startsWith("#") ? it.substring(1) : it) //
+				.filter(it -> it.matches("\\d+")) //
+				.distinct() //
+				.collect(Collectors.toList());
+
+		try {
+			return findTicketsInBatches(repositoryName, numbers);
+		} catch (HttpClientErrorException o_O) {
+
+			if (o_O.getStatusCode() != HttpStatus.NOT_FOUND) {
+				throw o_O;
+			}
+
+			// GraphQL API not available (e.g. on GitHub Enterprise installations not exposing it)
+			return findTicketsIndividually(repositoryName, numbers);
+		}
+	}
+
+	private List<Ticket> findTicketsInBatches(String repositoryName, List<String> numbers) {
+
 		List<Ticket> tickets = new ArrayList<>();
 
-		ticketIds.forEach(ticketId -> {
+		for (int i = 0; i < numbers.size(); i += ISSUE_BATCH_SIZE) {
+
+			IssuesByNumberQuery query = new IssuesByNumberQuery(OWNER, repositoryName,
+					numbers.subList(i, Math.min(i + ISSUE_BATCH_SIZE, numbers.size())));
+
+			query(query).forEach(issue -> tickets.add(toTicket(issue)));
+		}
+
+		return tickets;
+	}
+
+	private List<GitHubIssue> query(IssuesByNumberQuery query) {
+
+		// Queries don't modify anything, so don't let them invalidate cached responses and retry them on server errors
+		HttpHeaders headers = SafeRequests.markSafe(newUserScopedHttpHeaders());
+		HttpEntity<Object> entity = new HttpEntity<>(query.toRequestBody(), headers);
+
+		try {
+			return query.read(operations.exchange(GRAPHQL_URI, HttpMethod.POST, entity, JsonNode.class).getBody());
+		} catch (ResourceAccessException o_O) {
+
+			// POSTs are not retried by the HTTP client on stale connections but queries are safe to repeat
+			return query.read(operations.exchange(GRAPHQL_URI, HttpMethod.POST, entity, JsonNode.class).getBody());
+		}
+	}
+
+	private List<Ticket> findTicketsIndividually(String repositoryName, List<String> numbers) {
+
+		List<Ticket> tickets = new ArrayList<>();
+
+		numbers.forEach(ticketId -> {
 
 			Map<String, Object> parameters = newUrlTemplateVariables();
 			parameters.put("repoName", repositoryName);
@@ -155,14 +242,7 @@ class GitHub implements IssueTracker {
 	@Override
 	@Cacheable("changelogs")
 	public Changelog getChangelogFor(ModuleIteration moduleIteration) {
-
-		Tickets tickets = getIssuesFor(moduleIteration, false).//
-				map(issue -> toTicket(issue)).//
-				collect(Tickets.toTicketsCollector());
-
-		logger.log(moduleIteration, "Created changelog with %s entries.", tickets.getOverallTotal());
-
-		return Changelog.of(moduleIteration, tickets);
+		return reactive.getChangelogFor(moduleIteration).block();
 	}
 
 	/*
@@ -186,18 +266,15 @@ class GitHub implements IssueTracker {
 	@Override
 	public Tickets getTicketsFor(TrainIteration trainIteration, boolean forCurrentUser) {
 
-		if (forCurrentUser) {
-			logger.log(trainIteration, "Retrieving tickets (for user %s)…", properties.getUsername());
-		} else {
-			logger.log(trainIteration, "Retrieving tickets…");
-		}
+		Map<ModuleIteration, Tickets> tickets = reactive.getTicketsByModule(trainIteration, forCurrentUser).block();
 
-		Tickets tickets = trainIteration.stream(). //
-				filter(moduleIteration -> supports(moduleIteration.getProject())). //
-				flatMap(moduleIteration -> getTicketsFor(moduleIteration, forCurrentUser).stream()). //
-				collect(Tickets.toTicketsCollector());
+		if (!forCurrentUser) {
+			cacheTicketsPerModule(tickets);
+		}
 
-		return tickets;
+		return tickets.values().stream() //
+				.flatMap(Tickets::stream) //
+				.collect(Tickets.toTicketsCollector());
 	}
 
 	/*
@@ -247,7 +324,7 @@ class GitHub implements IssueTracker {
 		Assert.notNull(moduleIteration, "ModuleIteration must not be null.");
 
 		HttpHeaders httpHeaders = newUserScopedHttpHeaders();
-		Tickets tickets = getTicketsFor(moduleIteration);
+		Tickets tickets = getCachedTicketsFor(moduleIteration);
 
 		if (tickets.hasReleaseTicket(moduleIteration)) {
 			return;
@@ -412,39 +489,40 @@ class GitHub implements IssueTracker {
 
 		ResponseEntity<T> exchange = operations.exchange(endpointUri, method, entity, type, parameters);
 
-		Pattern pattern = Pattern.compile("<([^ ]*)>; rel=\"(\\w+)\"");
-
 		while (true) {
 
 			if (!callbackContinue.test(exchange.getBody())) {
 				return;
 			}
 
-			HttpHeaders responseHeaders = exchange.getHeaders();
-			List<String> links = responseHeaders.getValuesAsList("Link");
+			Optional<String> nextLink = getNextLink(exchange.getHeaders());
 
-			if (links.isEmpty()) {
+			if (!nextLink.isPresent()) {
 				return;
 			}
 
-			String nextLink = null;
-			for (String link : links) {
+			exchange = operations.exchange(nextLink.get(), method, entity, type, parameters);
+		}
+	}
 
-				Matcher matcher = pattern.matcher(link);
-				if (matcher.find()) {
-					if (matcher.group(2).equals("next")) {
-						nextLink = matcher.group(1);
-						break;
-					}
-				}
-			}
+	/**
+	 * Returns the link to the next page advertised in the {@code Link} header of a paginated response.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @return
+	 */
+	static Optional<String> getNextLink(HttpHeaders headers) {
 
-			if (nextLink == null) {
-				return;
-			}
+		for (String link : headers.getValuesAsList("Link")) {
 
-			exchange = operations.exchange(nextLink, method, entity, type, parameters);
+			Matcher matcher = LINK_PATTERN.matcher(link);
+
+			if (matcher.find() && matcher.group(2).equals("next")) {
+				return Optional.of(matcher.group(1));
+			}
 		}
+
+		return Optional.empty();
 	}
 
 	/*
@@ -487,14 +565,49 @@ class GitHub implements IssueTracker {
 		closeReleaseTicket(module);
 	}
 
-	private Tickets getTicketsFor(ModuleIteration moduleIteration, boolean forCurrentUser) {
+	/**
+	 * Caches the given {@link Tickets} per module as if they had been looked up using
+	 * {@link #getTicketsFor(ModuleIteration)} and {@link #getReleaseTicketFor(ModuleIteration)}.
+	 *
+	 * @param tickets
+	 */
+	private void cacheTicketsPerModule(Map<ModuleIteration, Tickets> tickets) {
+
+		Cache moduleTickets = cacheManager.getCache("tickets");
+		Cache releaseTickets = cacheManager.getCache("release-tickets");
+
+		tickets.forEach((module, it) -> {
+
+			moduleTickets.put(module, it);
+
+			if (it.hasReleaseTicket(module)) {
+				releaseTickets.put(module, it.getReleaseTicket(module));
+			}
+		});
+	}
+
+	/**
+	 * Returns the {@link Tickets} of the given module from the cache backing {@link #getTicketsFor(ModuleIteration)}
+	 * as internal calls bypass the caching proxy.
+	 *
+	 * @param moduleIteration
+	 * @return
+	 */
+	private Tickets getCachedTicketsFor(ModuleIteration moduleIteration) {
 
-		return getIssuesFor(moduleIteration, forCurrentUser).//
-				map(GitHub::toTicket).//
-				collect(Tickets.toTicketsCollector());
+		Cache cache = cacheManager.getCache("tickets");
+		Tickets tickets = cache.get(moduleIteration, Tickets.class);
+
+		if (tickets == null) {
+
+			tickets = getTicketsFor(moduleIteration);
+			cache.put(moduleIteration, tickets);
+		}
+
+		return tickets;
 	}
 
-	private Stream<GitHubIssue> getIssuesFor(ModuleIteration moduleIteration, boolean forCurrentUser) {
+	private Tickets getTicketsFor(ModuleIteration moduleIteration, boolean forCurrentUser) {
 
 		String repositoryName = GitProject.of(moduleIteration.getProject()).getRepositoryName();
 
@@ -507,22 +620,48 @@ class GitHub implements IssueTracker {
 		if (forCurrentUser) {
 			parameters.put("assignee", properties.getUsername());
 
-			return getForIssues(ISSUES_BY_MILESTONE_AND_ASSIGNEE_URI_TEMPLATE, parameters);
+			return getTickets(ISSUES_BY_MILESTONE_AND_ASSIGNEE_URI_TEMPLATE, parameters);
 		}
 
-		return getForIssues(ISSUES_BY_MILESTONE_URI_TEMPLATE, parameters);
+		return getTickets(ISSUES_BY_MILESTONE_URI_TEMPLATE, parameters);
 	}
 
-	private Stream<GitHubIssue> getForIssues(String template, Map<String, Object> parameters) {
+	/**
+	 * Returns the {@link Tickets} for all pages of issues starting at the given URI template. Issues are decoded one by
+	 * one from each response and converted into {@link Ticket}s right away instead of materializing the
+	 * {@link GitHubIssue}s of a page first.
+	 *
+	 * @param template
+	 * @param parameters
+	 * @return
+	 */
+	private Tickets getTickets(String template, Map<String, Object> parameters) {
+
+		HttpHeaders headers = newUserScopedHttpHeaders();
+		headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
 
-		List<GitHubIssue> issues = new ArrayList<>();
-		doWithPaging(template, HttpMethod.GET, parameters, new HttpEntity<>(newUserScopedHttpHeaders()), ISSUES_TYPE,
-				tickets -> {
-					issues.addAll(tickets);
-					return true;
-				});
+		List<Ticket> tickets = new ArrayList<>();
+		Optional<String> uri = Optional.of(template);
+
+		while (uri.isPresent()) {
+
+			uri = operations.execute(uri.get(), HttpMethod.GET, request -> request.getHeaders().putAll(headers),
+					response -> {
+
+						try (JsonParser parser = mapper.getFactory().createParser(response.getBody())) {
+
+							parser.nextToken();
+
+							JsonStreams.stream(mapper, parser, GitHubIssue.class) //
+									.map(GitHub::toTicket) //
+									.forEach(tickets::add);
+						}
+
+						return getNextLink(response.getHeaders());
+					}, parameters);
+		}
 
-		return issues.stream();
+		return new Tickets(tickets);
 	}
 
 	private Milestone getMilestone(ModuleIteration moduleIteration, String repositoryName) {
@@ -535,7 +674,7 @@ class GitHub implements IssueTracker {
 						moduleIteration.getShortVersionString())));
 	}
 
-	private static Ticket toTicket(GitHubIssue issue) {
+	static Ticket toTicket(GitHubIssue issue) {
 		return new Ticket(issue.getId(), issue.getTitle(), new GithubTicketStatus(issue.getState()));
 	}
 }
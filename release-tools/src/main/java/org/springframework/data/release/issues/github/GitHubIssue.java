@@ -20,11 +20,13 @@ import lombok.Value;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * @author Oliver Gierke
@@ -65,9 +67,11 @@ class GitHubIssue {
 
 		Long number;
 		String title, description, state;
+		@JsonProperty("open_issues") Integer openIssues;
+		@JsonProperty("closed_issues") Integer closedIssues;
 
 		public static Milestone of(String title, String description) {
-			return new Milestone(null, title, description, null);
+			return new Milestone(null, title, description, null, null, null);
 		}
 
 		public boolean matches(ModuleIteration moduleIteration) {
@@ -79,8 +83,18 @@ class GitHubIssue {
 			return "open".equals(state);
 		}
 
+		/**
+		 * Returns the number of issues (including pull requests) assigned to the milestone if reported by the server.
+		 *
+		 * @return
+		 */
+		@JsonIgnore
+		public Optional<Integer> getTotalIssues() {
+			return openIssues == null || closedIssues == null ? Optional.empty() : Optional.of(openIssues + closedIssues);
+		}
+
 		public Milestone markReleased() {
-			return new Milestone(number, null, null, "closed");
+			return new Milestone(number, null, null, "closed", null, null);
 		}
 	}
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.github;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * GraphQL query to resolve multiple issues or pull requests of a repository by their number using a single request.
+ * Numbers that cannot be resolved are skipped.
+ */
+@Value
+class IssuesByNumberQuery {
+
+	private static final String ISSUE_FIELDS = "number title state";
+
+	String owner, repository;
+	List<String> numbers;
+
+	/**
+	 * Returns the request body to be posted to the GraphQL endpoint.
+	 *
+	 * @return
+	 */
+	public Object toRequestBody() {
+
+		String issues = numbers.stream() //
+				.map(it -> String.format("i%1$s: issueOrPullRequest(number: %1$s) { "
+						+ "... on Issue { %2$s } ... on PullRequest { %2$s } }", it, ISSUE_FIELDS)) //
+				.collect(Collectors.joining(" "));
+
+		String query = String.format("query { repository(owner: \"%s\", name: \"%s\") { %s } }", owner, repository, issues);
+
+		return Collections.singletonMap("query", query);
+	}
+
+	/**
+	 * Reads the {@link GitHubIssue}s from the given GraphQL response in the order of the requested numbers.
+	 *
+	 * @param response must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case the response doesn't contain the repository.
+	 */
+	public List<GitHubIssue> read(JsonNode response) {
+
+		Assert.notNull(response, "Response must not be null!");
+
+		JsonNode repository = response.path("data").path("repository");
+
+		if (!repository.isObject()) {
+			throw new IllegalStateException(String.format("Could not look up issues of %s/%s: %s", owner, this.repository,
+					response.path("errors")));
+		}
+
+		List<GitHubIssue> issues = new ArrayList<>();
+
+		for (String number : numbers) {
+
+			JsonNode issue = repository.path("i" + number);
+
+			if (issue.hasNonNull("number")) {
+				issues.add(new GitHubIssue(issue.get("number").asText(), issue.path("title").asText(),
+						toRestState(issue.path("state").asText()), null, null));
+			}
+		}
+
+		return issues;
+	}
+
+	/**
+	 * GraphQL uses upper case states and reports merged pull requests as {@code MERGED} whereas the REST API considers
+	 * them {@code closed}.
+	 */
+	private static String toRestState(String state) {
+		return "MERGED".equals(state) ? "closed" : state.toLowerCase(Locale.US);
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.github;
+
+import static org.springframework.data.release.issues.github.GitHub.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.release.git.GitProject;
+import org.springframework.data.release.issues.Changelog;
+import org.springframework.data.release.issues.ChangelogStore;
+import org.springframework.data.release.issues.ChangelogStore.Snapshot;
+import org.springframework.data.release.issues.ReactiveIssueTracker;
+import org.springframework.data.release.issues.Ticket;
+import org.springframework.data.release.issues.Tickets;
+import org.springframework.data.release.issues.github.GitHubIssue.Milestone;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.Tracker;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
+
+/**
+ * Non-blocking {@link ReactiveIssueTracker} for GitHub. Paginated resources are exposed as {@link Flux} requesting the
+ * next page only once the previous one has been consumed. Changelogs are updated incrementally from the issues stored
+ * in the {@link ChangelogStore}.
+ */
+@Component
+class ReactiveGitHub implements ReactiveIssueTracker {
+
+	/**
+	 * Issue update times are compared against the local clock, allow for some deviation from the server's one.
+	 */
+	private static final Duration CLOCK_SKEW_ALLOWANCE = Duration.ofMinutes(5);
+
+	private final WebClient client;
+	private final Logger logger;
+	private final GitHubProperties properties;
+	private final ChangelogStore changelogs;
+
+	/**
+	 * @param builder
+	 * @param logger
+	 * @param properties
+	 * @param changelogs
+	 */
+	public ReactiveGitHub(@Qualifier("tracker") WebClient.Builder builder, Logger logger, GitHubProperties properties,
+			ChangelogStore changelogs) {
+
+		this.client = builder.clone() //
+				.baseUrl(properties.getApiUrl()) //
+				.defaultHeader(HttpHeaders.AUTHORIZATION, properties.getHttpCredentials().toString()) //
+				.build();
+		this.logger = logger;
+		this.properties = properties;
+		this.changelogs = changelogs;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.ReactiveIssueTracker#getTicketsFor(org.springframework.data.release.model.TrainIteration, boolean)
+	 */
+	@Override
+	public Mono<Tickets> getTicketsFor(TrainIteration iteration, boolean forCurrentUser) {
+
+		return getTicketsByModule(iteration, forCurrentUser) //
+				.map(tickets -> tickets.values().stream() //
+						.flatMap(Tickets::stream) //
+						.collect(Tickets.toTicketsCollector()));
+	}
+
+	/**
+	 * Looks up the {@link Tickets} of all modules of the given {@link TrainIteration} concurrently.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param forCurrentUser
+	 * @return the {@link Tickets} per module in the order of the modules of the train.
+	 */
+	Mono<Map<ModuleIteration, Tickets>> getTicketsByModule(TrainIteration iteration, boolean forCurrentUser) {
+
+		if (forCurrentUser) {
+			logger.log(iteration, "Retrieving tickets (for user %s)…", properties.getUsername());
+		} else {
+			logger.log(iteration, "Retrieving tickets…");
+		}
+
+		return Flux.fromStream(iteration.stream().filter(module -> supports(module.getProject()))) //
+				.flatMapSequential(module -> getIssuesFor(module, forCurrentUser) //
+						.map(GitHub::toTicket) //
+						.collect(Tickets.toTicketsCollector()) //
+						.map(tickets -> Tuples.of(module, tickets))) //
+				.collectMap(Tuple2::getT1, Tuple2::getT2, LinkedHashMap::new);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.ReactiveIssueTracker#getReleaseTicketFor(org.springframework.data.release.model.ModuleIteration)
+	 */
+	@Override
+	public Mono<Ticket> getReleaseTicketFor(ModuleIteration module) {
+
+		return getIssuesFor(module, false) //
+				.map(GitHub::toTicket) //
+				.collect(Tickets.toTicketsCollector()) //
+				.map(tickets -> tickets.getReleaseTicket(module));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.ReactiveIssueTracker#getChangelogFor(org.springframework.data.release.model.ModuleIteration)
+	 */
+	@Override
+	public Mono<Changelog> getChangelogFor(ModuleIteration module) {
+
+		String repositoryName = GitProject.of(module.getProject()).getRepositoryName();
+		Instant now = Instant.now();
+
+		return getMilestone(module, repositoryName) //
+				.flatMap(milestone -> Mono.justOrEmpty(changelogs.get(module, GitHubIssue.class)) //
+						.flatMap(snapshot -> getUpdatedIssues(module, repositoryName, milestone, snapshot, now)) //
+						.switchIfEmpty(Mono.defer(() -> getIssues(repositoryName, milestone, false) //
+								.collectList() //
+								.map(issues -> Snapshot.of(now, issues, GitHubIssue::getId))))) //
+				.doOnNext(snapshot -> changelogs.save(module, snapshot)) //
+				.map(snapshot -> snapshot.getIssues().stream() //
+						.map(GitHub::toTicket) //
+						.collect(Tickets.toTicketsCollector())) //
+				.doOnNext(tickets -> logger.log(module, "Created changelog with %s entries.", tickets.getOverallTotal())) //
+				.map(tickets -> Changelog.of(module, tickets));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(Project project) {
+		return project.uses(Tracker.GITHUB);
+	}
+
+	private Flux<GitHubIssue> getIssuesFor(ModuleIteration module, boolean forCurrentUser) {
+
+		String repositoryName = GitProject.of(module.getProject()).getRepositoryName();
+
+		return getMilestone(module, repositoryName)
+				.flatMapMany(milestone -> getIssues(repositoryName, milestone, forCurrentUser));
+	}
+
+	private Flux<GitHubIssue> getIssues(String repositoryName, Milestone milestone, boolean forCurrentUser) {
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("repoName", repositoryName);
+		parameters.put("id", milestone.getNumber());
+
+		if (forCurrentUser) {
+			parameters.put("assignee", properties.getUsername());
+			return getPaged(ISSUES_BY_MILESTONE_AND_ASSIGNEE_URI_TEMPLATE, parameters, GitHubIssue.class);
+		}
+
+		return getPaged(ISSUES_BY_MILESTONE_URI_TEMPLATE, parameters, GitHubIssue.class);
+	}
+
+	/**
+	 * Merges the issues of the given {@link Milestone} updated since the given {@link Snapshot} was taken into the
+	 * latter. Issues removed from the milestone don't show up as updates, so the merged {@link Snapshot} is only used if
+	 * its size matches the number of issues reported for the milestone. Returns an empty {@link Mono} otherwise.
+	 *
+	 * @param module
+	 * @param repositoryName
+	 * @param milestone
+	 * @param snapshot
+	 * @param now
+	 * @return
+	 */
+	private Mono<Snapshot<GitHubIssue>> getUpdatedIssues(ModuleIteration module, String repositoryName,
+			Milestone milestone, Snapshot<GitHubIssue> snapshot, Instant now) {
+
+		if (!milestone.getTotalIssues().isPresent()) {
+			return Mono.empty();
+		}
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("repoName", repositoryName);
+		parameters.put("id", milestone.getNumber());
+		parameters.put("since", DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(snapshot.getTimestamp()) //
+				.minus(CLOCK_SKEW_ALLOWANCE) //
+				.truncatedTo(ChronoUnit.SECONDS)));
+
+		return getPaged(ISSUES_BY_MILESTONE_SINCE_URI_TEMPLATE, parameters, GitHubIssue.class) //
+				.collectList() //
+				.flatMap(updates -> {
+
+					Snapshot<GitHubIssue> merged = snapshot.merge(now, updates, GitHubIssue::getId);
+
+					if (!milestone.getTotalIssues().get().equals(merged.getIssues().size())) {
+
+						logger.log(module, "Tickets were removed since the last changelog, looking up all tickets…");
+						return Mono.empty();
+					}
+
+					logger.log(module, "Found %s tickets updated since the last changelog.", updates.size());
+
+					return Mono.just(merged);
+				});
+	}
+
+	private Mono<Milestone> getMilestone(ModuleIteration module, String repositoryName) {
+
+		logger.log(module, "Looking up milestone…");
+
+		// Milestone pages are only requested until a matching one is found
+		return Flux.just("open", "closed") //
+				.concatMap(state -> {
+
+					Map<String, Object> parameters = new HashMap<>();
+					parameters.put("repoName", repositoryName);
+					parameters.put("state", state);
+
+					return getPaged(MILESTONE_URI, parameters, Milestone.class);
+				}) //
+				.filter(milestone -> milestone.matches(module)) //
+				.next() //
+				.doOnNext(milestone -> logger.log(module, "Found milestone %s.", milestone)) //
+				.switchIfEmpty(Mono.error(() -> new IllegalStateException(
+						String.format("No milestone for %s found containing %s!", //
+								module.getProject().getFullName(), //
+								module.getShortVersionString()))));
+	}
+
+	/**
+	 * Returns all elements of the paginated resource at the given URI following the {@code next} links.
+	 */
+	private <T> Flux<T> getPaged(String uriTemplate, Map<String, Object> parameters, Class<T> type) {
+		return getPage(client.get().uri(uriTemplate, parameters), type);
+	}
+
+	/**
+	 * Returns the elements of the page requested by the given {@link RequestHeadersSpec} followed by the ones of the
+	 * subsequent pages. Elements are decoded one by one as the response body arrives instead of binding the entire page
+	 * first, so that they can be filtered right away and a cancelled lookup stops reading.
+	 */
+	private <T> Flux<T> getPage(RequestHeadersSpec<?> request, Class<T> type) {
+
+		return request.exchange().flatMapMany(response -> {
+
+			if (response.statusCode().isError()) {
+				return response.createException().flatMapMany(Flux::error);
+			}
+
+			Optional<String> next = getNextLink(response.headers().asHttpHeaders());
+
+			return response.bodyToFlux(type) //
+					.concatWith(Flux.defer(() -> next //
+							.map(it -> getPage(client.get().uri(URI.create(it)), type)) //
+							.orElseGet(Flux::empty)));
+		});
+	}
+}
@@ -22,14 +22,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.release.issues.Changelog;
+import org.springframework.data.release.issues.ChangelogStore;
 import org.springframework.data.release.issues.Ticket;
 import org.springframework.data.release.issues.Tickets;
 import org.springframework.data.release.issues.jira.JiraIssue.Fields;
@@ -40,12 +44,15 @@ import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Project;
 import org.springframework.data.release.model.ProjectKey;
 import org.springframework.data.release.model.Tracker;
+import org.springframework.data.release.model.Train;
 import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.ExecutionUtils;
 import org.springframework.data.release.utils.Logger;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
@@ -54,6 +61,8 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Oliver Gierke
  * @author Mark Paluch
@@ -68,7 +77,19 @@ class Jira implements JiraConnector {
 	private static final String PROJECT_COMPONENTS_TEMPLATE = "/project/{project}/components";
 	private static final String VERSIONS_TEMPLATE = "/version";
 	private static final String VERSION_TEMPLATE = "/version/{id}";
-	private static final String SEARCH_TEMPLATE = "/search?jql={jql}&fields={fields}&startAt={startAt}";
+	static final String SEARCH_TEMPLATE = "/search?jql={jql}&fields={fields}&startAt={startAt}";
+	static final String COUNT_TEMPLATE = "/search?jql={jql}&fields=key&maxResults=0";
+
+	/**
+	 * Fields read by {@link #toTicket(JiraIssue)}, fix versions are additionally required to detect backports.
+	 */
+	static final String TICKET_FIELDS = "summary,status,resolution";
+	static final String TICKET_FIELDS_WITH_VERSIONS = TICKET_FIELDS + ",fixVersions";
+
+	/**
+	 * Maximum length of the URL-encoded JQL of a single ticket lookup to stay within URL length limits.
+	 */
+	private static final int MAX_TICKET_QUERY_LENGTH = 1500;
 
 	private static final String INFRASTRUCTURE_COMPONENT_NAME = "Infrastructure";
 	private static final String IN_PROGRESS_STATUS_CATEGORY = "indeterminate";
@@ -84,19 +105,36 @@ class Jira implements JiraConnector {
 	private final RestOperations operations;
 	private final Logger logger;
 	private final JiraProperties jiraProperties;
+	private final JiraPaginator paginator;
+	private final ReactiveJira reactive;
+	private final CacheManager cacheManager;
+	private final ObjectMapper mapper;
+	private final ChangelogStore changelogs;
 
 	/**
 	 * @param templateBuilder
 	 * @param logger
 	 * @param jiraProperties
+	 * @param reactive
+	 * @param cacheManager
+	 * @param mapper
+	 * @param changelogs
 	 */
-	public Jira(@Qualifier("tracker") RestTemplateBuilder templateBuilder, Logger logger, JiraProperties jiraProperties) {
+	public Jira(@Qualifier("tracker") RestTemplateBuilder templateBuilder, Logger logger, JiraProperties jiraProperties,
+			ReactiveJira reactive, CacheManager cacheManager, ObjectMapper mapper,
+			ChangelogStore changelogs) {
 
 		String baseUri = String.format("%s/rest/api/2", jiraProperties.getApiUrl());
 
 		this.operations = templateBuilder.uriTemplateHandler(new DefaultUriBuilderFactory(baseUri)).build();
 		this.logger = logger;
 		this.jiraProperties = jiraProperties;
+		this.paginator = new JiraPaginator(command -> ExecutionUtils.getExecutor().execute(command),
+				jiraProperties.getPageConcurrency());
+		this.reactive = reactive;
+		this.cacheManager = cacheManager;
+		this.mapper = mapper;
+		this.changelogs = changelogs;
 	}
 
 	/*
@@ -105,7 +143,9 @@ class Jira implements JiraConnector {
 	 */
 	@Override
 	@CacheEvict(value = { "release-ticket", "tickets", "changelogs", "release-version" }, allEntries = true)
-	public void reset() {}
+	public void reset() {
+		changelogs.clear(Tracker.JIRA);
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -114,17 +154,7 @@ class Jira implements JiraConnector {
 	@Override
 	@Cacheable("release-ticket")
 	public Ticket getReleaseTicketFor(ModuleIteration moduleIteration) {
-
-		JqlQuery query = JqlQuery.from(moduleIteration)
-				.and(String.format("summary ~ \"%s\"", Tracker.releaseTicketSummary(moduleIteration)));
-
-		JiraIssues issues = getJiraIssues(query, new HttpHeaders(), 0);
-
-		if (!issues.hasIssues()) {
-			throw new IllegalArgumentException(String.format("Did not find a release ticket for %s!", moduleIteration));
-		}
-
-		return toTicket(issues.stream().findFirst().get());
+		return reactive.getReleaseTicketFor(moduleIteration).block();
 	}
 
 	/*
@@ -140,19 +170,20 @@ class Jira implements JiraConnector {
 			return Collections.emptyList();
 		}
 
-		JqlQuery query = JqlQuery.from(ticketIds).and(" resolution is not EMPTY");
+		List<JqlQuery> queries = JqlQuery.from(ticketIds, MAX_TICKET_QUERY_LENGTH).stream() //
+				.map(it -> it.and("resolution is not EMPTY")) //
+				.collect(Collectors.toList());
 
-		Map<String, Object> parameters = newUrlTemplateVariables();
-		parameters.put("jql", query);
-		parameters.put("fields", "summary,status,resolution");
-		parameters.put("startAt", 0);
+		return paginator.getConcurrently(queries, query -> findTickets(project, query)).stream() //
+				.flatMap(List::stream) //
+				.collect(Collectors.toList());
+	}
 
-		JiraIssues issues = operations.exchange(SEARCH_TEMPLATE, HttpMethod.GET, null, JiraIssues.class, parameters)
-				.getBody();
+	private List<Ticket> findTickets(Project project, JqlQuery query) {
 
-		return issues.stream().//
-				map(this::toTicket).//
-				collect(Collectors.toList());
+		return getTicketPages(project.getName(), query, TICKET_FIELDS, issue -> true).stream() //
+				.flatMap(JiraTicketPage::stream) //
+				.collect(Collectors.toList());
 	}
 
 	/*
@@ -173,29 +204,13 @@ class Jira implements JiraConnector {
 	@Cacheable("tickets")
 	public Tickets getTicketsFor(TrainIteration trainIteration, boolean forCurrentUser) {
 
-		JqlQuery query = JqlQuery
-				.from(trainIteration.stream().filter(moduleIteration -> supports(moduleIteration.getProject())));
+		List<JiraIssue> issues = reactive.getIssuesFor(trainIteration, forCurrentUser).block();
 
-		HttpHeaders headers = newUserScopedHttpHeaders();
-
-		List<Ticket> tickets = new ArrayList<>();
-
-		if (forCurrentUser) {
-			query = query.and("assignee = currentUser()");
-			logger.log(trainIteration, "Retrieving tickets (for user %s)…", jiraProperties.getUsername());
-		} else {
-			logger.log(trainIteration, "Retrieving tickets…");
+		if (!forCurrentUser) {
+			cacheTicketsPerModule(trainIteration, issues);
 		}
 
-		query = query.orderBy("updatedDate DESC");
-
-		JiraIssues issues = execute(trainIteration.toString(), query, headers, jiraIssues -> {
-			jiraIssues.stream().//
-			filter(jiraIssue -> !jiraIssue.wasBackportedFrom(trainIteration.getTrain())). //
-			forEach(jiraIssue -> tickets.add(toTicket(jiraIssue)));
-		});
-
-		return new Tickets(tickets, issues.getTotal());
+		return toTickets(trainIteration.getTrain(), issues);
 	}
 
 	@Cacheable("tickets")
@@ -203,21 +218,18 @@ class Jira implements JiraConnector {
 
 		JqlQuery query = JqlQuery.from(moduleIteration);
 
-		HttpHeaders headers = new HttpHeaders();
-
-		List<Ticket> tickets = new ArrayList<>();
-
 		logger.log(moduleIteration, "Retrieving tickets…");
 
 		query = query.orderBy("updatedDate DESC");
 
-		JiraIssues issues = execute(moduleIteration.toString(), query, headers, jiraIssues -> {
-			jiraIssues.stream().//
-			filter(jiraIssue -> !jiraIssue.wasBackportedFrom(moduleIteration.getTrain())). //
-			forEach(jiraIssue -> tickets.add(toTicket(jiraIssue)));
-		});
+		List<JiraTicketPage> pages = getTicketPages(moduleIteration.toString(), query, TICKET_FIELDS_WITH_VERSIONS,
+				jiraIssue -> !jiraIssue.wasBackportedFrom(moduleIteration.getTrain()));
+
+		List<Ticket> tickets = pages.stream() //
+				.flatMap(JiraTicketPage::stream) //
+				.collect(Collectors.toList());
 
-		return new Tickets(tickets, issues.getTotal());
+		return new Tickets(tickets, pages.get(pages.size() - 1).getTotal());
 	}
 
 	/*
@@ -311,7 +323,7 @@ class Jira implements JiraConnector {
 
 		Map<String, Object> parameters = newUrlTemplateVariables();
 
-		Tickets tickets = getTicketsFor(moduleIteration);
+		Tickets tickets = getCachedTicketsFor(moduleIteration);
 
 		if (tickets.hasReleaseTicket(moduleIteration)) {
 			return;
@@ -462,10 +474,13 @@ class Jira implements JiraConnector {
 	@Override
 	public void verifyBeforeRelease(TrainIteration trainIteration) {
 
+		// Look up the tickets of all modules at once
+		getTicketsFor(trainIteration, false);
+
 		// for each module
 		for (ModuleIteration moduleIteration : trainIteration) {
 
-			Tickets tickets = getTicketsFor(moduleIteration);
+			Tickets tickets = getCachedTicketsFor(moduleIteration);
 			Ticket releaseTicket = tickets.getReleaseTicket(moduleIteration);
 
 			if (releaseTicket.isResolved()) {
@@ -531,19 +546,7 @@ class Jira implements JiraConnector {
 	@Override
 	@Cacheable("changelogs")
 	public Changelog getChangelogFor(ModuleIteration moduleIteration) {
-
-		Map<String, Object> parameters = newUrlTemplateVariables();
-		parameters.put("jql", JqlQuery.from(moduleIteration));
-		parameters.put("fields", "summary,status,resolution,fixVersions");
-		parameters.put("startAt", 0);
-
-		logger.log(moduleIteration, "Looking up JIRA issues…");
-
-		JiraIssues issues = operations.getForObject(SEARCH_TEMPLATE, JiraIssues.class, parameters);
-		Tickets tickets = issues.stream().map(this::toTicket).collect(Tickets.toTicketsCollector());
-		logger.log(moduleIteration, "Created changelog with %s entries.", tickets.getOverallTotal());
-
-		return Changelog.of(moduleIteration, tickets);
+		return reactive.getChangelogFor(moduleIteration).block();
 	}
 
 	/*
@@ -600,58 +603,58 @@ class Jira implements JiraConnector {
 		}
 	}
 
-	private JiraIssues execute(String context, JqlQuery query, HttpHeaders headers, JiraIssuesCallback callback) {
-
-		JiraIssues issues;
-		int startAt = 0;
-
-		do {
-			issues = getJiraIssues(query, headers, startAt);
-
-			logger.log(context, "Got tickets %s to %s of %s.", startAt, issues.getNextStartAt(), issues.getTotal());
+	/**
+	 * Returns all pages of search results for the given {@link JqlQuery} converted into {@link Ticket}s, skipping the
+	 * {@link JiraIssue}s not matching the given filter.
+	 *
+	 * @param context
+	 * @param query
+	 * @param fields
+	 * @param filter
+	 * @return
+	 */
+	private List<JiraTicketPage> getTicketPages(String context, JqlQuery query, String fields,
+			Predicate<JiraIssue> filter) {
 
-			callback.doWithJiraIssues(issues);
+		return paginator.getPages(startAt -> {
 
-			startAt = issues.getNextStartAt();
+			JiraTicketPage page = getTicketPage(query, fields, filter, startAt);
 
-		} while (issues.hasMoreResults());
+			logger.log(context, "Got tickets %s to %s of %s.", startAt, page.getNextStartAt(), page.getTotal());
 
-		return issues;
+			return page;
+		});
 	}
 
-	private JiraIssues getJiraIssues(JqlQuery query, HttpHeaders headers, int startAt) {
+	private JiraTicketPage getTicketPage(JqlQuery query, String fields, Predicate<JiraIssue> filter, int startAt) {
 
-		JiraIssues issues;
 		Map<String, Object> parameters = newUrlTemplateVariables();
 		parameters.put("jql", query);
-		parameters.put("fields", "summary,status,resolution,fixVersions");
+		parameters.put("fields", fields);
 		parameters.put("startAt", startAt);
 
-		issues = operations
-				.exchange(SEARCH_TEMPLATE, HttpMethod.GET, new HttpEntity<>(headers), JiraIssues.class, parameters).getBody();
-		return issues;
+		// Decode the response ourselves to convert issues while reading instead of materializing JiraIssues first
+		return operations.execute(SEARCH_TEMPLATE, HttpMethod.GET, //
+				request -> request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)), //
+				response -> JiraTicketPage.read(mapper, response.getBody(), filter), parameters);
 	}
 
 	private JiraReleaseVersions getReleaseVersions(String context, ProjectKey projectKey, HttpHeaders headers,
 			JiraReleaseVersionsCallback callback) {
 
-		JiraReleaseVersions releaseVersions;
-		int startAt = 0;
+		List<JiraReleaseVersions> pages = paginator.getPages(startAt -> {
 
-		do {
-
-			releaseVersions = getJiraReleaseVersions(projectKey, headers, startAt);
+			JiraReleaseVersions releaseVersions = getJiraReleaseVersions(projectKey, headers, startAt);
 
 			logger.log(context, "Got release versions %s to %s of %s.", startAt, releaseVersions.getNextStartAt(),
 					releaseVersions.getTotal());
 
-			callback.doWithJiraReleaseVersions(releaseVersions);
-
-			startAt = releaseVersions.getNextStartAt();
+			return releaseVersions;
+		});
 
-		} while (releaseVersions.hasMoreResults());
+		pages.forEach(callback::doWithJiraReleaseVersions);
 
-		return releaseVersions;
+		return pages.get(pages.size() - 1);
 	}
 
 	private JiraReleaseVersions getJiraReleaseVersions(ProjectKey projectKey, HttpHeaders headers, int startAt) {
@@ -671,7 +674,74 @@ class Jira implements JiraConnector {
 		}
 	}
 
-	private Ticket toTicket(JiraIssue issue) {
+	/**
+	 * Partitions the given {@link JiraIssue}s of a whole {@link TrainIteration} by module and caches them as if they
+	 * had been looked up using {@link #getTicketsFor(ModuleIteration)} and {@link #getReleaseTicketFor(ModuleIteration)}.
+	 *
+	 * @param trainIteration
+	 * @param issues
+	 */
+	private void cacheTicketsPerModule(TrainIteration trainIteration, List<JiraIssue> issues) {
+
+		Cache tickets = cacheManager.getCache("tickets");
+		Cache releaseTickets = cacheManager.getCache("release-ticket");
+
+		trainIteration.stream() //
+				.filter(module -> supports(module.getProject())) //
+				.forEach(module -> {
+
+					Tickets moduleTickets = toTickets(module.getTrain(), issues.stream() //
+							.filter(issue -> issue.isFixedIn(module)) //
+							.collect(Collectors.toList()));
+
+					tickets.put(module, moduleTickets);
+
+					if (moduleTickets.hasReleaseTicket(module)) {
+						releaseTickets.put(module, moduleTickets.getReleaseTicket(module));
+					}
+				});
+	}
+
+	/**
+	 * Returns the {@link Tickets} of the given module from the cache backing {@link #getTicketsFor(ModuleIteration)}
+	 * as internal calls bypass the caching proxy.
+	 *
+	 * @param moduleIteration
+	 * @return
+	 */
+	private Tickets getCachedTicketsFor(ModuleIteration moduleIteration) {
+
+		Cache cache = cacheManager.getCache("tickets");
+		Tickets tickets = cache.get(moduleIteration, Tickets.class);
+
+		if (tickets == null) {
+
+			tickets = getTicketsFor(moduleIteration);
+			cache.put(moduleIteration, tickets);
+		}
+
+		return tickets;
+	}
+
+	/**
+	 * Creates {@link Tickets} from the given {@link JiraIssue}s skipping the ones backported from the given
+	 * {@link Train}.
+	 *
+	 * @param train
+	 * @param issues
+	 * @return
+	 */
+	static Tickets toTickets(Train train, List<JiraIssue> issues) {
+
+		List<Ticket> tickets = issues.stream() //
+				.filter(issue -> !issue.wasBackportedFrom(train)) //
+				.map(Jira::toTicket) //
+				.collect(Collectors.toList());
+
+		return new Tickets(tickets, issues.size());
+	}
+
+	static Ticket toTicket(JiraIssue issue) {
 
 		Fields fields = issue.getFields();
 		JiraTicketStatus jiraTicketStatus;
@@ -707,14 +777,6 @@ class Jira implements JiraConnector {
 		return parameters;
 	}
 
-	/**
-	 * Callback for {@link JiraIssues}.
-	 */
-	interface JiraIssuesCallback {
-
-		void doWithJiraIssues(JiraIssues jiraIssues);
-	}
-
 	/**
 	 * Callback for {@link JiraReleaseVersions}.
 	 */
@@ -73,6 +73,25 @@ class JiraIssue {
 		return fixVersions != null && wasBackportedFrom(train, fixVersions);
 	}
 
+	/**
+	 * Returns whether the ticket belongs to the project of the given {@link ModuleIteration} and is to be fixed in its
+	 * version.
+	 *
+	 * @param moduleIteration must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isFixedIn(ModuleIteration moduleIteration) {
+
+		Assert.notNull(moduleIteration, "ModuleIteration must not be null!");
+
+		List<FixVersion> fixVersions = fields.getFixVersions();
+		String version = new JiraVersion(moduleIteration).toString();
+
+		return key != null && key.startsWith(moduleIteration.getProjectKey() + "-") //
+				&& fixVersions != null //
+				&& fixVersions.stream().anyMatch(fixVersion -> version.equals(fixVersion.getName()));
+	}
+
 	/**
 	 * Returns whether the ticket is a release ticket.
 	 *
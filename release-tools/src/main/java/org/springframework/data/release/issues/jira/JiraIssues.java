@@ -18,28 +18,92 @@ package org.springframework.data.release.issues.jira;
 import lombok.Getter;
 import lombok.Value;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.data.release.issues.JsonStreams;
 import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * @author Oliver Gierke
  */
 @Value
-class JiraIssues implements Streamable<JiraIssue> {
+class JiraIssues implements Streamable<JiraIssue>, JiraPage {
 
 	int startAt, maxResult;
 	@Getter int total;
 	List<JiraIssue> issues = new ArrayList<>();
 
-	public int getNextStartAt() {
-		return startAt + issues.size();
+	/**
+	 * Reads {@link JiraIssues} from the given search response body, decoding the {@link JiraIssue}s one by one from the
+	 * token stream instead of binding the entire document.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param body must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	static JiraIssues read(ObjectMapper mapper, InputStream body) throws IOException {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(body, "Body must not be null!");
+
+		AtomicInteger startAt = new AtomicInteger();
+		AtomicInteger maxResults = new AtomicInteger();
+		AtomicInteger total = new AtomicInteger();
+		List<JiraIssue> issues = new ArrayList<>();
+
+		try (JsonParser parser = mapper.getFactory().createParser(body)) {
+
+			parser.nextToken();
+
+			JsonStreams.doWithFields(parser, (name, value) -> {
+
+				switch (name) {
+
+					case "startAt":
+						startAt.set(value.getIntValue());
+						break;
+
+					case "maxResults":
+						maxResults.set(value.getIntValue());
+						break;
+
+					case "total":
+						total.set(value.getIntValue());
+						break;
+
+					case "issues":
+						JsonStreams.stream(mapper, value, JiraIssue.class).forEach(issues::add);
+						break;
+
+					default:
+						value.skipChildren();
+				}
+			});
+		}
+
+		JiraIssues result = new JiraIssues(startAt.get(), maxResults.get(), total.get());
+		result.issues.addAll(issues);
+
+		return result;
 	}
 
-	public boolean hasMoreResults() {
-		return startAt + issues.size() < total;
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.jira.JiraPage#getSize()
+	 */
+	@Override
+	public int getSize() {
+		return issues.size();
 	}
 
 	public boolean hasIssues() {
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+/**
+ * A single page of a paginated Jira resource.
+ */
+interface JiraPage {
+
+	int getStartAt();
+
+	int getTotal();
+
+	/**
+	 * Returns the number of elements contained in this page.
+	 *
+	 * @return
+	 */
+	int getSize();
+
+	default int getNextStartAt() {
+		return getStartAt() + getSize();
+	}
+
+	default boolean hasMoreResults() {
+		return getNextStartAt() < getTotal();
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.util.Assert;
+
+/**
+ * Fetches all pages of a paginated Jira resource. The first page is requested to discover the total number of
+ * elements and the page size, the remaining {@code startAt} windows are then requested concurrently using at most the
+ * configured number of parallel requests. Pages are returned ordered by their {@code startAt} offset. Independent
+ * requests (e.g. multiple queries) can be fanned out as well. The limit applies to the page requests of all of them
+ * together, i.e. nesting pagination into a fan-out doesn't multiply the number of requests in flight.
+ */
+class JiraPaginator {
+
+	private final Executor executor;
+	private final int concurrency;
+	private final Semaphore permits;
+
+	/**
+	 * Creates a new {@link JiraPaginator} for the given {@link Executor} and maximum number of concurrent requests.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param concurrency must be greater than zero.
+	 */
+	JiraPaginator(Executor executor, int concurrency) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		this.executor = executor;
+		this.concurrency = concurrency;
+		this.permits = new Semaphore(concurrency);
+	}
+
+	/**
+	 * Returns all pages obtained by invoking the given page function with the {@code startAt} offset of each page.
+	 *
+	 * @param pageFunction must not be {@literal null}.
+	 * @return
+	 */
+	public <T extends JiraPage> List<T> getPages(IntFunction<T> pageFunction) {
+
+		Assert.notNull(pageFunction, "Page function must not be null!");
+
+		T first = request(pageFunction, 0);
+		int pageSize = first.getSize();
+
+		if (!first.hasMoreResults() || pageSize == 0) {
+			return Collections.singletonList(first);
+		}
+
+		int total = first.getTotal();
+		List<Integer> windows = IntStream.iterate(first.getNextStartAt(), it -> it + pageSize) //
+				.limit((total - first.getNextStartAt() + pageSize - 1) / pageSize) //
+				.boxed() //
+				.collect(Collectors.toList());
+
+		List<List<T>> windowPages = getConcurrently(windows,
+				startAt -> getWindow(pageFunction, startAt, Math.min(startAt + pageSize, total)));
+
+		List<T> pages = new ArrayList<>();
+		pages.add(first);
+
+		windowPages.forEach(pages::addAll);
+
+		return pages;
+	}
+
+	/**
+	 * Applies the given function to all requests using at most the configured number of concurrent invocations and
+	 * returns the results in the order of the given requests.
+	 *
+	 * @param requests must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return
+	 */
+	public <S, T> List<T> getConcurrently(List<S> requests, Function<S, T> function) {
+
+		Assert.notNull(requests, "Requests must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+
+		AtomicReferenceArray<T> results = new AtomicReferenceArray<>(requests.size());
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		AtomicInteger next = new AtomicInteger();
+		CountDownLatch completed = new CountDownLatch(requests.size());
+
+		Runnable worker = () -> {
+
+			for (int index = next.getAndIncrement(); index < requests.size(); index = next.getAndIncrement()) {
+
+				try {
+					results.set(index, function.apply(requests.get(index)));
+				} catch (RuntimeException o_O) {
+					failure.compareAndSet(null, o_O);
+				} finally {
+					completed.countDown();
+				}
+			}
+		};
+
+		// The calling thread takes part in fetching so that we don't depend on queued workers getting a thread. That's
+		// crucial as callers are usually running on the very same executor.
+		IntStream.range(1, Math.min(concurrency, requests.size())).forEach(it -> executor.execute(worker));
+		worker.run();
+
+		try {
+			completed.await();
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while fetching pages!", o_O);
+		}
+
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+
+		return IntStream.range(0, requests.size()).mapToObj(results::get).collect(Collectors.toList());
+	}
+
+	/**
+	 * Requests the pages for the given window. Usually that's a single page but the server might return fewer elements
+	 * than requested so that we continue until the window is covered.
+	 */
+	private <T extends JiraPage> List<T> getWindow(IntFunction<T> pageFunction, int startAt, int end) {
+
+		List<T> pages = new ArrayList<>();
+		T page;
+
+		do {
+
+			page = request(pageFunction, startAt);
+			pages.add(page);
+			startAt = page.getNextStartAt();
+
+		} while (startAt < end && page.hasMoreResults() && page.getSize() > 0);
+
+		return pages;
+	}
+
+	/**
+	 * Requests a single page holding one of the permits shared by all requests of this {@link JiraPaginator}. Permits are
+	 * only held for the request itself, never while waiting for other requests, so that nested fan-outs cannot deadlock.
+	 */
+	private <T extends JiraPage> T request(IntFunction<T> pageFunction, int startAt) {
+
+		try {
+			permits.acquire();
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while fetching pages!", o_O);
+		}
+
+		try {
+			return pageFunction.apply(startAt);
+		} finally {
+			permits.release();
+		}
+	}
+}
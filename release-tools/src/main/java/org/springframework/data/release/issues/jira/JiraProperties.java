@@ -41,6 +41,11 @@ class JiraProperties {
 	private @Getter(AccessLevel.PRIVATE) Password password;
 	private String username, apiUrl;
 
+	/**
+	 * Maximum number of pages of a paginated resource to be requested concurrently.
+	 */
+	private int pageConcurrency = 4;
+
 	@PostConstruct
 	public void init() {
 
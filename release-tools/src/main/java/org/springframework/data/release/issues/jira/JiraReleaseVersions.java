@@ -29,17 +29,18 @@ import org.springframework.data.util.Streamable;
  * @author Mark Paluch
  */
 @Value
-class JiraReleaseVersions implements Streamable<JiraReleaseVersion> {
+class JiraReleaseVersions implements Streamable<JiraReleaseVersion>, JiraPage {
 
 	int startAt, maxResults, total;
 	List<JiraReleaseVersion> values = new ArrayList<>();
 
-	public int getNextStartAt() {
-		return startAt + values.size();
-	}
-
-	public boolean hasMoreResults() {
-		return startAt + values.size() < total;
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.jira.JiraPage#getSize()
+	 */
+	@Override
+	public int getSize() {
+		return values.size();
 	}
 
 	/*
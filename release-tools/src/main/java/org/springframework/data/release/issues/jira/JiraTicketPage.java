@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.springframework.data.release.issues.JsonStreams;
+import org.springframework.data.release.issues.Ticket;
+import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A page of Jira search results already converted into {@link Ticket}s. Issues are decoded one by one from the
+ * response so that the raw {@link JiraIssue}s of a page are never held in memory at once.
+ */
+@Value
+class JiraTicketPage implements Streamable<Ticket>, JiraPage {
+
+	int startAt, total, size;
+	List<Ticket> tickets;
+
+	/**
+	 * Reads a {@link JiraTicketPage} from the given search response body, skipping the {@link JiraIssue}s not matching
+	 * the given filter.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param body must not be {@literal null}.
+	 * @param filter must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	static JiraTicketPage read(ObjectMapper mapper, InputStream body, Predicate<JiraIssue> filter) throws IOException {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(body, "Body must not be null!");
+		Assert.notNull(filter, "Filter must not be null!");
+
+		AtomicInteger startAt = new AtomicInteger();
+		AtomicInteger total = new AtomicInteger();
+		AtomicInteger size = new AtomicInteger();
+		List<Ticket> tickets = new ArrayList<>();
+
+		try (JsonParser parser = mapper.getFactory().createParser(body)) {
+
+			parser.nextToken();
+
+			JsonStreams.doWithFields(parser, (name, value) -> {
+
+				switch (name) {
+
+					case "startAt":
+						startAt.set(value.getIntValue());
+						break;
+
+					case "total":
+						total.set(value.getIntValue());
+						break;
+
+					case "issues":
+						JsonStreams.stream(mapper, value, JiraIssue.class) //
+								.peek(it -> size.incrementAndGet()) //
+								.filter(filter) //
+								.map(Jira::toTicket) //
+								.forEach(tickets::add);
+						break;
+
+					default:
+						value.skipChildren();
+				}
+			});
+		}
+
+		return new JiraTicketPage(startAt.get(), total.get(), size.get(), tickets);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<Ticket> iterator() {
+		return tickets.iterator();
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.data.release.issues.jira;
 
 import lombok.Value;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.stream.Stream;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
 
 /**
  * @author Oliver Gierke
@@ -36,6 +38,7 @@ class JqlQuery {
 
 	private static final String PROJECT_VERSION_TEMPLATE = "(project = %s AND fixVersion = \"%s\" )";
 	private static final String ISSUE_KEY_IN_TEMPLATE = "issueKey in (%s)";
+	private static final String TICKET_ID_SEPARATOR = ", ";
 
 	private final String query;
 
@@ -56,11 +59,53 @@ class JqlQuery {
 
 	public static JqlQuery from(Collection<String> ticketIds) {
 
-		String joinedTicketIds = ticketIds.stream().collect(Collectors.joining(", "));
+		String joinedTicketIds = ticketIds.stream().collect(Collectors.joining(TICKET_ID_SEPARATOR));
 
 		return new JqlQuery(String.format(ISSUE_KEY_IN_TEMPLATE, joinedTicketIds));
 	}
 
+	/**
+	 * Creates {@link JqlQuery} instances selecting the given tickets. Tickets are split across multiple queries so that
+	 * each query doesn't exceed the given length once URL-encoded.
+	 *
+	 * @param ticketIds must not be {@literal null}.
+	 * @param maxEncodedLength the maximum length of a URL-encoded query.
+	 * @return
+	 */
+	public static List<JqlQuery> from(Collection<String> ticketIds, int maxEncodedLength) {
+
+		Assert.notNull(ticketIds, "Ticket ids must not be null!");
+
+		int emptyLength = encodedLength(String.format(ISSUE_KEY_IN_TEMPLATE, ""));
+		int separatorLength = encodedLength(TICKET_ID_SEPARATOR);
+
+		List<JqlQuery> queries = new ArrayList<>();
+		List<String> chunk = new ArrayList<>();
+		int length = emptyLength;
+
+		for (String ticketId : ticketIds) {
+
+			int ticketLength = encodedLength(ticketId) + (chunk.isEmpty() ? 0 : separatorLength);
+
+			if (!chunk.isEmpty() && length + ticketLength > maxEncodedLength) {
+
+				queries.add(from(chunk));
+				chunk = new ArrayList<>();
+				length = emptyLength;
+				ticketLength = encodedLength(ticketId);
+			}
+
+			chunk.add(ticketId);
+			length += ticketLength;
+		}
+
+		if (!chunk.isEmpty()) {
+			queries.add(from(chunk));
+		}
+
+		return queries;
+	}
+
 	public static JqlQuery from(Stream<ModuleIteration> stream) {
 
 		List<String> parts = new ArrayList<>();
@@ -81,6 +126,10 @@ class JqlQuery {
 		return new JqlQuery(String.format("%s ORDER BY %s", query, orderBy));
 	}
 
+	private static int encodedLength(String source) {
+		return UriUtils.encode(source, StandardCharsets.UTF_8).length();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+import static org.springframework.data.release.issues.jira.Jira.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.data.release.issues.Changelog;
+import org.springframework.data.release.issues.ChangelogStore;
+import org.springframework.data.release.issues.ChangelogStore.Snapshot;
+import org.springframework.data.release.issues.ReactiveIssueTracker;
+import org.springframework.data.release.issues.Ticket;
+import org.springframework.data.release.issues.Tickets;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.Tracker;
+import org.springframework.data.release.model.TrainIteration;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Non-blocking {@link ReactiveIssueTracker} for Jira. Search results are requested page by page, pages following the
+ * first one are requested concurrently and emitted in order. Changelogs are updated incrementally from the issues
+ * stored in the {@link ChangelogStore}.
+ */
+@Component
+class ReactiveJira implements ReactiveIssueTracker {
+
+	private final WebClient client;
+	private final Logger logger;
+	private final JiraProperties jiraProperties;
+	private final ChangelogStore changelogs;
+	private final ObjectMapper mapper;
+
+	/**
+	 * @param builder
+	 * @param logger
+	 * @param jiraProperties
+	 * @param changelogs
+	 * @param mapper
+	 */
+	public ReactiveJira(@Qualifier("tracker") WebClient.Builder builder, Logger logger, JiraProperties jiraProperties,
+			ChangelogStore changelogs, ObjectMapper mapper) {
+
+		this.client = builder.clone().baseUrl(String.format("%s/rest/api/2", jiraProperties.getApiUrl())).build();
+		this.logger = logger;
+		this.jiraProperties = jiraProperties;
+		this.changelogs = changelogs;
+		this.mapper = mapper;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.ReactiveIssueTracker#getTicketsFor(org.springframework.data.release.model.TrainIteration, boolean)
+	 */
+	@Override
+	public Mono<Tickets> getTicketsFor(TrainIteration iteration, boolean forCurrentUser) {
+		return getIssuesFor(iteration, forCurrentUser).map(issues -> toTickets(iteration.getTrain(), issues));
+	}
+
+	/**
+	 * Looks up the issues of all modules of the given {@link TrainIteration} using a single query.
+	 *
+	 * @param iteration must not be {@literal null}.
+	 * @param forCurrentUser
+	 * @return
+	 */
+	Mono<List<JiraIssue>> getIssuesFor(TrainIteration iteration, boolean forCurrentUser) {
+
+		JqlQuery query = JqlQuery.from(iteration.stream().filter(module -> supports(module.getProject())));
+
+		if (forCurrentUser) {
+			query = query.and("assignee = currentUser()");
+			logger.log(iteration, "Retrieving tickets (for user %s)…", jiraProperties.getUsername());
+		} else {
+			logger.log(iteration, "Retrieving tickets…");
+		}
+
+		return getPages(iteration.toString(), query.orderBy("updatedDate DESC"), TICKET_FIELDS_WITH_VERSIONS, true) //
+				.concatMapIterable(JiraIssues::getIssues) //
+				.collectList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.ReactiveIssueTracker#getReleaseTicketFor(org.springframework.data.release.model.ModuleIteration)
+	 */
+	@Override
+	public Mono<Ticket> getReleaseTicketFor(ModuleIteration module) {
+
+		JqlQuery query = JqlQuery.from(module)
+				.and(String.format("summary ~ \"%s\"", Tracker.releaseTicketSummary(module)));
+
+		return getPage(query, TICKET_FIELDS, 0, false) //
+				.flatMap(issues -> issues.hasIssues() //
+						? Mono.just(toTicket(issues.iterator().next())) //
+						: Mono.error(new IllegalArgumentException(
+								String.format("Did not find a release ticket for %s!", module))));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.release.issues.ReactiveIssueTracker#getChangelogFor(org.springframework.data.release.model.ModuleIteration)
+	 */
+	@Override
+	public Mono<Changelog> getChangelogFor(ModuleIteration module) {
+
+		logger.log(module, "Looking up JIRA issues…");
+
+		JqlQuery query = JqlQuery.from(module);
+		Instant now = Instant.now();
+
+		return Mono.justOrEmpty(changelogs.get(module, JiraIssue.class)) //
+				.flatMap(snapshot -> getUpdatedIssues(module, query, snapshot, now)) //
+				.switchIfEmpty(Mono.defer(() -> getIssues(module, query) //
+						.map(issues -> Snapshot.of(now, issues, JiraIssue::getKey)))) //
+				.doOnNext(snapshot -> changelogs.save(module, snapshot)) //
+				.map(snapshot -> snapshot.getIssues().stream() //
+						.map(Jira::toTicket) //
+						.collect(Tickets.toTicketsCollector())) //
+				.doOnNext(tickets -> logger.log(module, "Created changelog with %s entries.", tickets.getOverallTotal())) //
+				.map(tickets -> Changelog.of(module, tickets));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(Project project) {
+		return project.uses(Tracker.JIRA);
+	}
+
+	private Mono<List<JiraIssue>> getIssues(ModuleIteration module, JqlQuery query) {
+
+		return getPages(module.toString(), query.orderBy("key"), TICKET_FIELDS, false) //
+				.concatMapIterable(JiraIssues::getIssues) //
+				.collectList();
+	}
+
+	/**
+	 * Merges the issues updated since the given {@link Snapshot} was taken into the latter. Issues no longer matching
+	 * the query don't show up as updates, so the merged {@link Snapshot} is only used if its size matches the current
+	 * total number of issues. Returns an empty {@link Mono} otherwise.
+	 *
+	 * @param module
+	 * @param query
+	 * @param snapshot
+	 * @param now
+	 * @return
+	 */
+	private Mono<Snapshot<JiraIssue>> getUpdatedIssues(ModuleIteration module, JqlQuery query,
+			Snapshot<JiraIssue> snapshot, Instant now) {
+
+		// Relative dates are evaluated by the server and thus independent of time zones and clock skew
+		long minutes = snapshot.getAge(now).toMinutes() + 1;
+		JqlQuery updated = query.and(String.format("updated >= \"-%dm\"", minutes));
+
+		return Mono.zip(getIssues(module, updated), getTotal(query)) //
+				.flatMap(it -> {
+
+					Snapshot<JiraIssue> merged = snapshot.merge(now, it.getT1(), JiraIssue::getKey);
+
+					if (merged.getIssues().size() != it.getT2()) {
+
+						logger.log(module, "Tickets were removed since the last changelog, looking up all tickets…");
+						return Mono.empty();
+					}
+
+					logger.log(module, "Found %s tickets updated since the last changelog.", it.getT1().size());
+
+					return Mono.just(merged);
+				});
+	}
+
+	private Mono<Integer> getTotal(JqlQuery query) {
+
+		return client.get() //
+				.uri(COUNT_TEMPLATE, query) //
+				.retrieve() //
+				.bodyToMono(JiraIssues.class) //
+				.map(JiraIssues::getTotal);
+	}
+
+	/**
+	 * Requests the first page to learn about the total number of issues and the page size and requests the remaining
+	 * pages concurrently. Should the server return fewer issues than the page size, the window is completed by
+	 * subsequent requests.
+	 */
+	private Flux<JiraIssues> getPages(String context, JqlQuery query, String fields, boolean authenticated) {
+
+		return getPage(query, fields, 0, authenticated).flatMapMany(first -> {
+
+			logger.log(context, "Got tickets %s to %s of %s.", 0, first.getNextStartAt(), first.getTotal());
+
+			int pageSize = first.getSize();
+
+			if (!first.hasMoreResults() || pageSize == 0) {
+				return Flux.just(first);
+			}
+
+			Flux<JiraIssues> remaining = Flux
+					.fromStream(IntStream.iterate(first.getNextStartAt(), it -> it + pageSize) //
+							.limit((first.getTotal() - first.getNextStartAt() + pageSize - 1) / pageSize) //
+							.boxed()) //
+					.flatMapSequential(startAt -> {
+
+						int end = Math.min(startAt + pageSize, first.getTotal());
+
+						return getPage(query, fields, startAt, authenticated) //
+								.expand(page -> page.getNextStartAt() < end && page.hasMoreResults() && page.getSize() > 0 //
+										? getPage(query, fields, page.getNextStartAt(), authenticated) //
+										: Mono.empty()) //
+								.doOnNext(page -> logger.log(context, "Got tickets %s to %s of %s.", page.getStartAt(),
+										page.getNextStartAt(), page.getTotal()));
+
+					}, jiraProperties.getPageConcurrency());
+
+			return Flux.just(first).concatWith(remaining);
+		});
+	}
+
+	private Mono<JiraIssues> getPage(JqlQuery query, String fields, int startAt, boolean authenticated) {
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("jql", query);
+		parameters.put("fields", fields);
+		parameters.put("startAt", startAt);
+
+		return client.get() //
+				.uri(SEARCH_TEMPLATE, parameters) //
+				.headers(headers -> {
+					if (authenticated) {
+						headers.set(HttpHeaders.AUTHORIZATION, jiraProperties.getCredentials().toString());
+					}
+				}) //
+				.retrieve() //
+				.bodyToFlux(DataBuffer.class) //
+				.as(DataBufferUtils::join) //
+				.map(this::read);
+	}
+
+	/**
+	 * Decodes the {@link JiraIssues} from the given {@link DataBuffer} using the token stream rather than binding the
+	 * entire document. Releases the buffer.
+	 */
+	private JiraIssues read(DataBuffer buffer) {
+
+		try {
+			return JiraIssues.read(mapper, buffer.asInputStream(true));
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+}
@@ -80,7 +80,7 @@ public class ReleaseOperations {
 
 			for (String location : CHANGELOG_LOCATIONS) {
 
-				boolean processed = workspace.processFile(location, module.getProject(), (line, number) -> {
+				boolean processed = workspace.processFile(location, module, (line, number) -> {
 
 					if (line.startsWith("=")) {
 
@@ -108,7 +108,7 @@ public class ReleaseOperations {
 
 		iteration.stream().forEach(module -> {
 
-			boolean processed = workspace.processFile("src/main/resources/notice.txt", module.getProject(),
+			boolean processed = workspace.processFile("src/main/resources/notice.txt", module,
 					(line, number) -> Optional.of(number != 0 ? line : module.toString()));
 
 			if (processed) {
@@ -21,7 +21,6 @@ import lombok.experimental.FieldDefaults;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -32,7 +31,6 @@ import org.springframework.data.release.model.Module;
 import org.springframework.data.release.model.Project;
 import org.springframework.data.release.model.Projects;
 import org.springframework.data.release.model.Train;
-import org.springframework.data.release.model.Version;
 import org.springframework.data.release.utils.ExecutionUtils;
 import org.springframework.data.release.utils.ListWrapperCollector;
 import org.springframework.data.release.utils.Logger;
@@ -106,8 +104,7 @@ class SaganOperations {
 
 		Project project = module.getProject();
 
-		MaintainedVersion version = git.getTags(project).stream()//
-				.filter(tag -> matches(tag, module.getVersion())).max(Comparator.naturalOrder()) //
+		MaintainedVersion version = git.getTags(project).findLatestWithin(module.getVersion())//
 				.flatMap(Tag::toArtifactVersion) //
 				.map(it -> MaintainedVersion.of(module.getProject(), it, train)) //
 				.orElseGet(() -> MaintainedVersion.snapshot(module, train));
@@ -116,18 +113,4 @@ class SaganOperations {
 
 		return version;
 	}
-
-	/**
-	 * Returns whether the given {@link Tag} is one that logically belongs to the given version.
-	 *
-	 * @param tag must not be {@literal null}.
-	 * @param version must not be {@literal null}.
-	 * @return
-	 */
-	private static boolean matches(Tag tag, Version version) {
-
-		return tag.toArtifactVersion()//
-				.map(it -> it.isVersionWithin(version))//
-				.orElse(false);
-	}
 }
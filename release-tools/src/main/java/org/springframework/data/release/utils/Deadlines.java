@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.util.Assert;
+
+/**
+ * Value object to capture the deadlines for a scoped parallel execution, see
+ * {@link ExecutionUtils#runFailFast(org.springframework.data.util.Streamable, ExecutionUtils.ConsumerWithException, Deadlines)}.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Deadlines {
+
+	public static final Deadlines NONE = new Deadlines(Optional.empty(), Optional.empty());
+
+	Optional<Duration> perTask, overall;
+
+	/**
+	 * Creates {@link Deadlines} that limit the execution time of each individual task to the given {@link Duration}.
+	 *
+	 * @param timeout must not be {@literal null}.
+	 * @return
+	 */
+	public static Deadlines perTask(Duration timeout) {
+		return NONE.andPerTask(timeout);
+	}
+
+	/**
+	 * Creates {@link Deadlines} that limit the execution time of all tasks to the given {@link Duration}.
+	 *
+	 * @param timeout must not be {@literal null}.
+	 * @return
+	 */
+	public static Deadlines overall(Duration timeout) {
+		return NONE.andOverall(timeout);
+	}
+
+	/**
+	 * Returns new {@link Deadlines} with the given per-task timeout.
+	 *
+	 * @param timeout must not be {@literal null}.
+	 * @return
+	 */
+	public Deadlines andPerTask(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+		Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative!");
+
+		return new Deadlines(Optional.of(timeout), overall);
+	}
+
+	/**
+	 * Returns new {@link Deadlines} with the given overall timeout.
+	 *
+	 * @param timeout must not be {@literal null}.
+	 * @return
+	 */
+	public Deadlines andOverall(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+		Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative!");
+
+		return new Deadlines(perTask, Optional.of(timeout));
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.release.utils.ExecutionProperties.Mode;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Sets up the {@link InstrumentedExecutor} used by {@link ExecutionUtils} to run blocking work (Git, HTTP, file I/O)
+ * outside of the JVM-wide common fork/join pool.
+ */
+@Slf4j
+@Configuration
+class ExecutionConfiguration {
+
+	private static final String VIRTUAL_THREAD_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+	@Bean(destroyMethod = "shutdown")
+	InstrumentedExecutor releaseExecutor(ExecutionProperties properties) {
+
+		InstrumentedExecutor executor = createExecutor(properties);
+
+		ExecutionUtils.setExecutor(executor);
+
+		return executor;
+	}
+
+	private static InstrumentedExecutor createExecutor(ExecutionProperties properties) {
+
+		if (properties.getMode() == Mode.VIRTUAL) {
+
+			Method factoryMethod = ReflectionUtils.findMethod(java.util.concurrent.Executors.class,
+					VIRTUAL_THREAD_FACTORY_METHOD);
+
+			if (factoryMethod != null) {
+
+				log.info("Using virtual threads for parallel execution.");
+
+				ExecutorService service = (ExecutorService) ReflectionUtils.invokeMethod(factoryMethod, null);
+				return new InstrumentedExecutor("virtual", service, Integer.MAX_VALUE);
+			}
+
+			log.warn("Virtual threads require JDK 21 or newer, falling back to a bounded pool.");
+		}
+
+		log.info("Using a pool of {} threads for parallel execution.", properties.getPoolSize());
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("release-io-");
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor service = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(), 1,
+				TimeUnit.MINUTES, new LinkedBlockingQueue<>(properties.getQueueCapacity()), threadFactory,
+				new CallerRunsPolicy());
+		service.allowCoreThreadTimeOut(true);
+
+		return new InstrumentedExecutor("pool", service, properties.getPoolSize());
+	}
+}
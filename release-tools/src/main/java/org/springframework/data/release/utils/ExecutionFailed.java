@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.release.model.ProjectAware;
+import org.springframework.util.StringUtils;
+
+/**
+ * Exception to aggregate the outcome of a fail-fast parallel execution in which at least one task failed or the
+ * deadline expired.
+ */
+public class ExecutionFailed extends RuntimeException {
+
+	private static final long serialVersionUID = -4632145617447530519L;
+
+	private final List<Outcome> outcomes;
+
+	ExecutionFailed(List<Outcome> outcomes) {
+
+		super(toSummary(outcomes), outcomes.stream().map(Outcome::getFailure).filter(it -> it != null).findFirst()
+				.orElse(null));
+
+		this.outcomes = Collections.unmodifiableList(outcomes);
+	}
+
+	/**
+	 * Returns the {@link Outcome}s of all tasks in submission order.
+	 *
+	 * @return
+	 */
+	public List<Outcome> getOutcomes() {
+		return outcomes;
+	}
+
+	private static String toSummary(List<Outcome> outcomes) {
+
+		StringBuilder builder = new StringBuilder();
+
+		builder.append("Execution summary");
+		builder.append("\n");
+		builder.append(StringUtils.collectionToDelimitedString(outcomes, "\n"));
+
+		return builder.toString();
+	}
+
+	/**
+	 * The outcome of an individual task.
+	 */
+	public static class Outcome {
+
+		private final Object element;
+		private final Status status;
+		private final Throwable failure;
+
+		Outcome(Object element, Status status, Throwable failure) {
+
+			this.element = element;
+			this.status = status;
+			this.failure = failure;
+		}
+
+		public Object getElement() {
+			return element;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public Throwable getFailure() {
+			return failure;
+		}
+
+		public boolean isSuccessful() {
+			return status == Status.SUCCESSFUL;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+
+			String name = element instanceof ProjectAware ? ((ProjectAware) element).getProject().getName()
+					: String.valueOf(element);
+
+			return String.format("%20s - %s", name,
+					status == Status.FAILED ? "Error: " + failure.getMessage() : status.getDescription());
+		}
+	}
+
+	public enum Status {
+
+		SUCCESSFUL("Successful"), FAILED("Error"), TIMED_OUT("Timed out"), CANCELLED("Cancelled");
+
+		private final String description;
+
+		private Status(String description) {
+			this.description = description;
+		}
+
+		String getDescription() {
+			return description;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the executor used to fan out work across modules, see {@link ExecutionUtils}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "execution")
+class ExecutionProperties {
+
+	/**
+	 * The kind of executor to use.
+	 */
+	private Mode mode = Mode.POOL;
+
+	/**
+	 * Number of threads of the bounded pool. Defaults to twice the number of available processors but at least 8 as most
+	 * of the work executed is blocking I/O.
+	 */
+	private int poolSize = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
+	/**
+	 * Capacity of the work queue of the bounded pool. Work submitted beyond that is executed by the submitting thread.
+	 */
+	private int queueCapacity = 256;
+
+	enum Mode {
+
+		/**
+		 * A bounded pool of platform threads, see {@link ExecutionProperties#getPoolSize()}.
+		 */
+		POOL,
+
+		/**
+		 * A new virtual thread per task. Requires JDK 21 or newer, falls back to {@link #POOL} otherwise.
+		 */
+		VIRTUAL;
+	}
+}
@@ -17,24 +17,75 @@ package org.springframework.data.release.utils;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
+import org.springframework.data.release.utils.ExecutionFailed.Outcome;
+import org.springframework.data.release.utils.ExecutionFailed.Status;
 import org.springframework.data.util.Streamable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
- * Utility method to easily execute functionality in parallel.
+ * Utility method to easily execute functionality in parallel. Work is dispatched to the {@link Executor} configured
+ * through {@link ExecutionConfiguration} and falls back to the common fork/join pool if none was configured.
  *
  * @author Oliver Gierke
  */
 @Slf4j
 public class ExecutionUtils {
 
+	private static final Duration CANCELLATION_GRACE_PERIOD = Duration.ofSeconds(10);
+	private static final ScheduledExecutorService WATCHDOG = Executors
+			.newSingleThreadScheduledExecutor(daemonThreadFactory("execution-watchdog-"));
+
+	private static volatile Executor executor = ForkJoinPool.commonPool();
+
+	/**
+	 * Configures the {@link Executor} to use for parallel execution.
+	 *
+	 * @param executor must not be {@literal null}.
+	 */
+	static void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+
+		ExecutionUtils.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} currently used for parallel execution.
+	 *
+	 * @return
+	 */
+	public static Executor getExecutor() {
+		return executor;
+	}
+
 	/**
 	 * Runs the given {@link ConsumerWithException} for each element in the given {@link Iterable} in parallel waiting for
 	 * all executions to complete before returning. Exceptions being thrown in the {@link ConsumerWithException} will be
@@ -44,7 +95,20 @@ public class ExecutionUtils {
 	 * @param consumer must not be {@literal null}.
 	 */
 	public static <T> void run(Streamable<T> streamable, ConsumerWithException<T> consumer) {
+		run(executor, streamable, consumer);
+	}
 
+	/**
+	 * Runs the given {@link ConsumerWithException} for each element in the given {@link Iterable} in parallel on the given
+	 * {@link Executor} waiting for all executions to complete before returning.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param streamable must not be {@literal null}.
+	 * @param consumer must not be {@literal null}.
+	 */
+	public static <T> void run(Executor executor, Streamable<T> streamable, ConsumerWithException<T> consumer) {
+
+		Assert.notNull(executor, "Executor must not be null!");
 		Assert.notNull(streamable, "Streamable must not be null!");
 		Assert.notNull(consumer, "Consumer must not be null!");
 
@@ -56,7 +120,199 @@ public class ExecutionUtils {
 						log.error(o_O.getMessage(), o_O);
 						throw new RuntimeException(o_O);
 					}
-				})).collect(Collectors.toList()).forEach(CompletableFuture::join);
+				}, executor)).collect(Collectors.toList()).forEach(CompletableFuture::join);
+	}
+
+	/**
+	 * Runs the given {@link ConsumerWithException} for each element in the given {@link Streamable} in parallel,
+	 * cancelling all other tasks on the first failure.
+	 *
+	 * @param streamable must not be {@literal null}.
+	 * @param consumer must not be {@literal null}.
+	 * @throws ExecutionFailed aggregating the outcome of all tasks in case at least one of them failed.
+	 * @see #runFailFast(Streamable, ConsumerWithException, Deadlines)
+	 */
+	public static <T> void runFailFast(Streamable<T> streamable, ConsumerWithException<T> consumer) {
+		runFailFast(streamable, consumer, Deadlines.NONE);
+	}
+
+	/**
+	 * Runs the given {@link ConsumerWithException} for each element in the given {@link Streamable} in parallel within
+	 * the given {@link Deadlines}. The first failing task cancels all other tasks still running or waiting to run,
+	 * interrupting them. Expiry of the overall deadline cancels all tasks not completed yet. Returns after all tasks have
+	 * completed or were cancelled.
+	 *
+	 * @param streamable must not be {@literal null}.
+	 * @param consumer must not be {@literal null}.
+	 * @param deadlines must not be {@literal null}.
+	 * @throws ExecutionFailed aggregating the outcome of all tasks in case at least one of them did not succeed.
+	 */
+	public static <T> void runFailFast(Streamable<T> streamable, ConsumerWithException<T> consumer,
+			Deadlines deadlines) {
+		runFailFast(executor, streamable, consumer, deadlines);
+	}
+
+	/**
+	 * Runs the given {@link ConsumerWithException} for each element in the given {@link Streamable} in parallel on the
+	 * given {@link Executor} within the given {@link Deadlines} cancelling all other tasks on the first failure.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param streamable must not be {@literal null}.
+	 * @param consumer must not be {@literal null}.
+	 * @param deadlines must not be {@literal null}.
+	 * @throws ExecutionFailed aggregating the outcome of all tasks in case at least one of them did not succeed.
+	 * @see #runFailFast(Streamable, ConsumerWithException, Deadlines)
+	 */
+	public static <T> void runFailFast(Executor executor, Streamable<T> streamable, ConsumerWithException<T> consumer,
+			Deadlines deadlines) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.notNull(streamable, "Streamable must not be null!");
+		Assert.notNull(consumer, "Consumer must not be null!");
+		Assert.notNull(deadlines, "Deadlines must not be null!");
+
+		List<T> elements = streamable.toList();
+		CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+		Map<Future<Void>, Integer> indexes = new IdentityHashMap<>();
+		List<Future<Void>> futures = new ArrayList<>(elements.size());
+		Outcome[] outcomes = new Outcome[elements.size()];
+		TaskState[] states = new TaskState[elements.size()];
+		AtomicBoolean failed = new AtomicBoolean();
+
+		// Started tasks register as parties, the submitting thread as well so that it can wait for them to terminate
+		Phaser running = new Phaser(1);
+
+		Optional<Long> deadline = deadlines.getOverall().map(it -> System.nanoTime() + it.toNanos());
+
+		for (int i = 0; i < elements.size(); i++) {
+
+			T element = elements.get(i);
+			TaskState state = states[i] = new TaskState();
+
+			// Tasks run by the submitting thread (see InstrumentedExecutor) cannot be cancelled by the loop below, so a task
+			// starting after a sibling failed skips its work right away.
+			Future<Void> future = completionService.submit(() -> {
+
+				if (failed.get()) {
+					throw new CancellationException();
+				}
+
+				running.register();
+				state.start(deadlines.getPerTask());
+
+				try {
+					consumer.accept(element);
+					return null;
+				} catch (Exception o_O) {
+					failed.set(true);
+					throw o_O;
+				} finally {
+					state.complete();
+					running.arriveAndDeregister();
+				}
+			});
+
+			indexes.put(future, i);
+			futures.add(future);
+		}
+
+		for (int remaining = elements.size(); remaining > 0; remaining--) {
+
+			Future<Void> future;
+
+			try {
+
+				future = deadline.isPresent() //
+						? completionService.poll(deadline.get() - System.nanoTime(), TimeUnit.NANOSECONDS) //
+						: completionService.take();
+
+			} catch (InterruptedException o_O) {
+
+				Thread.currentThread().interrupt();
+				futures.forEach(it -> it.cancel(true));
+				break;
+			}
+
+			if (future == null) {
+
+				log.warn("Overall deadline of {} expired, cancelling remaining tasks.", deadlines.getOverall().get());
+
+				for (int i = 0; i < futures.size(); i++) {
+					if (outcomes[i] == null && futures.get(i).cancel(true)) {
+						outcomes[i] = new Outcome(elements.get(i), Status.TIMED_OUT, null);
+					}
+				}
+
+				break;
+			}
+
+			int index = indexes.get(future);
+			Outcome outcome = outcomes[index] = toOutcome(elements.get(index), future, states[index]);
+
+			if (outcome.getStatus() == Status.FAILED) {
+				log.error(outcome.getFailure().getMessage(), outcome.getFailure());
+			}
+
+			if (outcome.getStatus() == Status.FAILED || outcome.getStatus() == Status.TIMED_OUT) {
+
+				// Cancelled tasks are only queued once they returned, so wait for them below with a grace period instead
+				futures.forEach(it -> it.cancel(true));
+				break;
+			}
+		}
+
+		awaitTermination(running);
+
+		List<Outcome> result = new ArrayList<>(elements.size());
+
+		// Tasks completed but not polled yet when the loop was left still report their actual outcome
+		for (int i = 0; i < outcomes.length; i++) {
+
+			Future<Void> future = futures.get(i);
+
+			if (outcomes[i] != null) {
+				result.add(outcomes[i]);
+			} else if (future.isDone()) {
+				result.add(toOutcome(elements.get(i), future, states[i]));
+			} else {
+				result.add(new Outcome(elements.get(i), Status.CANCELLED, null));
+			}
+		}
+
+		if (!result.stream().allMatch(Outcome::isSuccessful)) {
+			throw new ExecutionFailed(result);
+		}
+	}
+
+	/**
+	 * Returns the {@link Outcome} of the given completed {@link Future}.
+	 */
+	private static Outcome toOutcome(Object element, Future<Void> future, TaskState state) {
+
+		try {
+
+			future.get();
+			return new Outcome(element, Status.SUCCESSFUL, null);
+
+		} catch (CancellationException o_O) {
+			return new Outcome(element, Status.CANCELLED, null);
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			return new Outcome(element, Status.CANCELLED, null);
+
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof CancellationException) {
+				return new Outcome(element, Status.CANCELLED, null);
+			}
+
+			return state.isTimedOut() //
+					? new Outcome(element, Status.TIMED_OUT, null) //
+					: new Outcome(element, Status.FAILED, cause);
+		}
 	}
 
 	/**
@@ -73,12 +329,29 @@ public class ExecutionUtils {
 
 	public static <T, S, R> R runAndReturn(Streamable<T> streamable, Function<T, S> function,
 			Collector<? super S, ?, R> collector) {
+		return runAndReturn(executor, streamable, function, collector);
+	}
 
+	/**
+	 * Runs the given {@link Function} for each element in the given {@link Streamable} in parallel on the given
+	 * {@link Executor} waiting for all executions to complete before collecting the results using the given
+	 * {@link Collector}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param streamable must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @param collector must not be {@literal null}.
+	 * @return
+	 */
+	public static <T, S, R> R runAndReturn(Executor executor, Streamable<T> streamable, Function<T, S> function,
+			Collector<? super S, ?, R> collector) {
+
+		Assert.notNull(executor, "Executor must not be null!");
 		Assert.notNull(streamable, "Iterable must not be null!");
 		Assert.notNull(function, "Function must not be null!");
 
 		return streamable.stream().//
-				map(it -> CompletableFuture.supplyAsync(() -> function.apply(it))).//
+				map(it -> CompletableFuture.supplyAsync(() -> function.apply(it), executor)).//
 				filter(Objects::nonNull).//
 				collect(Collectors.toList()).//
 				stream().//
@@ -86,6 +359,77 @@ public class ExecutionUtils {
 				collect(collector);
 	}
 
+	/**
+	 * Waits for interrupted tasks to actually terminate, giving up after {@link #CANCELLATION_GRACE_PERIOD} as blocking
+	 * I/O doesn't necessarily react to interrupts.
+	 */
+	private static void awaitTermination(Phaser running) {
+
+		try {
+			running.awaitAdvanceInterruptibly(running.arrive(), CANCELLATION_GRACE_PERIOD.toNanos(),
+					TimeUnit.NANOSECONDS);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException o_O) {
+			log.warn("{} cancelled task(s) still running after {}.", running.getUnarrivedParties(),
+					CANCELLATION_GRACE_PERIOD);
+		}
+	}
+
+	private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+
+		CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+		factory.setDaemon(true);
+
+		return factory;
+	}
+
+	/**
+	 * Tracks the execution of a single task to interrupt it once its deadline expires. Interrupting the thread and
+	 * completing the task are mutually exclusive so that an interrupt never leaks into the next task executed by the
+	 * same thread.
+	 */
+	private static class TaskState {
+
+		private Thread thread;
+		private ScheduledFuture<?> watchdog;
+		private boolean completed, timedOut;
+
+		synchronized void start(Optional<Duration> timeout) {
+
+			this.thread = Thread.currentThread();
+			this.watchdog = timeout.map(it -> WATCHDOG.schedule(this::timeout, it.toNanos(), TimeUnit.NANOSECONDS))
+					.orElse(null);
+		}
+
+		synchronized void complete() {
+
+			if (watchdog != null) {
+				watchdog.cancel(false);
+			}
+
+			if (timedOut) {
+				Thread.interrupted();
+			}
+
+			this.completed = true;
+		}
+
+		synchronized boolean isTimedOut() {
+			return timedOut;
+		}
+
+		private synchronized void timeout() {
+
+			if (completed) {
+				return;
+			}
+
+			this.timedOut = true;
+			thread.interrupt();
+		}
+	}
+
 	public static interface ConsumerWithException<T> {
 
 		void accept(T t) throws Exception;
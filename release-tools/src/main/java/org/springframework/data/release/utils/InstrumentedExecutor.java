@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import lombok.Value;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Executor} decorating an {@link ExecutorService} to keep track of the number of queued and active tasks. Tasks
+ * submitted from a thread that is currently executing a task are handed to the pool as long as it has a thread left for
+ * them. Only if all threads are taken already, they are run in the submitting thread so that nested fan-outs cannot
+ * queue up behind the very tasks waiting for them.
+ */
+public class InstrumentedExecutor implements Executor {
+
+	private final ThreadLocal<Boolean> worker = ThreadLocal.withInitial(() -> false);
+
+	private final String name;
+	private final ExecutorService delegate;
+	private final int threads;
+
+	private final AtomicInteger claimed = new AtomicInteger();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicInteger peakActive = new AtomicInteger();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong inlined = new AtomicLong();
+
+	/**
+	 * Creates a new {@link InstrumentedExecutor} for the given name and {@link ExecutorService}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param delegate must not be {@literal null}.
+	 * @param threads the maximum number of threads of the given {@link ExecutorService}, {@link Integer#MAX_VALUE} if
+	 *          unbounded.
+	 */
+	public InstrumentedExecutor(String name, ExecutorService delegate, int threads) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+		Assert.notNull(delegate, "Executor service must not be null!");
+		Assert.isTrue(threads > 0, "Number of threads must be greater than zero!");
+
+		this.name = name;
+		this.delegate = delegate;
+		this.threads = threads;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void execute(Runnable command) {
+
+		Assert.notNull(command, "Command must not be null!");
+
+		// Every task claims a thread until it completes. A nested task not getting one would wait in the queue for tasks
+		// possibly blocked on it, so it's run by the submitting thread instead.
+		if (claimed.incrementAndGet() > threads && worker.get()) {
+
+			claimed.decrementAndGet();
+			inlined.incrementAndGet();
+			command.run();
+
+			return;
+		}
+
+		queued.incrementAndGet();
+
+		try {
+			delegate.execute(() -> run(command));
+		} catch (RuntimeException o_O) {
+
+			queued.decrementAndGet();
+			claimed.decrementAndGet();
+			throw o_O;
+		}
+	}
+
+	private void run(Runnable command) {
+
+		boolean nested = worker.get();
+
+		queued.decrementAndGet();
+		peakActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+		worker.set(true);
+
+		try {
+			command.run();
+		} finally {
+
+			worker.set(nested);
+			active.decrementAndGet();
+			claimed.decrementAndGet();
+			completed.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the current {@link Statistics}.
+	 *
+	 * @return
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(name, queued.get(), active.get(), peakActive.get(), completed.get(), inlined.get());
+	}
+
+	/**
+	 * Shuts down the underlying {@link ExecutorService} waiting a bit for currently running tasks to complete.
+	 */
+	public void shutdown() {
+
+		delegate.shutdown();
+
+		try {
+			delegate.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Point-in-time statistics of an {@link InstrumentedExecutor}.
+	 */
+	@Value
+	public static class Statistics {
+
+		String name;
+		int queueDepth, activeTasks, peakActiveTasks;
+		long completedTasks, inlinedTasks;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s: %s queued, %s active (peak %s), %s completed, %s run inline", name, queueDepth,
+					activeTasks, peakActiveTasks, completedTasks, inlinedTasks);
+		}
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.release.model.TestProjects.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.build.CommandLine.Goal;
+import org.springframework.data.release.git.GitOperations;
+import org.springframework.data.release.build.MavenProperties.Backend;
+import org.springframework.data.release.io.OsOperations;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.util.unit.DataSize;
+import org.xmlbeam.XBProjector;
+
+/**
+ * Unit tests for {@link BuildCache}.
+ */
+public class BuildCacheUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	GitOperations git = mock(GitOperations.class);
+	Workspace workspace = mock(Workspace.class);
+	OsOperations os = mock(OsOperations.class);
+	MavenProperties properties = new MavenProperties();
+
+	Project upstream = project("Upstream");
+	Project downstream = project("Downstream", upstream);
+
+	File repository;
+	BuildCache cache;
+
+	@Before
+	public void setUp() throws Exception {
+
+		File workingDirectory = folder.newFolder("workspace");
+		repository = folder.newFolder("repository");
+
+		when(workspace.getWorkingDirectory()).thenReturn(workingDirectory);
+		when(workspace.getProjectDirectory(any(Project.class)))
+				.then(it -> new File(workingDirectory, it.getArgument(0).toString()));
+		when(git.getTreeHash(upstream)).thenReturn(Optional.of("upstream-1"));
+		when(git.getTreeHash(downstream)).thenReturn(Optional.of("downstream-1"));
+
+		properties.setLocalRepository(repository.getAbsolutePath());
+
+		cache = new BuildCache(git, workspace, os, new XBProjector(), properties, mock(Logger.class));
+	}
+
+	@Test
+	public void skipsExecutionForUnchangedSources() {
+
+		AtomicInteger builds = new AtomicInteger();
+		CommandLine arguments = CommandLine.of(Goal.CLEAN, Goal.VALIDATE);
+
+		cache.execute(downstream, arguments, builds::incrementAndGet);
+		cache.execute(downstream, arguments, builds::incrementAndGet);
+
+		assertThat(builds).hasValue(1);
+		assertThat(cache.getStatistics()).isEqualTo(new BuildCache.Statistics(1, 1, 0));
+	}
+
+	@Test
+	public void keyConsidersCommandLineAndDependencies() {
+
+		CommandLine validate = CommandLine.of(Goal.VALIDATE);
+		Optional<String> key = cache.getKey(downstream, validate);
+
+		assertThat(key).isPresent();
+		assertThat(cache.getKey(downstream, CommandLine.of(Goal.INSTALL))).isNotEqualTo(key);
+
+		when(git.getTreeHash(upstream)).thenReturn(Optional.of("upstream-2"));
+
+		assertThat(cache.getKey(downstream, validate)).isPresent().isNotEqualTo(key);
+	}
+
+	@Test
+	public void keyConsidersBuildEnvironment() throws Exception {
+
+		CommandLine validate = CommandLine.of(Goal.VALIDATE);
+		Optional<String> key = cache.getKey(downstream, validate);
+
+		properties.setBackend(Backend.DAEMON);
+
+		assertThat(cache.getKey(downstream, validate)).isPresent().isNotEqualTo(key);
+
+		File javaHome = folder.newFolder("jdk");
+		write(new File(javaHome, "release"), "JAVA_VERSION=\"1.8.0_242\"");
+		when(os.getJavaHome()).thenReturn(javaHome);
+
+		Optional<String> java8 = cache.getKey(downstream, validate);
+
+		write(new File(javaHome, "release"), "JAVA_VERSION=\"11.0.6\"");
+
+		assertThat(cache.getKey(downstream, validate)).isPresent().isNotEqualTo(java8);
+	}
+
+	@Test
+	public void determinesTreeHashesOncePerBuild() {
+
+		cache.build(() -> {
+
+			cache.execute(upstream, CommandLine.of(Goal.VALIDATE), () -> {});
+			cache.execute(downstream, CommandLine.of(Goal.VALIDATE), () -> {});
+		});
+
+		verify(git, times(1)).getTreeHash(upstream);
+
+		cache.getKey(downstream, CommandLine.of(Goal.VALIDATE));
+
+		verify(git, times(2)).getTreeHash(upstream);
+	}
+
+	@Test
+	public void doesNotCacheExecutionsForUncommittedChanges() {
+
+		when(git.getTreeHash(upstream)).thenReturn(Optional.empty());
+
+		AtomicInteger builds = new AtomicInteger();
+
+		cache.execute(downstream, CommandLine.of(Goal.VALIDATE), builds::incrementAndGet);
+		cache.execute(downstream, CommandLine.of(Goal.VALIDATE), builds::incrementAndGet);
+
+		assertThat(builds).hasValue(2);
+		assertThat(cache.getStatistics().getUncacheable()).isEqualTo(2);
+	}
+
+	@Test
+	public void restoresInstalledArtifacts() {
+
+		File projectDirectory = workspace.getProjectDirectory(upstream);
+		write(new File(projectDirectory, "pom.xml"), "<project><groupId>org.example</groupId>"
+				+ "<artifactId>upstream</artifactId><version>1.0.0</version></project>");
+
+		File artifact = new File(repository, "org/example/upstream/1.0.0/upstream-1.0.0.jar");
+		CommandLine install = CommandLine.of(Goal.CLEAN, Goal.INSTALL);
+
+		cache.execute(upstream, install, () -> write(artifact, "jar"));
+
+		artifact.delete();
+
+		cache.execute(upstream, install, () -> fail("Build should have been skipped!"));
+
+		assertThat(artifact).hasContent("jar");
+	}
+
+	@Test
+	public void restoresArtifactMetadata() {
+
+		File projectDirectory = workspace.getProjectDirectory(upstream);
+		write(new File(projectDirectory, "pom.xml"), "<project><groupId>org.example</groupId>"
+				+ "<artifactId>upstream</artifactId><version>1.0.0</version></project>");
+
+		File metadata = new File(repository, "org/example/upstream/maven-metadata-local.xml");
+		CommandLine install = CommandLine.of(Goal.CLEAN, Goal.INSTALL);
+
+		cache.execute(upstream, install, () -> {
+			write(new File(repository, "org/example/upstream/1.0.0/upstream-1.0.0.jar"), "jar");
+			write(metadata, "<metadata><version>1.0.0</version></metadata>");
+		});
+
+		metadata.delete();
+
+		cache.execute(upstream, install, () -> fail("Build should have been skipped!"));
+
+		assertThat(metadata).hasContent("<metadata><version>1.0.0</version></metadata>");
+	}
+
+	@Test
+	public void mergesRestoredMetadataWithVersionsInstalledMeanwhile() throws IOException {
+
+		File projectDirectory = workspace.getProjectDirectory(upstream);
+		write(new File(projectDirectory, "pom.xml"), "<project><groupId>org.example</groupId>"
+				+ "<artifactId>upstream</artifactId><version>1.0.0</version></project>");
+
+		File metadata = new File(repository, "org/example/upstream/maven-metadata-local.xml");
+		CommandLine install = CommandLine.of(Goal.CLEAN, Goal.INSTALL);
+
+		cache.execute(upstream, install, () -> {
+			write(new File(repository, "org/example/upstream/1.0.0/upstream-1.0.0.jar"), "jar");
+			write(metadata, "<metadata><versioning><latest>1.0.0</latest><versions><version>1.0.0</version></versions>"
+					+ "<lastUpdated>20200101000000</lastUpdated></versioning></metadata>");
+		});
+
+		write(metadata, "<metadata><versioning><latest>1.1.0</latest><versions><version>1.1.0</version></versions>"
+				+ "<lastUpdated>20200201000000</lastUpdated></versioning></metadata>");
+
+		cache.execute(upstream, install, () -> fail("Build should have been skipped!"));
+
+		String content = new String(Files.readAllBytes(metadata.toPath()), StandardCharsets.UTF_8);
+
+		assertThat(content).contains("<version>1.0.0</version>", "<version>1.1.0</version>",
+				"<latest>1.1.0</latest>");
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedEntries() {
+
+		properties.setBuildCacheSize(DataSize.ofBytes(0));
+
+		AtomicInteger builds = new AtomicInteger();
+
+		cache.execute(upstream, CommandLine.of(Goal.VALIDATE), builds::incrementAndGet);
+		cache.execute(upstream, CommandLine.of(Goal.VALIDATE), builds::incrementAndGet);
+
+		assertThat(builds).hasValue(2);
+	}
+
+	private static void write(File file, String content) {
+
+		try {
+			file.getParentFile().mkdirs();
+			Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+}
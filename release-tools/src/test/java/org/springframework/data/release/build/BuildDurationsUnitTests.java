@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.build.CommandLine.Goal;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link BuildDurations}.
+ */
+public class BuildDurationsUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Workspace workspace = mock(Workspace.class);
+
+	@Before
+	public void setUp() {
+		when(workspace.getWorkingDirectory()).thenReturn(folder.getRoot());
+	}
+
+	@Test
+	public void persistsRecordedDurations() {
+
+		CommandLine install = CommandLine.of(Goal.CLEAN, Goal.INSTALL);
+
+		new BuildDurations(workspace).record(Projects.JPA, install, Duration.ofSeconds(60));
+
+		assertThat(new File(folder.getRoot(), BuildDurations.FILENAME)).exists();
+		assertThat(new BuildDurations(workspace).getDuration(Projects.JPA, install)).hasValue(Duration.ofSeconds(60));
+	}
+
+	@Test
+	public void smoothesSubsequentMeasurements() {
+
+		CommandLine install = CommandLine.of(Goal.INSTALL);
+		BuildDurations durations = new BuildDurations(workspace);
+
+		durations.record(Projects.JPA, install, Duration.ofSeconds(60));
+		durations.record(Projects.JPA, install, Duration.ofSeconds(100));
+
+		assertThat(durations.getDuration(Projects.JPA, install)).hasValue(Duration.ofSeconds(80));
+	}
+
+	@Test
+	public void estimatesProjectByLongestGoalSet() {
+
+		BuildDurations durations = new BuildDurations(workspace);
+
+		durations.record(Projects.JPA, CommandLine.of(Goal.VALIDATE), Duration.ofSeconds(5));
+		durations.record(Projects.JPA, CommandLine.of(Goal.DEPLOY), Duration.ofSeconds(120));
+		durations.record(Projects.MONGO_DB, CommandLine.of(Goal.DEPLOY), Duration.ofSeconds(300));
+
+		assertThat(durations.estimate(Projects.JPA)).hasValue(Duration.ofSeconds(120));
+		assertThat(durations.estimate(Projects.REDIS)).isEmpty();
+	}
+
+	@Test
+	public void usesMedianOfProjectEstimatesAsFallback() {
+
+		BuildDurations durations = new BuildDurations(workspace);
+
+		assertThat(durations.getMedianEstimate()).isEmpty();
+
+		durations.record(Projects.JPA, CommandLine.of(Goal.VALIDATE), Duration.ofSeconds(5));
+		durations.record(Projects.JPA, CommandLine.of(Goal.DEPLOY), Duration.ofSeconds(120));
+		durations.record(Projects.MONGO_DB, CommandLine.of(Goal.DEPLOY), Duration.ofSeconds(300));
+		durations.record(Projects.COMMONS, CommandLine.of(Goal.DEPLOY), Duration.ofSeconds(60));
+
+		assertThat(durations.getMedianEstimate()).hasValue(Duration.ofSeconds(120));
+
+		durations.record(Projects.REDIS, CommandLine.of(Goal.DEPLOY), Duration.ofSeconds(200));
+
+		assertThat(durations.getMedianEstimate()).hasValue(Duration.ofSeconds(160));
+	}
+}
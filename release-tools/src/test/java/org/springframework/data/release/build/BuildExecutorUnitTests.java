@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.release.model.TestProjects.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.release.build.BuildExecutor.Summary;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.ProjectAware;
+import org.springframework.data.release.utils.Logger;
+import org.springframework.data.util.Streamable;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+
+/**
+ * Unit tests for {@link BuildExecutor}.
+ */
+public class BuildExecutorUnitTests {
+
+	BuildSystem buildSystem = mock(BuildSystem.class);
+	BuildExecutor executor;
+
+	{
+		when(buildSystem.supports(any())).thenReturn(true);
+
+		MavenProperties properties = new MavenProperties();
+		properties.setParallelize(true);
+
+		executor = new BuildExecutor(OrderAwarePluginRegistry.of(buildSystem), mock(Logger.class), properties,
+				mock(BuildDurations.class));
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void releasesModulesAsSoonAsTheirOwnDependenciesCompleted() throws Exception {
+
+		Project slow = project("Slow");
+		Project afterSlow = project("AfterSlow", slow);
+		Project fast = project("Fast");
+		Project afterFast = project("AfterFast", fast);
+
+		List<String> events = new CopyOnWriteArrayList<>();
+		CountDownLatch fastChainCompleted = new CountDownLatch(1);
+		AtomicBoolean overlapped = new AtomicBoolean();
+		List<ProjectAware> modules = Arrays.asList(() -> slow, () -> afterSlow, () -> fast, () -> afterFast);
+
+		Summary<Project> summary = executor.doWithBuildSystemOrdered(Streamable.of(modules), (system, module) -> {
+
+			Project project = module.getProject();
+			events.add("start " + project.getName());
+
+			// Slow only completes once the chain declared after it did, which requires them to run side by side
+			if (project.equals(slow)) {
+				try {
+					overlapped.set(fastChainCompleted.await(5, TimeUnit.SECONDS));
+				} catch (InterruptedException o_O) {
+					throw new IllegalStateException(o_O);
+				}
+			}
+
+			events.add("end " + project.getName());
+
+			if (project.equals(afterFast)) {
+				fastChainCompleted.countDown();
+			}
+
+			return project;
+		});
+
+		assertThat(summary.isSuccessful()).isTrue();
+		assertThat(overlapped).isTrue();
+
+		// Modules declared after the slow chain didn't wait for it
+		assertThat(events.indexOf("end AfterFast")).isLessThan(events.indexOf("end Slow"));
+
+		// Modules still waited for their own dependencies
+		assertThat(events.indexOf("start AfterFast")).isGreaterThan(events.indexOf("end Fast"));
+		assertThat(events.indexOf("start AfterSlow")).isGreaterThan(events.indexOf("end Slow"));
+	}
+
+	@Test
+	public void failsDependentsOfFailedModule() {
+
+		Project failing = project("Failing");
+		Project dependent = project("Dependent", failing);
+		Project independent = project("Independent");
+
+		List<ProjectAware> modules = Arrays.asList(() -> failing, () -> dependent, () -> independent);
+
+		assertThatExceptionOfType(BuildExecutor.BuildFailed.class)
+				.isThrownBy(() -> executor.doWithBuildSystemOrdered(Streamable.of(modules), (system, module) -> {
+
+					if (module.getProject().equals(failing)) {
+						throw new IllegalStateException("Boom");
+					}
+
+					return module.getProject();
+
+				})).withMessageContaining("Failing - Error: Boom")//
+				.withMessageContaining("Dependent - Error")//
+				.withMessageContaining("Independent - Successful");
+	}
+
+	@Test
+	public void computesRemainingCriticalPathLengths() {
+
+		Project root = project("Root");
+		Project left = project("Left", root);
+		Project right = project("Right", root);
+		Project leaf = project("Leaf", left);
+
+		Map<Project, Long> estimates = new HashMap<>();
+		estimates.put(root, 10L);
+		estimates.put(left, 5L);
+		estimates.put(right, 30L);
+		estimates.put(leaf, 20L);
+
+		Map<Project, Long> lengths = BuildExecutor.getCriticalPathLengths(Arrays.asList(root, left, right, leaf),
+				estimates::get);
+
+		assertThat(lengths).containsEntry(leaf, 20L) //
+				.containsEntry(left, 25L) //
+				.containsEntry(right, 30L) //
+				.containsEntry(root, 40L);
+	}
+
+	@Test
+	public void rejectsDependencyNotPartOfTheIteration() {
+
+		Project missing = project("Missing");
+		Project dependent = project("Dependent", missing);
+
+		List<ProjectAware> modules = Arrays.asList(() -> dependent);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> executor.doWithBuildSystemOrdered(Streamable.of(modules), (system, module) -> null))
+				.withMessageContaining("not part of the Iteration");
+	}
+
+	@Test
+	public void reusesCompletedResultsInsteadOfExecutingAgain() {
+
+		Project completed = project("Completed");
+		Project dependent = project("Dependent", completed);
+
+		List<ProjectAware> modules = Arrays.asList(() -> completed, () -> dependent);
+		List<Project> executed = new CopyOnWriteArrayList<>();
+
+		Summary<String> summary = executor.doWithBuildSystemOrdered(Streamable.of(modules), (system, module) -> {
+
+			executed.add(module.getProject());
+			return "new";
+
+		}, Collections.singletonMap(completed, "previous"));
+
+		assertThat(executed).containsExactly(dependent);
+		assertThat(summary.getExecutions()).extracting(BuildExecutor.ExecutionResult::getResult) //
+				.containsExactly("previous", "new");
+	}
+}
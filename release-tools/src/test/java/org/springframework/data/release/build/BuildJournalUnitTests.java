@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.build;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.deployment.DefaultDeploymentInformation;
+import org.springframework.data.release.deployment.DeploymentProperties;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
+
+/**
+ * Unit tests for {@link BuildJournal}.
+ */
+public class BuildJournalUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Workspace workspace = mock(Workspace.class);
+	DeploymentProperties properties = new DeploymentProperties();
+
+	TrainIteration iteration = new TrainIteration(ReleaseTrains.MOORE, Iteration.SR1);
+
+	@Before
+	public void setUp() {
+		when(workspace.getWorkingDirectory()).thenReturn(folder.getRoot());
+	}
+
+	@Test
+	public void restoresRecordedDeploymentsOfTheIteration() {
+
+		BuildJournal journal = new BuildJournal(workspace, properties);
+
+		journal.record(new DefaultDeploymentInformation(iteration.getModule(Projects.COMMONS), properties, "1"));
+		journal.record(new DefaultDeploymentInformation(iteration.getModule(Projects.JPA), properties, "2"));
+		journal.record(new DefaultDeploymentInformation(iteration.getModule(Projects.JPA), properties, "3"));
+		journal.record(new DefaultDeploymentInformation(
+				new TrainIteration(ReleaseTrains.MOORE, Iteration.SR2).getModule(Projects.MONGO_DB), properties, "4"));
+
+		assertThat(new BuildJournal(workspace, properties).getDeployments(iteration)) //
+				.containsOnlyKeys(Projects.COMMONS, Projects.JPA) //
+				.hasEntrySatisfying(Projects.JPA, it -> {
+					assertThat(it.getBuildNumber()).isEqualTo("3");
+					assertThat(it.getModule()).isEqualTo(iteration.getModule(Projects.JPA));
+				});
+	}
+
+	@Test
+	public void ignoresPartiallyWrittenEntries() throws Exception {
+
+		BuildJournal journal = new BuildJournal(workspace, properties);
+		journal.record(new DefaultDeploymentInformation(iteration.getModule(Projects.COMMONS), properties, "1"));
+
+		Files.write(new File(folder.getRoot(), BuildJournal.FILENAME).toPath(), "Moore SR1|Spring Data J".getBytes(),
+				StandardOpenOption.APPEND);
+
+		assertThat(journal.getDeployments(iteration)).containsOnlyKeys(Projects.COMMONS);
+	}
+
+	@Test
+	public void discardsDeploymentsOfTheIterationOnly() {
+
+		TrainIteration next = new TrainIteration(ReleaseTrains.MOORE, Iteration.SR2);
+		BuildJournal journal = new BuildJournal(workspace, properties);
+
+		journal.record(new DefaultDeploymentInformation(iteration.getModule(Projects.COMMONS), properties, "1"));
+		journal.record(new DefaultDeploymentInformation(next.getModule(Projects.COMMONS), properties, "2"));
+
+		journal.discard(iteration);
+
+		assertThat(journal.getDeployments(iteration)).isEmpty();
+		assertThat(journal.getDeployments(next).get(Projects.COMMONS).getBuildNumber()).isEqualTo("2");
+	}
+}
@@ -18,10 +18,13 @@ package org.springframework.data.release.build;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.io.File;
 import java.util.Collections;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Unit tests for {@link MavenProperties}.
@@ -30,6 +33,8 @@ import org.junit.Test;
  */
 public class MavenPropertiesUnitTests {
 
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
 	MavenProperties properties;
 
 	@Before
@@ -64,4 +69,29 @@ public class MavenPropertiesUnitTests {
 	public void doesNotExpandGoalWithoutColon() {
 		assertThat(properties.getFullyQualifiedPlugin("versions-set"), is("versions-set"));
 	}
+
+	@Test
+	public void resolvesDaemonExecutable() throws Exception {
+
+		File home = folder.newFolder("mvnd");
+		File executable = new File(home, "bin/mvnd");
+		executable.getParentFile().mkdirs();
+		executable.createNewFile();
+
+		properties.setDaemonHome(home.getAbsolutePath());
+
+		assertThat(properties.getDaemonExecutable(), is(executable));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsDaemonHomeWithoutExecutable() throws Exception {
+
+		properties.setDaemonHome(folder.newFolder("mvnd").getAbsolutePath());
+		properties.getDaemonExecutable();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsMissingDaemonHome() {
+		properties.getDaemonExecutable();
+	}
 }
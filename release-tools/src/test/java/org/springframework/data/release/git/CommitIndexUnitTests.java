@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand.ResetType;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link CommitIndex}.
+ */
+public class CommitIndexUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Workspace workspace = mock(Workspace.class);
+	Git git;
+	CommitIndex index;
+
+	@Before
+	public void setUp() throws Exception {
+
+		git = Git.init().setDirectory(folder.newFolder("repository")).call();
+
+		when(workspace.getWorkingDirectory()).thenReturn(folder.newFolder("workspace"));
+
+		index = new CommitIndex(workspace);
+	}
+
+	@Test
+	public void findsCommitRegardlessOfHistoryDepth() throws Exception {
+
+		ObjectId release = commit("DATAJPA-1 - Release version 1.0 GA.");
+
+		for (int i = 0; i < 60; i++) {
+			commit(String.format("DATAJPA-%s - Some change.", i + 2));
+		}
+
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-1 - Release")).hasValue(release);
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-1 - Updated changelog")).isEmpty();
+	}
+
+	@Test
+	public void returnsMostRecentMatchingCommit() throws Exception {
+
+		commit("DATAJPA-1 - Updated changelog.");
+		ObjectId changelog = commit("DATAJPA-1 - Updated changelog again.");
+
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-1 - Updated changelog"))
+				.hasValue(changelog);
+	}
+
+	@Test
+	public void indexesCommitsAddedOnTopOfIndexedHead() throws Exception {
+
+		ObjectId release = commit("DATAJPA-1 - Release version 1.0 GA.");
+
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-2 - Updated changelog")).isEmpty();
+
+		ObjectId changelog = commit("DATAJPA-2 - Updated changelog.");
+
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-2 - Updated changelog"))
+				.hasValue(changelog);
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-1 - Release")).hasValue(release);
+	}
+
+	@Test
+	public void rebuildsIndexForRewrittenBranch() throws Exception {
+
+		ObjectId initial = commit("DATAJPA-1 - Initial commit.");
+		commit("DATAJPA-2 - Release version 1.0 GA.");
+
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-2 - Release")).isPresent();
+
+		git.reset().setMode(ResetType.HARD).setRef(initial.name()).call();
+
+		assertThat(index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-2 - Release")).isEmpty();
+	}
+
+	@Test
+	public void persistsIndexInWorkspace() throws Exception {
+
+		ObjectId release = commit("DATAJPA-1 - Release version 1.0 GA.");
+
+		index.findCommit(Projects.JPA, git.getRepository(), "DATAJPA-1 - Release");
+
+		assertThat(new File(workspace.getWorkingDirectory(), CommitIndex.DIRECTORY)).isDirectory();
+		assertThat(new CommitIndex(workspace).findCommit(Projects.JPA, git.getRepository(), "DATAJPA-1 - Release"))
+				.hasValue(release);
+	}
+
+	private ObjectId commit(String message) throws Exception {
+		return git.commit().setMessage(message).call().getId();
+	}
+}
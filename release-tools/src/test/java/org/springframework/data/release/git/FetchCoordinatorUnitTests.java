@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.release.git.FetchCoordinator.Statistics;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link FetchCoordinator}.
+ */
+public class FetchCoordinatorUnitTests {
+
+	Instant now = Instant.parse("2020-03-01T10:15:30Z");
+	Clock clock = mock(Clock.class);
+	AtomicInteger fetches = new AtomicInteger();
+
+	FetchCoordinator coordinator;
+
+	@Before
+	public void setUp() {
+
+		GitProperties properties = new GitProperties();
+		properties.setFetchFreshness(Duration.ofMinutes(5));
+
+		coordinator = new FetchCoordinator(properties, clock);
+	}
+
+	@Test
+	public void reusesFetchWithinFreshnessWindow() {
+
+		when(clock.instant()).thenReturn(now, now.plusSeconds(60), now.plusSeconds(301));
+
+		assertThat(coordinator.fetch(Projects.JPA, false, fetches::incrementAndGet)).isTrue();
+		assertThat(coordinator.fetch(Projects.JPA, false, fetches::incrementAndGet)).isFalse();
+		assertThat(coordinator.fetch(Projects.JPA, false, fetches::incrementAndGet)).isTrue();
+
+		assertThat(fetches).hasValue(2);
+		assertThat(coordinator.getStatistics()).extracting(Statistics::getFetches, Statistics::getReused)
+				.containsExactly(tuple(2L, 1L));
+	}
+
+	@Test
+	public void forcedFetchIgnoresFreshnessWindow() {
+
+		when(clock.instant()).thenReturn(now, now.plusSeconds(60));
+
+		coordinator.fetch(Projects.JPA, false, fetches::incrementAndGet);
+
+		assertThat(coordinator.fetch(Projects.JPA, true, fetches::incrementAndGet)).isTrue();
+		assertThat(fetches).hasValue(2);
+	}
+
+	@Test
+	public void tracksFreshnessPerProject() {
+
+		when(clock.instant()).thenReturn(now);
+
+		coordinator.fetch(Projects.JPA, false, fetches::incrementAndGet);
+		coordinator.fetch(Projects.MONGO_DB, false, fetches::incrementAndGet);
+
+		assertThat(fetches).hasValue(2);
+		assertThat(coordinator.getStatistics()).extracting(Statistics::getProject).containsExactly(Projects.JPA,
+				Projects.MONGO_DB);
+	}
+
+	@Test
+	public void concurrentCallersShareInFlightFetch() throws Exception {
+
+		when(clock.instant()).thenReturn(now);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Boolean> first = CompletableFuture
+				.supplyAsync(() -> coordinator.fetch(Projects.JPA, true, () -> {
+
+					fetches.incrementAndGet();
+					started.countDown();
+
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException o_O) {
+						Thread.currentThread().interrupt();
+					}
+				}));
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<Boolean> second = CompletableFuture
+				.supplyAsync(() -> coordinator.fetch(Projects.JPA, true, fetches::incrementAndGet));
+
+		while (coordinator.getStatistics().get(0).getJoined() == 0) {
+			Thread.sleep(10);
+		}
+
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(fetches).hasValue(1);
+	}
+
+	@Test
+	public void failedFetchIsNotConsideredFresh() {
+
+		when(clock.instant()).thenReturn(now);
+
+		assertThatIllegalStateException().isThrownBy(() -> coordinator.fetch(Projects.JPA, false, () -> {
+			throw new IllegalStateException("Connection refused");
+		}));
+
+		assertThat(coordinator.fetch(Projects.JPA, false, fetches::incrementAndGet)).isTrue();
+		assertThat(coordinator.getStatistics()).extracting(Statistics::getFailures).containsExactly(1L);
+	}
+
+	@Test
+	public void propagatesCheckedExceptionOfFetch() {
+
+		when(clock.instant()).thenReturn(now);
+
+		assertThatIllegalStateException().isThrownBy(() -> coordinator.fetch(Projects.JPA, false, () -> {
+			throw new IOException("Connection reset");
+		})).withCauseInstanceOf(IOException.class);
+
+		assertThat(coordinator.getStatistics()).extracting(Statistics::getFailures).containsExactly(1L);
+	}
+}
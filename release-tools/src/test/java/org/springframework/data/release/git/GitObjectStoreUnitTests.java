@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link GitObjectStore}.
+ */
+public class GitObjectStoreUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Git upstream;
+	String uri;
+	GitObjectStore store;
+
+	@Before
+	public void setUp() throws Exception {
+
+		upstream = Git.init().setDirectory(folder.newFolder("upstream")).call();
+		uri = upstream.getRepository().getDirectory().getAbsolutePath();
+
+		commitAndTag("Initial commit.", "1.0.0.RELEASE");
+
+		GitProperties properties = new GitProperties();
+		properties.setObjectStore(new File(folder.getRoot(), "objects").getAbsolutePath());
+
+		store = new GitObjectStore(properties);
+	}
+
+	@Test
+	public void createsReferenceCloneBorrowingObjectsFromMirror() throws Exception {
+
+		File directory = new File(folder.getRoot(), "workspace");
+
+		store.update("upstream", uri);
+		store.clone("upstream", uri, directory, Branch.MASTER);
+
+		assertThat(new File(directory, ".git/objects/info/alternates")).exists();
+		assertThat(Files.list(new File(directory, ".git/objects/pack").toPath())).isEmpty();
+
+		try (Git git = Git.open(directory)) {
+
+			assertThat(git.getRepository().getBranch()).isEqualTo("master");
+			assertThat(git.tagList().call()).extracting(it -> it.getName()).containsExactly("refs/tags/1.0.0.RELEASE");
+			assertThat(git.getRepository().getConfig().getString("remote", "origin", "url")).isEqualTo(uri);
+
+			git.checkout().setName("1.0.0.RELEASE").call();
+		}
+	}
+
+	@Test
+	public void synchronizesBranchesAndTagsFromMirror() throws Exception {
+
+		File directory = new File(folder.getRoot(), "workspace");
+
+		store.update("upstream", uri);
+		store.clone("upstream", uri, directory, Branch.MASTER);
+
+		ObjectId head = commitAndTag("Second commit.", "1.1.0.RELEASE");
+
+		store.update("upstream", uri);
+
+		try (Git git = Git.open(directory)) {
+
+			store.synchronize("upstream", git.getRepository());
+
+			assertThat(git.getRepository().resolve("origin/master")).isEqualTo(head);
+			assertThat(git.getRepository().resolve("1.1.0.RELEASE^{commit}")).isEqualTo(head);
+			assertThat(git.getRepository().getRef(Constants.R_TAGS + "1.0.0.RELEASE")).isNotNull();
+		}
+	}
+
+	@Test
+	public void prunesBranchesDeletedUpstreamButKeepsLocalTags() throws Exception {
+
+		File directory = new File(folder.getRoot(), "workspace");
+
+		upstream.branchCreate().setName("feature").call();
+
+		store.update("upstream", uri);
+		store.clone("upstream", uri, directory, Branch.MASTER);
+
+		upstream.branchDelete().setBranchNames("feature").setForce(true).call();
+
+		store.update("upstream", uri);
+
+		try (Git git = Git.open(directory)) {
+
+			assertThat(git.getRepository().getRef("origin/feature")).isNotNull();
+
+			git.tag().setName("1.1.0.RELEASE").call();
+			store.synchronize("upstream", git.getRepository());
+
+			assertThat(git.getRepository().getRef("origin/feature")).isNull();
+			assertThat(git.getRepository().getRef("origin/master")).isNotNull();
+			assertThat(git.getRepository().getRef(Constants.R_TAGS + "1.1.0.RELEASE")).isNotNull();
+		}
+	}
+
+	private ObjectId commitAndTag(String message, String tag) throws Exception {
+
+		RevCommit commit = upstream.commit().setMessage(message).call();
+		upstream.tag().setName(tag).call();
+
+		return commit.getId();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link GitRepositories}.
+ */
+public class GitRepositoriesUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Workspace workspace = mock(Workspace.class);
+	GitRepositories repositories;
+
+	@Before
+	public void setUp() throws Exception {
+
+		File projectDirectory = folder.newFolder(Projects.COMMONS.getFolderName());
+		Git.init().setDirectory(projectDirectory).call().close();
+
+		when(workspace.getFile(".git", Projects.COMMONS)).thenReturn(new File(projectDirectory, ".git"));
+
+		repositories = new GitRepositories(workspace);
+	}
+
+	@Test
+	public void reusesRepositoryHandleAcrossInvocations() {
+
+		Repository first = repositories.doWithGit(Projects.COMMONS, Git::getRepository);
+		Repository second = repositories.doWithGit(Projects.COMMONS, Git::getRepository);
+
+		assertThat(first).isSameAs(second);
+	}
+
+	@Test
+	public void allowsNestedInvocationsOnSameThread() {
+
+		AtomicReference<Repository> inner = new AtomicReference<>();
+
+		Repository outer = repositories.doWithGit(Projects.COMMONS, git -> {
+			inner.set(repositories.doWithGit(Projects.COMMONS, Git::getRepository));
+			return git.getRepository();
+		});
+
+		assertThat(inner.get()).isSameAs(outer);
+	}
+
+	@Test
+	public void opensNewHandleAfterEviction() {
+
+		Repository first = repositories.doWithGit(Projects.COMMONS, Git::getRepository);
+
+		repositories.evictAll();
+
+		assertThat(repositories.doWithGit(Projects.COMMONS, Git::getRepository)).isNotSameAs(first);
+	}
+
+	@Test
+	public void evictionWaitsForOperationsInFlight() throws Exception {
+
+		Thread eviction = new Thread(repositories::evictAll);
+
+		repositories.doWithGit(Projects.COMMONS, git -> {
+
+			eviction.start();
+			eviction.join(200);
+
+			assertThat(eviction.isAlive()).isTrue();
+
+			return null;
+		});
+
+		eviction.join();
+	}
+
+	@Test
+	public void keepsEvictedRepositoryOpenUntilOutermostInvocationCompleted() {
+
+		AtomicReference<Repository> inner = new AtomicReference<>();
+
+		Repository outer = repositories.doWithGit(Projects.COMMONS, git -> {
+
+			repositories.evictAll();
+			inner.set(repositories.doWithGit(Projects.COMMONS, Git::getRepository));
+
+			assertThat(git.getRepository().getObjectDatabase().exists()).isTrue();
+
+			return git.getRepository();
+		});
+
+		assertThat(inner.get()).isNotSameAs(outer);
+	}
+
+	@Test
+	public void doesNotPoolRepositoriesNotClonedYet() {
+
+		when(workspace.getFile(".git", Projects.JPA)).thenReturn(new File(folder.getRoot(), "missing/.git"));
+
+		Repository first = repositories.doWithGit(Projects.JPA, Git::getRepository);
+		Repository second = repositories.doWithGit(Projects.JPA, Git::getRepository);
+
+		assertThat(first).isNotSameAs(second);
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Project;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link GitWorktrees}.
+ */
+public class GitWorktreesUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Project jpa = Projects.JPA;
+	Workspace workspace = mock(Workspace.class);
+
+	Git project;
+	ObjectId head;
+	File directory;
+	GitWorktrees worktrees;
+
+	@Before
+	public void setUp() throws Exception {
+
+		project = Git.init().setDirectory(folder.newFolder("project")).call();
+		head = project.commit().setMessage("DATAJPA-1 - Initial commit.").call().getId();
+		project.tag().setName("1.0.0.RELEASE").call();
+
+		RefUpdate update = project.getRepository().updateRef("refs/remotes/origin/master");
+		update.setNewObjectId(head);
+		update.update();
+
+		directory = new File(folder.getRoot(), "worktrees/spring-data-jpa/master");
+
+		when(workspace.getWorktreeDirectory(jpa, Branch.MASTER)).thenReturn(directory);
+
+		worktrees = new GitWorktrees(workspace);
+	}
+
+	@Test
+	public void createsWorktreeBorrowingObjectsOfProjectRepository() throws Exception {
+
+		assertThat(worktrees.exists(jpa, Branch.MASTER)).isFalse();
+
+		worktrees.create(jpa, project.getRepository(), "https://github.com/spring-projects/spring-data-jpa",
+				Branch.MASTER);
+
+		assertThat(worktrees.exists(jpa, Branch.MASTER)).isTrue();
+		assertThat(Files.isSymbolicLink(new File(directory, ".git/objects").toPath())).isFalse();
+		assertThat(Files.readAllLines(new File(directory, ".git/objects/info/alternates").toPath(),
+				StandardCharsets.UTF_8)).containsExactly(
+						new File(project.getRepository().getDirectory(), "objects").getAbsolutePath());
+
+		try (Git worktree = Git.open(directory)) {
+
+			assertThat(worktree.getRepository().getBranch()).isEqualTo("master");
+			assertThat(worktree.getRepository().resolve("HEAD")).isEqualTo(head);
+			assertThat(worktree.getRepository().resolve("1.0.0.RELEASE^{commit}")).isEqualTo(head);
+			assertThat(worktree.getRepository().getConfig().getString("remote", "origin", "url"))
+					.isEqualTo("https://github.com/spring-projects/spring-data-jpa");
+
+			assertThat(project.getRepository().resolve("refs/worktrees/master")).isEqualTo(head);
+		}
+	}
+
+	@Test
+	public void pinsWorktreeCommitsInProjectRepository() throws Exception {
+
+		worktrees.create(jpa, project.getRepository(), "https://github.com/spring-projects/spring-data-jpa",
+				Branch.MASTER);
+
+		try (Git worktree = Git.open(directory)) {
+
+			ObjectId commit = worktree.commit().setMessage("DATAJPA-2 - Release version 1.0 GA.").call().getId();
+
+			assertThat(project.getRepository().hasObject(commit)).isFalse();
+
+			worktrees.pin(project.getRepository(), worktree.getRepository(), Branch.MASTER);
+
+			assertThat(project.getRepository().hasObject(commit)).isTrue();
+			assertThat(project.getRepository().resolve("refs/worktrees/master")).isEqualTo(commit);
+			assertThat(project.getRepository().resolve("master")).isEqualTo(head);
+		}
+	}
+
+	@Test
+	public void synchronizesRemoteBranchesAndTags() throws Exception {
+
+		worktrees.create(jpa, project.getRepository(), "https://github.com/spring-projects/spring-data-jpa",
+				Branch.MASTER);
+
+		ObjectId next = project.commit().setMessage("DATAJPA-3 - Some change.").call().getId();
+		project.tag().setName("1.1.0.RELEASE").call();
+
+		RefUpdate update = project.getRepository().updateRef("refs/remotes/origin/master");
+		update.setNewObjectId(next);
+		update.update();
+
+		try (Git worktree = Git.open(directory)) {
+
+			worktrees.synchronize(project.getRepository(), worktree.getRepository());
+
+			assertThat(worktree.getRepository().resolve("origin/master")).isEqualTo(next);
+			assertThat(worktree.getRepository().resolve("1.1.0.RELEASE^{commit}")).isEqualTo(next);
+		}
+	}
+
+	@Test
+	public void prunesRemoteBranchesAndTagsDeletedInProjectRepository() throws Exception {
+
+		RefUpdate update = project.getRepository().updateRef("refs/remotes/origin/feature");
+		update.setNewObjectId(head);
+		update.update();
+		project.tag().setName("1.1.0.RELEASE").call();
+
+		worktrees.create(jpa, project.getRepository(), "https://github.com/spring-projects/spring-data-jpa",
+				Branch.MASTER);
+
+		RefUpdate delete = project.getRepository().updateRef("refs/remotes/origin/feature");
+		delete.setForceUpdate(true);
+		delete.delete();
+		project.tagDelete().setTags("1.1.0.RELEASE").call();
+
+		try (Git worktree = Git.open(directory)) {
+
+			assertThat(worktree.getRepository().getRef("origin/feature")).isNotNull();
+
+			worktrees.synchronize(project.getRepository(), worktree.getRepository());
+
+			assertThat(worktree.getRepository().getRef("origin/feature")).isNull();
+			assertThat(worktree.getRepository().getRef(Constants.R_TAGS + "1.1.0.RELEASE")).isNull();
+			assertThat(worktree.getRepository().getRef("origin/master")).isNotNull();
+		}
+	}
+
+	@Test
+	public void removesWorktreeAndUnpinsItsBranch() throws Exception {
+
+		worktrees.create(jpa, project.getRepository(), "https://github.com/spring-projects/spring-data-jpa",
+				Branch.MASTER);
+		worktrees.remove(jpa, project.getRepository(), Branch.MASTER);
+
+		assertThat(directory).doesNotExist();
+		assertThat(project.getRepository().exactRef("refs/worktrees/master")).isNull();
+		assertThat(project.getRepository().hasObject(head)).isTrue();
+	}
+}
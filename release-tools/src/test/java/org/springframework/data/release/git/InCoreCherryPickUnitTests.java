@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.git.InCoreCherryPick.Result;
+
+/**
+ * Unit tests for {@link InCoreCherryPick}.
+ */
+public class InCoreCherryPickUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Git git;
+	InCoreCherryPick cherryPick;
+
+	@Before
+	public void setUp() throws Exception {
+
+		git = Git.init().setDirectory(folder.newFolder("repository")).call();
+
+		commit("changelog.txt", "Changes in version 1.0 GA\n", "DATAJPA-1 - Release version 1.0 GA.");
+		commit("README.md", "Maintenance\n", "DATAJPA-2 - Prepare maintenance branch.");
+		git.branchCreate().setName("1.0.x").call();
+
+		cherryPick = new InCoreCherryPick(git.getRepository());
+	}
+
+	@Test
+	public void appliesCommitToBranchWithoutCheckingItOut() throws Exception {
+
+		ObjectId changelog = commit("changelog.txt", "Changes in version 1.1 GA\n\nChanges in version 1.0 GA\n",
+				"DATAJPA-3 - Updated changelog.");
+
+		assertThat(cherryPick.apply(changelog, Branch.from("1.0.x"))).isEqualTo(Result.PICKED);
+
+		RevCommit head = getCommit("1.0.x");
+
+		assertThat(head.getFullMessage()).isEqualTo("DATAJPA-3 - Updated changelog.");
+		assertThat(readFile(head, "changelog.txt")).startsWith("Changes in version 1.1 GA");
+		assertThat(git.getRepository().getBranch()).isEqualTo("master");
+		assertThat(git.status().call().isClean()).isTrue();
+	}
+
+	@Test
+	public void skipsChangeAlreadyContainedInBranch() throws Exception {
+
+		ObjectId changelog = commit("changelog.txt", "Changes in version 1.1 GA\n", "DATAJPA-3 - Updated changelog.");
+
+		cherryPick.apply(changelog, Branch.from("1.0.x"));
+		ObjectId head = git.getRepository().resolve("1.0.x");
+
+		assertThat(cherryPick.apply(changelog, Branch.from("1.0.x"))).isEqualTo(Result.EMPTY);
+		assertThat(git.getRepository().resolve("1.0.x")).isEqualTo(head);
+	}
+
+	@Test
+	public void leavesBranchUntouchedOnConflict() throws Exception {
+
+		git.checkout().setName("1.0.x").call();
+		commit("changelog.txt", "Changes in version 1.0.1\n", "DATAJPA-4 - Updated changelog.");
+		ObjectId head = git.getRepository().resolve("1.0.x");
+		git.checkout().setName("master").call();
+
+		ObjectId changelog = commit("changelog.txt", "Changes in version 1.1 GA\n", "DATAJPA-3 - Updated changelog.");
+
+		assertThat(cherryPick.apply(changelog, Branch.from("1.0.x"))).isEqualTo(Result.CONFLICTING);
+		assertThat(git.getRepository().resolve("1.0.x")).isEqualTo(head);
+		assertThat(git.status().call().isClean()).isTrue();
+	}
+
+	@Test
+	public void createsLocalBranchFromRemoteOne() throws Exception {
+
+		RefUpdate update = git.getRepository().updateRef("refs/remotes/origin/2.0.x");
+		update.setNewObjectId(git.getRepository().resolve("1.0.x"));
+		update.update();
+
+		ObjectId changelog = commit("changelog.txt", "Changes in version 1.1 GA\n", "DATAJPA-3 - Updated changelog.");
+
+		assertThat(cherryPick.apply(changelog, Branch.from("2.0.x"))).isEqualTo(Result.PICKED);
+		assertThat(getCommit("2.0.x").getParent(0)).isEqualTo(git.getRepository().resolve("origin/2.0.x"));
+		assertThat(git.getRepository().getConfig().getString("branch", "2.0.x", "remote")).isEqualTo("origin");
+	}
+
+	@Test
+	public void reportsMissingBranch() throws Exception {
+
+		ObjectId changelog = commit("changelog.txt", "Changes in version 1.1 GA\n", "DATAJPA-3 - Updated changelog.");
+
+		assertThat(cherryPick.apply(changelog, Branch.from("0.9.x"))).isEqualTo(Result.NO_BRANCH);
+	}
+
+	private ObjectId commit(String file, String content, String message) throws Exception {
+
+		Files.write(new File(git.getRepository().getWorkTree(), file).toPath(), content.getBytes(StandardCharsets.UTF_8));
+		git.add().addFilepattern(file).call();
+
+		return git.commit().setMessage(message).call().getId();
+	}
+
+	private RevCommit getCommit(String branch) throws Exception {
+
+		try (RevWalk walk = new RevWalk(git.getRepository())) {
+			return walk.parseCommit(git.getRepository().resolve(branch));
+		}
+	}
+
+	private String readFile(RevCommit commit, String path) throws Exception {
+
+		try (TreeWalk walk = TreeWalk.forPath(git.getRepository(), path, commit.getTree())) {
+			return new String(git.getRepository().open(walk.getObjectId(0)).getBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.git.RemoteRefs.Snapshot;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Unit tests for {@link RemoteRefs}.
+ */
+public class RemoteRefsUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Instant now = Instant.parse("2020-03-01T10:15:30Z");
+	Clock clock = mock(Clock.class);
+
+	Git upstream;
+	RemoteRefs refs;
+
+	@Before
+	public void setUp() throws Exception {
+
+		upstream = Git.init().setDirectory(folder.newFolder("spring-data-jpa")).call();
+		Git.init().setDirectory(folder.newFolder("spring-data-mongodb")).call().commit().setMessage("Initial commit.")
+				.call();
+
+		String uri = folder.getRoot().getAbsolutePath().concat(File.separator);
+
+		GitServer server = new GitServer() {
+
+			@Override
+			public String getUri() {
+				return uri;
+			}
+		};
+
+		when(clock.instant()).thenReturn(now);
+
+		refs = new RemoteRefs(server, new GitProperties(), clock);
+	}
+
+	@Test
+	public void capturesBranchesAndTags() throws Exception {
+
+		RevCommit commit = upstream.commit().setMessage("Initial commit.").call();
+		upstream.tag().setName("1.0.0.RELEASE").call();
+		upstream.branchCreate().setName("DATAJPA-1234").call();
+
+		Snapshot snapshot = refs.get(Projects.JPA);
+
+		assertThat(snapshot.getBranches()).containsExactlyInAnyOrder(Branch.MASTER, Branch.from("DATAJPA-1234"));
+		assertThat(snapshot.getHead(Branch.MASTER)).hasValue(commit.getId());
+		assertThat(snapshot.hasBranch(Branch.from("1.0.x"))).isFalse();
+		assertThat(snapshot.hasTags(Collections.singletonList("1.0.0.RELEASE"))).isTrue();
+		assertThat(snapshot.hasTags(Arrays.asList("1.0.0.RELEASE", "1.1.0.RELEASE"))).isFalse();
+	}
+
+	@Test
+	public void reusesSnapshotUntilEvicted() throws Exception {
+
+		upstream.commit().setMessage("Initial commit.").call();
+
+		Snapshot snapshot = refs.get(Projects.JPA);
+		upstream.branchCreate().setName("DATAJPA-1234").call();
+
+		assertThat(refs.get(Projects.JPA)).isSameAs(snapshot);
+
+		refs.evict(Projects.JPA);
+
+		assertThat(refs.get(Projects.JPA).hasBranch(Branch.from("DATAJPA-1234"))).isTrue();
+	}
+
+	@Test
+	public void recapturesOutdatedSnapshot() throws Exception {
+
+		upstream.commit().setMessage("Initial commit.").call();
+
+		Snapshot snapshot = refs.get(Projects.JPA);
+
+		when(clock.instant()).thenReturn(now.plus(new GitProperties().getFetchFreshness()));
+
+		assertThat(refs.get(Projects.JPA)).isNotSameAs(snapshot);
+	}
+
+	@Test
+	public void capturesSnapshotsOfMultipleProjects() throws Exception {
+
+		upstream.commit().setMessage("Initial commit.").call();
+
+		assertThat(refs.get(Streamable.of(Projects.JPA, Projects.MONGO_DB))).containsOnlyKeys(Projects.JPA,
+				Projects.MONGO_DB);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Ref;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Projects;
+
+/**
+ * Unit tests for {@link TagIndex}.
+ */
+public class TagIndexUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	Workspace workspace = mock(Workspace.class);
+	Git git;
+	AtomicInteger listings = new AtomicInteger();
+
+	@Before
+	public void setUp() throws Exception {
+
+		File projectDirectory = folder.newFolder(Projects.COMMONS.getFolderName());
+
+		git = Git.init().setDirectory(projectDirectory).call();
+		git.commit().setMessage("Initial commit.").call();
+		git.tag().setName("2.2.0.RELEASE").call();
+
+		when(workspace.getWorkingDirectory()).thenReturn(folder.newFolder("workspace"));
+		when(workspace.getFile(".git", Projects.COMMONS)).thenReturn(new File(projectDirectory, ".git"));
+	}
+
+	@Test
+	public void servesTagsFromIndexUntilTagsChange() throws Exception {
+
+		TagIndex index = new TagIndex(workspace);
+
+		assertThat(index.getTags(Projects.COMMONS, this::listTags).getLatest()).hasToString("2.2.0.RELEASE");
+		assertThat(index.getTags(Projects.COMMONS, this::listTags).getLatest()).hasToString("2.2.0.RELEASE");
+		assertThat(listings).hasValue(1);
+
+		git.tag().setName("2.2.1.RELEASE").call();
+
+		assertThat(index.getTags(Projects.COMMONS, this::listTags).getLatest()).hasToString("2.2.1.RELEASE");
+		assertThat(listings).hasValue(2);
+	}
+
+	@Test
+	public void startsWarmFromPersistedIndex() {
+
+		new TagIndex(workspace).getTags(Projects.COMMONS, this::listTags);
+
+		Callable<List<String>> failing = () -> {
+			throw new IllegalStateException("Tags should have been read from the persisted index!");
+		};
+
+		assertThat(new TagIndex(workspace).getTags(Projects.COMMONS, failing).getLatest()).hasToString("2.2.0.RELEASE");
+	}
+
+	private List<String> listTags() throws Exception {
+
+		listings.incrementAndGet();
+
+		return git.tagList().call().stream().map(Ref::getName).collect(Collectors.toList());
+	}
+}
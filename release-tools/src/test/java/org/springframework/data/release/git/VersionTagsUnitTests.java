@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.git;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.data.release.model.ArtifactVersion;
+import org.springframework.data.release.model.Version;
+
+/**
+ * Unit tests for {@link VersionTags}.
+ */
+public class VersionTagsUnitTests {
+
+	VersionTags tags = new VersionTags(Arrays.asList(Tag.of("refs/tags/2.1.0.RELEASE"), Tag.of("refs/tags/2.1.3.RELEASE"),
+			Tag.of("refs/tags/2.10.0.RELEASE"), Tag.of("refs/tags/2.2.0.M1"), Tag.of("refs/tags/2.2.0.RC1"),
+			Tag.of("refs/tags/docs.snapshot"), Tag.of("refs/tags/1.13.20.RELEASE")));
+
+	@Test
+	public void sortsVersionTagsOnly() {
+
+		assertThat(tags.asList()).extracting(Tag::toString).containsExactly("1.13.20.RELEASE", "2.1.0.RELEASE",
+				"2.1.3.RELEASE", "2.2.0.M1", "2.2.0.RC1", "2.10.0.RELEASE");
+		assertThat(tags.getLatest()).hasToString("2.10.0.RELEASE");
+	}
+
+	@Test
+	public void findsLatestTagWithinMajorMinorVersion() {
+
+		assertThat(tags.findLatestWithin(Version.parse("2.1"))).hasValue(Tag.of("2.1.3.RELEASE"));
+		assertThat(tags.findLatestWithin(Version.parse("2.2"))).hasValue(Tag.of("2.2.0.RC1"));
+		assertThat(tags.findLatestWithin(Version.parse("2.3"))).isEmpty();
+	}
+
+	@Test
+	public void findsLatestGA() {
+		assertThat(tags.findLatestGA()).hasValue(Tag.of("2.10.0.RELEASE"));
+	}
+
+	@Test
+	public void findsTagByVersion() {
+
+		assertThat(tags.findTag(ArtifactVersion.of("2.2.0.M1"))).hasValue(Tag.of("2.2.0.M1"));
+		assertThat(tags.findTag(ArtifactVersion.of("2.2.0.M2"))).isEmpty();
+	}
+}
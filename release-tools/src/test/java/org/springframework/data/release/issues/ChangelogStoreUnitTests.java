@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.release.issues.ChangelogStore.Snapshot;
+import org.springframework.data.release.io.Workspace;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.Tracker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link ChangelogStore}.
+ */
+public class ChangelogStoreUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	ModuleIteration jpa = ReleaseTrains.HOPPER.getModuleIteration(Projects.JPA, Iteration.GA);
+	ModuleIteration mongo = ReleaseTrains.HOPPER.getModuleIteration(Projects.MONGO_DB, Iteration.GA);
+	Instant timestamp = Instant.parse("2020-03-01T10:15:30.123Z");
+
+	Workspace workspace = mock(Workspace.class);
+	ChangelogStore store;
+
+	@Before
+	public void setUp() throws Exception {
+
+		when(workspace.getWorkingDirectory()).thenReturn(folder.newFolder("workspace"));
+
+		store = new ChangelogStore(workspace, new ObjectMapper());
+	}
+
+	@Test
+	public void ordersIssuesByNumericIdentifier() {
+
+		Snapshot<Issue> snapshot = Snapshot.of(timestamp,
+				Arrays.asList(new Issue("DATAJPA-100", "c"), new Issue("DATAJPA-9", "a"), new Issue("DATAJPA-20", "b")),
+				Issue::getId);
+
+		assertThat(snapshot.getIssues()).extracting(Issue::getId).containsExactly("DATAJPA-9", "DATAJPA-20",
+				"DATAJPA-100");
+	}
+
+	@Test
+	public void mergeReplacesUpdatedAndAddsNewIssues() {
+
+		Snapshot<Issue> snapshot = Snapshot.of(timestamp,
+				Arrays.asList(new Issue("#1", "first"), new Issue("#3", "third")), Issue::getId);
+
+		Snapshot<Issue> merged = snapshot.merge(timestamp.plusSeconds(60),
+				Arrays.asList(new Issue("#3", "updated"), new Issue("#2", "second")), Issue::getId);
+
+		assertThat(merged.getIssues()).containsExactly(new Issue("#1", "first"), new Issue("#2", "second"),
+				new Issue("#3", "updated"));
+		assertThat(merged.getAge(timestamp.plusSeconds(120))).isEqualTo(Duration.ofSeconds(60));
+		assertThat(merged).isEqualTo(Snapshot.of(timestamp.plusSeconds(60), merged.getIssues(), Issue::getId));
+	}
+
+	@Test
+	public void persistsSnapshotsPerModule() {
+
+		Snapshot<Issue> snapshot = Snapshot.of(timestamp, Collections.singletonList(new Issue("DATAJPA-1", "first")),
+				Issue::getId);
+
+		store.save(jpa, snapshot);
+
+		assertThat(store.get(jpa, Issue.class)).hasValue(snapshot);
+		assertThat(store.get(mongo, Issue.class)).isEmpty();
+	}
+
+	@Test
+	public void evictsAndClearsSnapshots() {
+
+		Snapshot<Issue> snapshot = Snapshot.of(timestamp, Collections.emptyList(), Issue::getId);
+
+		store.save(jpa, snapshot);
+		store.save(mongo, snapshot);
+
+		store.evict(jpa);
+
+		assertThat(store.get(jpa, Issue.class)).isEmpty();
+		assertThat(store.get(mongo, Issue.class)).hasValue(snapshot);
+
+		store.clear(Tracker.JIRA);
+
+		assertThat(store.get(mongo, Issue.class)).isEmpty();
+	}
+
+	@Value
+	static class Issue {
+		String id, summary;
+	}
+}
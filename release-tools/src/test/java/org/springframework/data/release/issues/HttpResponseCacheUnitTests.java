@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Unit tests for {@link HttpResponseCache}.
+ */
+public class HttpResponseCacheUnitTests {
+
+	static final String URI = "https://api.github.com/repos/spring-projects/spring-data-build/milestones";
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	File directory;
+	HttpResponseCache cache;
+	RestTemplate template;
+	MockRestServiceServer server;
+
+	@Before
+	public void setUp() {
+
+		directory = new File(folder.getRoot(), "http-cache");
+		cache = new HttpResponseCache(directory, DataSize.ofMegabytes(1));
+		template = createTemplate(cache);
+		server = MockRestServiceServer.bindTo(template).build();
+	}
+
+	@Test
+	public void revalidatesCachedResponseUsingETag() {
+
+		server.expect(requestTo(URI)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(etag("\"abc\"")));
+		server.expect(requestTo(URI)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+				.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		assertThat(template.getForObject(URI, String.class)).isEqualTo("[]");
+		assertThat(template.getForObject(URI, String.class)).isEqualTo("[]");
+
+		server.verify();
+
+		assertThat(cache.getStatistics().getMisses()).isEqualTo(1);
+		assertThat(cache.getStatistics().getRevalidations()).isEqualTo(1);
+	}
+
+	@Test
+	public void servesFreshResponseWithoutRequestUntilModifyingRequest() {
+
+		HttpHeaders headers = etag("\"abc\"");
+		headers.setCacheControl("private, max-age=60");
+
+		server.expect(once(), requestTo(URI)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+		server.expect(once(), requestTo(URI)).andExpect(method(HttpMethod.POST)).andRespond(withSuccess());
+		server.expect(once(), requestTo(URI)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+				.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		template.getForObject(URI, String.class);
+		template.getForObject(URI, String.class);
+
+		assertThat(cache.getStatistics().getHits()).isEqualTo(1);
+
+		template.postForObject(URI, "{}", String.class);
+		template.getForObject(URI, String.class);
+
+		server.verify();
+		assertThat(cache.getStatistics().getRevalidations()).isEqualTo(1);
+	}
+
+	@Test
+	public void keepsFreshResponsesForRequestsMarkedSafe() {
+
+		HttpHeaders headers = etag("\"abc\"");
+		headers.setCacheControl("private, max-age=60");
+
+		server.expect(once(), requestTo(URI)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(headers));
+		server.expect(once(), requestTo(URI)).andExpect(method(HttpMethod.POST)).andRespond(withSuccess());
+
+		template.getForObject(URI, String.class);
+		template.postForObject(URI, new HttpEntity<>("{}", SafeRequests.markSafe(new HttpHeaders())), String.class);
+		template.getForObject(URI, String.class);
+
+		server.verify();
+		assertThat(cache.getStatistics().getHits()).isEqualTo(1);
+	}
+
+	@Test
+	public void keepsResponsesAcrossInstances() {
+
+		server.expect(requestTo(URI)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(etag("\"abc\"")));
+		template.getForObject(URI, String.class);
+
+		HttpResponseCache restarted = new HttpResponseCache(directory, DataSize.ofMegabytes(1));
+		RestTemplate restartedTemplate = createTemplate(restarted);
+		MockRestServiceServer restartedServer = MockRestServiceServer.bindTo(restartedTemplate).build();
+
+		restartedServer.expect(requestTo(URI)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+				.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		assertThat(restartedTemplate.getForObject(URI, String.class)).isEqualTo("[]");
+		restartedServer.verify();
+	}
+
+	@Test
+	public void cachesResponsesNotReadCompletely() {
+
+		server.expect(requestTo(URI))
+				.andRespond(withSuccess("[1, 2]", MediaType.APPLICATION_JSON).headers(etag("\"abc\"")));
+		server.expect(requestTo(URI)).andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+				.andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+		assertThat(template.execute(URI, HttpMethod.GET, null, response -> response.getBody().read())).isEqualTo((int) '[');
+		assertThat(template.getForObject(URI, String.class)).isEqualTo("[1, 2]");
+
+		server.verify();
+		assertThat(directory.list((dir, name) -> name.endsWith(".tmp"))).isEmpty();
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedResponses() {
+
+		cache = new HttpResponseCache(directory, DataSize.ofBytes(300));
+		template = createTemplate(cache);
+		server = MockRestServiceServer.bindTo(template).build();
+
+		String body = new String(new char[200]).replace('\0', 'x');
+
+		server.expect(requestTo(URI + "?page=1")).andRespond(withSuccess(body, MediaType.TEXT_PLAIN).headers(etag("\"1\"")));
+		server.expect(requestTo(URI + "?page=2")).andRespond(withSuccess(body, MediaType.TEXT_PLAIN).headers(etag("\"2\"")));
+
+		template.getForObject(URI + "?page=1", String.class);
+		template.getForObject(URI + "?page=2", String.class);
+
+		assertThat(cache.getStatistics().getEntries()).isEqualTo(1);
+		assertThat(cache.getStatistics().getSize()).isLessThanOrEqualTo(300);
+	}
+
+	@Test
+	public void revalidatesResponsesOfWebClient() {
+
+		List<ClientRequest> requests = new ArrayList<>();
+		Deque<ClientResponse> responses = new ArrayDeque<>(Arrays.asList( //
+				ClientResponse.create(HttpStatus.OK).header(HttpHeaders.ETAG, "\"abc\"")
+						.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).body("[]").build(), //
+				ClientResponse.create(HttpStatus.NOT_MODIFIED).build()));
+
+		WebClient client = WebClient.builder() //
+				.filter(cache.toExchangeFilter(ExchangeStrategies.withDefaults())) //
+				.exchangeFunction(request -> {
+					requests.add(request);
+					return Mono.just(responses.pop());
+				}).build();
+
+		assertThat(client.get().uri(URI).retrieve().bodyToMono(String.class).block()).isEqualTo("[]");
+		assertThat(client.get().uri(URI).retrieve().bodyToMono(String.class).block()).isEqualTo("[]");
+
+		assertThat(requests).hasSize(2);
+		assertThat(requests.get(1).headers().getIfNoneMatch()).isEqualTo(Collections.singletonList("\"abc\""));
+		assertThat(cache.getStatistics().getMisses()).isEqualTo(1);
+		assertThat(cache.getStatistics().getRevalidations()).isEqualTo(1);
+	}
+
+	private static RestTemplate createTemplate(HttpResponseCache cache) {
+
+		RestTemplate template = new RestTemplate();
+		template.getInterceptors().add(cache);
+
+		return template;
+	}
+
+	private static HttpHeaders etag(String etag) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag(etag);
+
+		return headers;
+	}
+}
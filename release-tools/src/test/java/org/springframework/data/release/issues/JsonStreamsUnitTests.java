@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link JsonStreams}.
+ */
+public class JsonStreamsUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper();
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void readsArrayElementsLazily() throws IOException {
+
+		JsonParser parser = mapper.getFactory().createParser("[{\"id\":1},{\"id\":2},{\"id\":3}]");
+		parser.nextToken();
+
+		Iterator<Map> elements = JsonStreams.stream(mapper, parser, Map.class).iterator();
+
+		assertThat(elements.next()).containsEntry("id", 1);
+		assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+
+		assertThat(elements.next()).containsEntry("id", 2);
+		assertThat(elements.next()).containsEntry("id", 3);
+		assertThat(elements.hasNext()).isFalse();
+		assertThat(parser.currentToken()).isEqualTo(JsonToken.END_ARRAY);
+	}
+
+	@Test
+	public void considersNullAnEmptyArray() throws IOException {
+
+		JsonParser parser = mapper.getFactory().createParser("null");
+		parser.nextToken();
+
+		assertThat(JsonStreams.stream(mapper, parser, Object.class)).isEmpty();
+	}
+
+	@Test
+	public void rejectsParserNotPositionedAtArray() throws IOException {
+
+		JsonParser parser = mapper.getFactory().createParser("{}");
+		parser.nextToken();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> JsonStreams.stream(mapper, parser, Object.class));
+	}
+
+	@Test
+	public void streamsNestedArrayWhileVisitingFields() throws IOException {
+
+		JsonParser parser = mapper.getFactory()
+				.createParser("{\"total\":2,\"nested\":{\"ignored\":[1]},\"values\":[\"a\",\"b\"],\"last\":true}");
+		parser.nextToken();
+
+		List<String> fields = new ArrayList<>();
+		List<String> values = new ArrayList<>();
+
+		JsonStreams.doWithFields(parser, (name, value) -> {
+
+			fields.add(name);
+
+			if (name.equals("values")) {
+				JsonStreams.stream(mapper, value, String.class).forEach(values::add);
+			} else {
+				value.skipChildren();
+			}
+		});
+
+		assertThat(fields).containsExactly("total", "nested", "values", "last");
+		assertThat(values).containsExactly("a", "b");
+		assertThat(parser.currentToken()).isEqualTo(JsonToken.END_OBJECT);
+	}
+}
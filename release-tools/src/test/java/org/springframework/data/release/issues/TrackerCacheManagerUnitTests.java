@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.release.issues.TrackerCacheKeyGenerator.CompositeKey;
+import org.springframework.data.release.model.Iteration;
+import org.springframework.data.release.model.ModuleIteration;
+import org.springframework.data.release.model.Projects;
+import org.springframework.data.release.model.ReleaseTrains;
+
+/**
+ * Unit tests for {@link TrackerCacheManager}.
+ */
+public class TrackerCacheManagerUnitTests {
+
+	ModuleIteration jpa = ReleaseTrains.HOPPER.getModuleIteration(Projects.JPA, Iteration.GA);
+	ModuleIteration mongo = ReleaseTrains.HOPPER.getModuleIteration(Projects.MONGO_DB, Iteration.GA);
+	ModuleIteration previous = ReleaseTrains.HOPPER.getModuleIteration(Projects.MONGO_DB, Iteration.RC1);
+
+	TrackerCacheProperties properties = new TrackerCacheProperties();
+	AtomicInteger loads = new AtomicInteger();
+	TrackerCacheManager manager;
+
+	@Before
+	public void setUp() {
+		manager = new TrackerCacheManager(properties, module -> "Release " + module + " #" + loads.incrementAndGet());
+	}
+
+	@Test
+	public void boundsCachesToConfiguredSize() {
+
+		properties.getMaximumSizes().put("tickets", 2L);
+
+		CaffeineCache cache = (CaffeineCache) manager.getCache("tickets");
+
+		cache.put(jpa, "jpa");
+		cache.put(mongo, "mongo");
+		cache.put(previous, "previous");
+		cache.getNativeCache().cleanUp();
+
+		assertThat(cache.getNativeCache().estimatedSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void evictsEntriesReferringToModule() {
+
+		Cache tickets = manager.getCache("tickets");
+
+		tickets.put(jpa, "jpa");
+		tickets.put(mongo, "mongo");
+		tickets.put(previous, "previous");
+		tickets.put(jpa.getTrainIteration(), "train");
+		tickets.put(new CompositeKey(Arrays.asList(Projects.MONGO_DB, Arrays.asList("DATAMONGO-1"))), "tickets");
+		tickets.put(new CompositeKey(Arrays.asList(previous.getTrainIteration(), true)), "previous train");
+
+		manager.evict(mongo);
+
+		assertThat(tickets.get(jpa)).isNotNull();
+		assertThat(tickets.get(mongo)).isNull();
+		assertThat(tickets.get(previous)).isNotNull();
+		assertThat(tickets.get(jpa.getTrainIteration())).isNull();
+		assertThat(tickets.get(new CompositeKey(Arrays.asList(Projects.MONGO_DB, Arrays.asList("DATAMONGO-1")))))
+				.isNull();
+		assertThat(tickets.get(new CompositeKey(Arrays.asList(previous.getTrainIteration(), true)))).isNotNull();
+	}
+
+	@Test
+	public void loadsReleaseTicketsThroughLoader() {
+
+		Cache cache = manager.getCache("release-tickets");
+
+		assertThat(cache.get(jpa).get()).isEqualTo("Release " + jpa + " #1");
+		assertThat(cache.get(jpa).get()).isEqualTo("Release " + jpa + " #1");
+		assertThat(manager.getCache("tickets").get(jpa)).isNull();
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	public void exposesStatistics() {
+
+		Cache cache = manager.getCache("tickets");
+
+		cache.get(jpa);
+		cache.put(jpa, "jpa");
+		cache.get(jpa);
+
+		assertThat(manager.getStatistics()).hasSize(1);
+		assertThat(manager.getStatistics().iterator().next().toString())
+				.isEqualTo("tickets: 1 entries, 1 hits, 1 misses, 0 evictions, 0 loads");
+	}
+}
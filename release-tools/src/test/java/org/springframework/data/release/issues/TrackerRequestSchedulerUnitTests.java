@@ -0,0 +1,250 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Unit tests for {@link TrackerRequestScheduler}.
+ */
+public class TrackerRequestSchedulerUnitTests {
+
+	static final String URI = "https://api.github.com/repos/spring-projects/spring-data-build/milestones";
+
+	MutableClock clock = new MutableClock();
+	List<Long> sleeps = new ArrayList<>();
+
+	TrackerSchedulingProperties properties;
+	TrackerRequestScheduler scheduler;
+	RestTemplate template;
+	MockRestServiceServer server;
+
+	@Before
+	public void setUp() {
+
+		properties = new TrackerSchedulingProperties();
+		scheduler = new TrackerRequestScheduler(properties, clock, millis -> {
+			sleeps.add(millis);
+			clock.millis += millis;
+		});
+
+		template = new RestTemplate();
+		template.getInterceptors().add(scheduler);
+		server = MockRestServiceServer.bindTo(template).build();
+	}
+
+	@Test
+	public void retriesThrottledRequestAfterRequestedDelay() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, "2");
+
+		server.expect(requestTo(URI)).andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(headers));
+		server.expect(requestTo(URI)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+		assertThat(template.getForObject(URI, String.class)).isEqualTo("[]");
+
+		server.verify();
+
+		assertThat(sleeps).containsExactly(2000L);
+		assertThat(scheduler.getStatistics().getEndpoints()).hasOnlyOneElementSatisfying(it -> {
+			assertThat(it.getRequests()).isEqualTo(2);
+			assertThat(it.getRetries()).isEqualTo(1);
+			assertThat(it.getThrottled()).isEqualTo(1);
+			assertThat(it.getWaited()).isEqualTo(2000);
+		});
+	}
+
+	@Test
+	public void retriesServerErrorsOfIdempotentRequestsWithBackoff() {
+
+		server.expect(requestTo(URI)).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+		server.expect(requestTo(URI)).andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+		server.expect(requestTo(URI)).andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+		assertThat(template.getForObject(URI, String.class)).isEqualTo("[]");
+
+		server.verify();
+
+		assertThat(sleeps).hasSizeLessThanOrEqualTo(2).allSatisfy(it -> assertThat(it).isBetween(0L, 1000L));
+	}
+
+	@Test
+	public void doesNotRetryServerErrorsOfNonIdempotentRequests() {
+
+		server.expect(once(), requestTo(URI)).andExpect(method(HttpMethod.POST))
+				.andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+		assertThatExceptionOfType(HttpServerErrorException.class)
+				.isThrownBy(() -> template.postForObject(URI, "{}", String.class));
+
+		server.verify();
+	}
+
+	@Test
+	public void retriesServerErrorsOfRequestsMarkedSafe() {
+
+		server.expect(requestTo(URI)).andExpect(method(HttpMethod.POST))
+				.andExpect(request -> assertThat(request.getHeaders()).doesNotContainKey(SafeRequests.HEADER))
+				.andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+		server.expect(requestTo(URI)).andExpect(method(HttpMethod.POST))
+				.andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+		HttpEntity<String> query = new HttpEntity<>("{}", SafeRequests.markSafe(new HttpHeaders()));
+
+		assertThat(template.postForObject(URI, query, String.class)).isEqualTo("{}");
+
+		server.verify();
+	}
+
+	@Test
+	public void givesUpAfterMaximumNumberOfRetries() {
+
+		properties.setMaxRetries(1);
+
+		server.expect(times(2), requestTo(URI)).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+		assertThatExceptionOfType(HttpServerErrorException.class)
+				.isThrownBy(() -> template.getForObject(URI, String.class));
+
+		server.verify();
+	}
+
+	@Test
+	public void holdsBackRequestsUntilExhaustedBudgetIsReset() {
+
+		server.expect(requestTo(URI)).andRespond(withSuccess().headers(rateLimit(5000, 0, 10)));
+		server.expect(requestTo(URI)).andRespond(withSuccess());
+
+		template.getForObject(URI, String.class);
+		template.getForObject(URI, String.class);
+
+		server.verify();
+
+		assertThat(sleeps).containsExactly(10_000L);
+	}
+
+	@Test
+	public void spreadsRequestsOnceBudgetRunsLow() {
+
+		server.expect(requestTo(URI)).andRespond(withSuccess().headers(rateLimit(100, 10, 10)));
+
+		template.getForObject(URI, String.class);
+
+		assertThat(scheduler.acquire("api.github.com")).isEqualTo(Duration.ZERO);
+		assertThat(scheduler.acquire("api.github.com")).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	public void doesNotPaceRequestsWithSufficientBudget() {
+
+		server.expect(requestTo(URI)).andRespond(withSuccess().headers(rateLimit(100, 90, 10)));
+
+		template.getForObject(URI, String.class);
+
+		assertThat(scheduler.acquire("api.github.com")).isEqualTo(Duration.ZERO);
+		assertThat(scheduler.acquire("api.github.com")).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	public void failsFastIfBudgetIsExhaustedLongerThanMaximumWait() {
+
+		server.expect(requestTo(URI)).andRespond(withSuccess().headers(rateLimit(5000, 0, 3600)));
+
+		template.getForObject(URI, String.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> template.getForObject(URI, String.class))
+				.withMessageContaining("api.github.com");
+	}
+
+	@Test
+	public void tracksBudgetsPerCredentials() {
+
+		HttpHeaders authenticated = new HttpHeaders();
+		authenticated.setBasicAuth("user", "password");
+
+		server.expect(requestTo(URI)).andRespond(withSuccess().headers(rateLimit(5000, 0, 10)));
+
+		template.exchange(URI, HttpMethod.GET, new HttpEntity<>(authenticated), String.class);
+
+		assertThat(scheduler.getStatistics().getBudgets()).hasOnlyOneElementSatisfying(it -> {
+			assertThat(it.getName()).startsWith("api.github.com (");
+			assertThat(it.getRemaining()).isEqualTo(0);
+		});
+		assertThat(scheduler.acquire("api.github.com")).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	public void aggregatesEndpointsWithDifferentIdentifiers() {
+
+		assertThat(TrackerRequestScheduler.normalize("/repos/spring-projects/spring-data-build/issues/233"))
+				.isEqualTo("/repos/spring-projects/spring-data-build/issues/{number}");
+		assertThat(TrackerRequestScheduler.normalize("/rest/api/2/issue/DATACMNS-1234/transitions"))
+				.isEqualTo("/rest/api/2/issue/{key}/transitions");
+	}
+
+	private HttpHeaders rateLimit(long limit, long remaining, long secondsToReset) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-RateLimit-Limit", String.valueOf(limit));
+		headers.set("X-RateLimit-Remaining", String.valueOf(remaining));
+		headers.set("X-RateLimit-Reset", String.valueOf(clock.millis / 1000 + secondsToReset));
+
+		return headers;
+	}
+
+	static class MutableClock extends Clock {
+
+		long millis = 1_600_000_000_000L;
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+	}
+}
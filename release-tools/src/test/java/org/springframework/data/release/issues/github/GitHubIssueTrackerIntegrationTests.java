@@ -32,6 +32,7 @@ import org.junit.rules.ExpectedException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.release.AbstractIntegrationTests;
 import org.springframework.data.release.issues.Ticket;
+import org.springframework.data.release.issues.Tickets;
 import org.springframework.data.release.model.Iteration;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.Projects;
@@ -64,6 +65,7 @@ public class GitHubIssueTrackerIntegrationTests extends AbstractIntegrationTests
 	@Rule public ExpectedException expectedException = ExpectedException.none();
 
 	@Autowired GitHub github;
+	@Autowired ReactiveGitHub reactiveGitHub;
 	@Autowired GitHubProperties properties;
 
 	@Before
@@ -81,7 +83,7 @@ public class GitHubIssueTrackerIntegrationTests extends AbstractIntegrationTests
 	@Test
 	public void findTicketsByTicketIds() throws Exception {
 
-		mockGetIssueWith("issue.json", 233);
+		mockGraphQlWith("issuesByNumber.json");
 
 		Collection<Ticket> tickets = github.findTickets(Projects.BUILD, Arrays.asList("233"));
 		assertThat(tickets, hasSize(1));
@@ -93,10 +95,40 @@ public class GitHubIssueTrackerIntegrationTests extends AbstractIntegrationTests
 	@Test
 	public void ignoresUnknownTicketsByTicketId() throws Exception {
 
+		mockGraphQlWith("issuesByNumber.json");
+
 		Collection<Ticket> tickets = github.findTickets(Projects.BUILD, Arrays.asList("123"));
 		assertThat(tickets, hasSize(0));
 	}
 
+	@Test
+	public void resolvesTicketsUsingSingleGraphQlRequest() throws Exception {
+
+		mockGraphQlWith("issuesByNumber.json");
+
+		Collection<Ticket> tickets = github.findTickets(Projects.BUILD, Arrays.asList("233", "#234", "123"));
+
+		assertThat(tickets, hasSize(2));
+		assertThat(tickets.iterator().next().getId(), is("#233"));
+		assertThat(tickets.iterator().next().isResolved(), is(true));
+
+		verify(1, postRequestedFor(urlPathMatching("/graphql"))
+				.withRequestBody(containing("repository(owner: \\\"spring-projects\\\", name: \\\"spring-data-build\\\")")));
+		verify(0, getRequestedFor(urlPathMatching(ISSUES_URI + "/.*")));
+	}
+
+	@Test
+	public void fallsBackToIndividualLookupsWithoutGraphQlApi() throws Exception {
+
+		mockService.stubFor(post(urlPathMatching("/graphql")).//
+				willReturn(aResponse().withStatus(404)));
+		mockGetIssueWith("issue.json", 233);
+
+		Collection<Ticket> tickets = github.findTickets(Projects.BUILD, Arrays.asList("233"));
+
+		assertThat(tickets, hasSize(1));
+	}
+
 	/**
 	 * @see #5
 	 */
@@ -120,6 +152,36 @@ public class GitHubIssueTrackerIntegrationTests extends AbstractIntegrationTests
 		assertThat(releaseTicket.getId(), is(Matchers.equalTo("#233")));
 	}
 
+	@Test
+	public void getTicketsForTrainIterationReturnsTicketsOfAllGitHubModules() throws Exception {
+
+		mockGetMilestonesWith("milestones.json");
+		mockGetIssuesWith("issues.json");
+
+		mockEnversMilestoneWithoutIssues();
+
+		Tickets tickets = reactiveGitHub.getTicketsFor(BUILD_HOPPER_RC1.getTrainIteration(), false).block();
+
+		assertThat(tickets.hasReleaseTicket(BUILD_HOPPER_RC1), is(true));
+	}
+
+	@Test
+	public void getTicketsForTrainIterationCachesTicketsPerModule() throws Exception {
+
+		mockGetMilestonesWith("milestones.json");
+		mockGetIssuesWith("issues.json");
+		mockEnversMilestoneWithoutIssues();
+
+		github.getTicketsFor(BUILD_HOPPER_RC1.getTrainIteration());
+
+		assertThat(github.getReleaseTicketFor(BUILD_HOPPER_RC1).getId(), is("#233"));
+
+		github.createReleaseTicket(BUILD_HOPPER_RC1);
+
+		verify(1, getRequestedFor(urlPathMatching(ISSUES_URI)));
+		verify(0, postRequestedFor(urlPathMatching(ISSUES_URI)));
+	}
+
 	/**
 	 * @see #5
 	 */
@@ -257,6 +319,25 @@ public class GitHubIssueTrackerIntegrationTests extends AbstractIntegrationTests
 				willReturn(json(fromClassPath)));
 	}
 
+	private void mockGraphQlWith(String fromClassPath) {
+		mockService.stubFor(post(urlPathMatching("/graphql")).//
+				willReturn(json(fromClassPath)));
+	}
+
+	private void mockEnversMilestoneWithoutIssues() {
+
+		mockService.stubFor(get(urlPathMatching("/repos/spring-projects/spring-data-envers/milestones")).//
+				willReturn(aResponse().//
+						withStatus(200).//
+						withHeader("Content-Type", "application/json").//
+						withBody("[{\"number\":7,\"title\":\"1.0 RC1 (Hopper)\",\"state\":\"open\"}]")));
+		mockService.stubFor(get(urlPathMatching("/repos/spring-projects/spring-data-envers/issues")).//
+				willReturn(aResponse().//
+						withStatus(200).//
+						withHeader("Content-Type", "application/json").//
+						withBody("[]")));
+	}
+
 	private void mockGetIssuesWith(String fromClassPath) {
 		mockService.stubFor(get(urlPathMatching(ISSUES_URI)).//
 				willReturn(json(fromClassPath)));
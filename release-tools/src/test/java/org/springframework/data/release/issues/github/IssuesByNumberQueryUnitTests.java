@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.github;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link IssuesByNumberQuery}.
+ */
+public class IssuesByNumberQueryUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper();
+	IssuesByNumberQuery query = new IssuesByNumberQuery("spring-projects", "spring-data-build",
+			Arrays.asList("234", "233", "123"));
+
+	@Test
+	public void rendersAliasPerIssueNumber() {
+
+		String rendered = ((Map<?, ?>) query.toRequestBody()).get("query").toString();
+
+		assertThat(rendered).startsWith("query { repository(owner: \"spring-projects\", name: \"spring-data-build\") {")
+				.contains("i234: issueOrPullRequest(number: 234)") //
+				.contains("i233: issueOrPullRequest(number: 233)") //
+				.contains("i123: issueOrPullRequest(number: 123)");
+	}
+
+	@Test
+	public void readsIssuesInRequestedOrderSkippingUnresolvableOnes() throws Exception {
+
+		List<GitHubIssue> issues = query.read(mapper.readTree("{ \"data\" : { \"repository\" : { " //
+				+ "\"i233\" : { \"number\" : 233, \"title\" : \"Release\", \"state\" : \"OPEN\" }, " //
+				+ "\"i234\" : { \"number\" : 234, \"title\" : \"Pull request\", \"state\" : \"MERGED\" }, " //
+				+ "\"i123\" : null } } }"));
+
+		assertThat(issues).extracting(GitHubIssue::getId).containsExactly("#234", "#233");
+		assertThat(issues).extracting(GitHubIssue::getState).containsExactly("closed", "open");
+	}
+
+	@Test
+	public void rejectsResponseWithoutRepository() throws Exception {
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> query.read(mapper.readTree("{ \"data\" : { \"repository\" : null }, "
+						+ "\"errors\" : [ { \"type\" : \"NOT_FOUND\" } ] }")))
+				.withMessageContaining("spring-projects/spring-data-build");
+	}
+}
@@ -22,7 +22,10 @@ import static org.junit.Assert.*;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.hamcrest.Matchers;
 import org.junit.Assume;
@@ -31,13 +34,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.release.AbstractIntegrationTests;
 import org.springframework.data.release.issues.Ticket;
+import org.springframework.data.release.issues.Tickets;
 import org.springframework.data.release.model.Iteration;
 import org.springframework.data.release.model.ModuleIteration;
 import org.springframework.data.release.model.ProjectKey;
 import org.springframework.data.release.model.Projects;
 import org.springframework.data.release.model.ReleaseTrains;
+import org.springframework.data.release.model.TrainIteration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.util.UriComponents;
@@ -69,6 +75,7 @@ public class JiraConnectorIntegrationTests extends AbstractIntegrationTests {
 
 	@Autowired JiraConnector jira;
 	@Autowired JiraProperties properties;
+	@Autowired CacheManager cacheManager;
 
 	@Before
 	public void before() throws Exception {
@@ -104,6 +111,20 @@ public class JiraConnectorIntegrationTests extends AbstractIntegrationTests {
 		assertThat(tickets, hasSize(0));
 	}
 
+	@Test
+	public void findTicketsSplitsLargeTicketSetsIntoMultipleQueries() throws Exception {
+
+		mockSearchWith("emptyTickets.json");
+
+		List<String> ticketIds = IntStream.range(1000, 1150).mapToObj(it -> "DATAREDIS-" + it)
+				.collect(Collectors.toList());
+
+		Collection<Ticket> tickets = jira.findTickets(Projects.REDIS, ticketIds);
+
+		assertThat(tickets, hasSize(0));
+		verify(3, getRequestedFor(urlPathMatching(SEARCH_URI)).withQueryParam("fields", equalTo("summary,status,resolution")));
+	}
+
 	/**
 	 * @see #5
 	 */
@@ -343,6 +364,82 @@ public class JiraConnectorIntegrationTests extends AbstractIntegrationTests {
 				equalToJson("{\"update\":{},\"transition\":{\"id\":5},\"fields\":{\"resolution\":{\"name\":\"Complete\"}}}")));
 	}
 
+	@Test
+	public void getChangelogForFetchesAllPages() {
+
+		for (int startAt : new int[] { 0, 2, 4 }) {
+			mockService.stubFor(get(urlPathMatching(SEARCH_URI)).withQueryParam("startAt", equalTo("" + startAt)).//
+					willReturn(json("pagedTickets-" + startAt + ".json")));
+		}
+
+		String changelog = jira.getChangelogFor(REST_HOPPER_RC1).toString();
+
+		assertThat(changelog, stringContainsInOrder(
+				Arrays.asList("DATAREST-1", "DATAREST-2", "DATAREST-3", "DATAREST-4", "DATAREST-5")));
+		verify(3, getRequestedFor(urlPathMatching(SEARCH_URI)));
+	}
+
+	@Test
+	public void getChangelogForOnlyFetchesTicketsUpdatedSinceLastChangelog() {
+
+		for (int startAt : new int[] { 0, 2, 4 }) {
+			mockService.stubFor(get(urlPathMatching(SEARCH_URI)).withQueryParam("startAt", equalTo("" + startAt)).//
+					willReturn(json("pagedTickets-" + startAt + ".json")));
+		}
+
+		String changelog = jira.getChangelogFor(REST_HOPPER_RC1).toString();
+
+		mockService.stubFor(get(urlPathMatching(SEARCH_URI)).withQueryParam("jql", containing("updated >=")).//
+				willReturn(json("emptyTickets.json")));
+		mockService.stubFor(get(urlPathMatching(SEARCH_URI)).withQueryParam("maxResults", equalTo("0")).//
+				willReturn(json("pagedTickets-0.json")));
+
+		cacheManager.getCache("changelogs").clear();
+
+		assertThat(jira.getChangelogFor(REST_HOPPER_RC1).toString(), is(changelog));
+		verify(3, getRequestedFor(urlPathMatching(SEARCH_URI)).withQueryParam("jql", notMatching(".*updated.*"))
+				.withQueryParam("startAt", matching("\\d+")));
+		verify(1, getRequestedFor(urlPathMatching(SEARCH_URI)).withQueryParam("jql", containing("updated >=")));
+		verify(1, getRequestedFor(urlPathMatching(SEARCH_URI)).withQueryParam("maxResults", equalTo("0")));
+	}
+
+	@Test
+	public void findsReleaseVersionOnSubsequentPage() {
+
+		for (int startAt : new int[] { 0, 1, 2 }) {
+			mockService.stubFor(get(urlPathMatching(String.format(PROJECT_VERSION_URI, REST_HOPPER_RC1.getProjectKey())))
+					.withQueryParam("startAt", equalTo("" + startAt)).//
+					willReturn(json("pagedReleaseVersions-" + startAt + ".json")));
+		}
+
+		Optional<JiraReleaseVersion> optional = jira.findJiraReleaseVersion(REST_HOPPER_RC1);
+
+		assertThat(optional.isPresent(), is(true));
+		assertThat(optional.get().getName(), is(Matchers.equalTo("2.5 RC1 (Hopper)")));
+	}
+
+	@Test
+	public void getTicketsForTrainIterationCachesTicketsPerModule() {
+
+		TrainIteration iteration = REST_HOPPER_RC1.getTrainIteration();
+		ModuleIteration jpa = iteration.getModule(Projects.JPA);
+
+		mockSearchWith("trainTickets.json");
+
+		Tickets tickets = jira.getTicketsFor(iteration);
+
+		assertThat(tickets.stream().map(Ticket::getId).collect(Collectors.toList()),
+				contains("DATAREST-782", "DATAREST-781", "DATAJPA-870"));
+
+		assertThat(jira.getReleaseTicketFor(REST_HOPPER_RC1).getId(), is("DATAREST-782"));
+		assertThat(jira.getReleaseTicketFor(jpa).getId(), is("DATAJPA-870"));
+
+		jira.createReleaseTicket(REST_HOPPER_RC1);
+
+		verify(1, getRequestedFor(urlPathMatching(SEARCH_URI)));
+		verify(0, postRequestedFor(urlPathMatching(CREATE_ISSUE_URI)));
+	}
+
 	private void mockSearchWith(String fromClassPath) {
 		mockService.stubFor(get(urlPathMatching(SEARCH_URI)).//
 				willReturn(json(fromClassPath)));
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+/**
+ * Unit tests for {@link JiraIssues}.
+ */
+public class JiraIssuesUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper() //
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false) //
+			.registerModule(new ParameterNamesModule(Mode.PROPERTIES));
+
+	@Test
+	public void readsPageFromTokenStream() throws Exception {
+
+		String json = "{\"expand\":\"schema,names\",\"startAt\":50,\"maxResults\":50,\"total\":52,\"issues\":[" //
+				+ "{\"id\":\"1\",\"key\":\"DATACMNS-1\",\"fields\":{\"summary\":\"First\",\"description\":{\"ignored\":[1]}}}," //
+				+ "{\"id\":\"2\",\"key\":\"DATACMNS-2\",\"fields\":{\"summary\":\"Second\"}}]}";
+
+		JiraIssues issues = JiraIssues.read(mapper, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(issues.getStartAt()).isEqualTo(50);
+		assertThat(issues.getTotal()).isEqualTo(52);
+		assertThat(issues.getSize()).isEqualTo(2);
+		assertThat(issues.hasMoreResults()).isFalse();
+		assertThat(issues).extracting(JiraIssue::getKey).containsExactly("DATACMNS-1", "DATACMNS-2");
+		assertThat(issues).extracting(it -> it.getFields().getSummary()).containsExactly("First", "Second");
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link JiraPaginator}.
+ */
+public class JiraPaginatorUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void returnsSinglePageWithoutFurtherRequests() {
+
+		List<Integer> requested = Collections.synchronizedList(new ArrayList<>());
+
+		List<Page> pages = new JiraPaginator(executor, 4).getPages(startAt -> {
+			requested.add(startAt);
+			return new Page(startAt, 2, 2);
+		});
+
+		assertThat(pages).hasSize(1);
+		assertThat(requested).containsExactly(0);
+	}
+
+	@Test
+	public void returnsPagesInOrder() {
+
+		List<Page> pages = new JiraPaginator(executor, 4).getPages(startAt -> new Page(startAt, 10, 95));
+
+		assertThat(pages.stream().map(Page::getStartAt).collect(Collectors.toList())) //
+				.containsExactly(0, 10, 20, 30, 40, 50, 60, 70, 80, 90);
+		assertThat(pages.get(pages.size() - 1).getSize()).isEqualTo(5);
+	}
+
+	@Test
+	public void continuesWithinWindowIfServerReturnsShorterPages() {
+
+		AtomicInteger requests = new AtomicInteger();
+
+		List<Page> pages = new JiraPaginator(executor, 2).getPages(startAt -> {
+			requests.incrementAndGet();
+			return new Page(startAt, startAt == 0 ? 10 : 5, 30);
+		});
+
+		assertThat(pages.stream().map(Page::getStartAt).collect(Collectors.toList())) //
+				.containsExactly(0, 10, 15, 20, 25);
+		assertThat(requests).hasValue(5);
+	}
+
+	@Test
+	public void limitsConcurrentRequests() throws Exception {
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+		CountDownLatch overlap = new CountDownLatch(2);
+
+		new JiraPaginator(executor, 2).getPages(startAt -> {
+
+			if (startAt == 0) {
+				return new Page(startAt, 1, 8);
+			}
+
+			maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+			overlap.countDown();
+
+			try {
+				overlap.await(1, TimeUnit.SECONDS);
+			} catch (InterruptedException o_O) {
+				throw new IllegalStateException(o_O);
+			}
+
+			running.decrementAndGet();
+
+			return new Page(startAt, 1, 8);
+		});
+
+		assertThat(maximum).hasValue(2);
+	}
+
+	@Test
+	public void limitsConcurrentRequestsOfNestedPagination() {
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+		JiraPaginator paginator = new JiraPaginator(executor, 2);
+
+		List<List<Page>> result = paginator.getConcurrently(Arrays.asList(1, 2, 3), query -> {
+
+			return paginator.getPages(startAt -> {
+
+				maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException o_O) {
+					throw new IllegalStateException(o_O);
+				}
+
+				running.decrementAndGet();
+
+				return new Page(startAt, 1, 4);
+			});
+		});
+
+		assertThat(result).allSatisfy(it -> assertThat(it).hasSize(4));
+		assertThat(maximum.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	public void completesIfWorkersCannotBeScheduled() {
+
+		List<Page> pages = new JiraPaginator(command -> {}, 4).getPages(startAt -> new Page(startAt, 1, 3));
+
+		assertThat(pages).hasSize(3);
+	}
+
+	@Test
+	public void propagatesFailures() {
+
+		JiraPaginator paginator = new JiraPaginator(executor, 4);
+
+		assertThatIllegalStateException().isThrownBy(() -> paginator.getPages(startAt -> {
+
+			if (startAt == 20) {
+				throw new IllegalStateException("Boom");
+			}
+
+			return new Page(startAt, 10, 40);
+		})).withMessage("Boom");
+	}
+
+	@Value
+	static class Page implements JiraPage {
+
+		int startAt, size, total;
+
+		Page(int startAt, int size, int total) {
+
+			this.startAt = startAt;
+			this.size = Math.min(size, total - startAt);
+			this.total = total;
+		}
+	}
+}
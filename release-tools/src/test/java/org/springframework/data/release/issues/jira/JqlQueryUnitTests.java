@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.issues.jira;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Unit tests for {@link JqlQuery}.
+ */
+public class JqlQueryUnitTests {
+
+	@Test
+	public void createsSingleQueryForFewTickets() {
+
+		List<JqlQuery> queries = JqlQuery.from(Arrays.asList("DATAJPA-1", "DATAMONGO-2"), 1000);
+
+		assertThat(queries).extracting(JqlQuery::toString).containsExactly("issueKey in (DATAJPA-1, DATAMONGO-2)");
+	}
+
+	@Test
+	public void splitsTicketsIntoQueriesWithinEncodedLength() {
+
+		List<String> ticketIds = IntStream.range(1000, 1150).mapToObj(it -> "DATAREDIS-" + it)
+				.collect(Collectors.toList());
+
+		List<JqlQuery> queries = JqlQuery.from(ticketIds, 500);
+
+		assertThat(queries).hasSizeGreaterThan(1);
+		assertThat(queries).allSatisfy(
+				it -> assertThat(UriUtils.encode(it.toString(), StandardCharsets.UTF_8).length()).isLessThanOrEqualTo(500));
+		assertThat(queries.stream() //
+				.flatMap(it -> Arrays.stream(it.toString().replaceAll("issueKey in \\((.*)\\)", "$1").split(", "))) //
+				.collect(Collectors.toList())).isEqualTo(ticketIds);
+	}
+
+	@Test
+	public void createsNoQueryForNoTickets() {
+		assertThat(JqlQuery.from(Arrays.asList(), 500)).isEmpty();
+	}
+}
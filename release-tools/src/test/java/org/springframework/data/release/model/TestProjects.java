@@ -0,0 +1,33 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.model;
+
+/**
+ * Factory for synthetic {@link Project}s to be used in tests.
+ */
+public class TestProjects {
+
+	/**
+	 * Creates a new {@link Project} with the given name depending on the given {@link Project}s.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param dependencies must not be {@literal null}.
+	 * @return
+	 */
+	public static Project project(String name, Project... dependencies) {
+		return new Project("TEST" + name.toUpperCase(), name).withDependencies(dependencies);
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.release.utils.ExecutionFailed.Outcome;
+import org.springframework.data.release.utils.ExecutionFailed.Status;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Unit tests for {@link ExecutionUtils}.
+ */
+public class ExecutionUtilsUnitTests {
+
+	InstrumentedExecutor executor = new InstrumentedExecutor("test", Executors.newFixedThreadPool(4), 4);
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void failFastCancelsSiblingsOnFirstFailure() {
+
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+
+		assertThatExceptionOfType(ExecutionFailed.class).isThrownBy(() -> {
+
+			ExecutionUtils.runFailFast(executor, Streamable.of("slow", "failing"), it -> {
+
+				if (it.equals("slow")) {
+
+					started.countDown();
+
+					try {
+						Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+					} catch (InterruptedException o_O) {
+						interrupted.set(true);
+						throw o_O;
+					}
+				}
+
+				started.await();
+				throw new IllegalStateException("Boom");
+			}, Deadlines.NONE);
+
+		}).satisfies(it -> {
+
+			assertThat(it.getOutcomes()).extracting(Outcome::getStatus).containsExactly(Status.CANCELLED, Status.FAILED);
+			assertThat(it.getMessage()).contains("failing - Error: Boom");
+		});
+
+		assertThat(interrupted).isTrue();
+	}
+
+	@Test
+	public void waitsForCancelledTasksToTerminate() {
+
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean terminated = new AtomicBoolean();
+
+		assertThatExceptionOfType(ExecutionFailed.class).isThrownBy(() -> {
+
+			ExecutionUtils.runFailFast(executor, Streamable.of("stubborn", "failing"), it -> {
+
+				if (it.equals("stubborn")) {
+
+					started.countDown();
+
+					// Ignores the interrupt like blocking I/O does
+					long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+
+					while (System.nanoTime() < until) {
+						try {
+							Thread.sleep(10);
+						} catch (InterruptedException o_O) {
+							// Keep going
+						}
+					}
+
+					terminated.set(true);
+					return;
+				}
+
+				started.await();
+				throw new IllegalStateException("Boom");
+			}, Deadlines.NONE);
+		});
+
+		assertThat(terminated).isTrue();
+	}
+
+	@Test
+	public void interruptsTasksExceedingPerTaskDeadline() {
+
+		assertThatExceptionOfType(ExecutionFailed.class).isThrownBy(() -> {
+
+			ExecutionUtils.runFailFast(executor, Streamable.of(1, 60_000), it -> Thread.sleep(it),
+					Deadlines.perTask(Duration.ofMillis(200)));
+
+		}).satisfies(it -> {
+			assertThat(it.getOutcomes()).extracting(Outcome::getStatus).containsExactly(Status.SUCCESSFUL,
+					Status.TIMED_OUT);
+		});
+	}
+
+	@Test
+	public void cancelsRemainingTasksOnceOverallDeadlineExpired() {
+
+		assertThatExceptionOfType(ExecutionFailed.class).isThrownBy(() -> {
+
+			ExecutionUtils.runFailFast(executor, Streamable.of(1, 60_000), it -> Thread.sleep(it),
+					Deadlines.overall(Duration.ofMillis(200)));
+
+		}).satisfies(it -> {
+			assertThat(it.getOutcomes()).extracting(Outcome::getStatus).containsExactly(Status.SUCCESSFUL,
+					Status.TIMED_OUT);
+		});
+	}
+
+	@Test
+	public void skipsRemainingTasksAfterFailureIfRunInline() {
+
+		InstrumentedExecutor executor = new InstrumentedExecutor("single", Executors.newSingleThreadExecutor(), 1);
+		AtomicInteger invocations = new AtomicInteger();
+
+		try {
+
+			List<Status> result = ExecutionUtils.runAndReturn(executor, Streamable.of(1), outer -> {
+
+				try {
+
+					ExecutionUtils.runFailFast(executor, Streamable.of(1, 2, 3), it -> {
+
+						invocations.incrementAndGet();
+						throw new IllegalStateException("Boom");
+
+					}, Deadlines.NONE);
+
+					return Collections.<Status> emptyList();
+
+				} catch (ExecutionFailed o_O) {
+					return o_O.getOutcomes().stream().map(Outcome::getStatus).collect(Collectors.toList());
+				}
+
+			}, Collectors.toList()).get(0);
+
+			assertThat(result).containsExactly(Status.FAILED, Status.CANCELLED, Status.CANCELLED);
+			assertThat(invocations).hasValue(1);
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void completesNormallyIfAllTasksSucceed() {
+		ExecutionUtils.runFailFast(executor, Streamable.of(1, 2, 3), it -> {}, Deadlines.NONE);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.release.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.util.Streamable;
+
+/**
+ * Unit tests for {@link InstrumentedExecutor}.
+ */
+public class InstrumentedExecutorUnitTests {
+
+	InstrumentedExecutor executor = new InstrumentedExecutor("test", Executors.newFixedThreadPool(2), 2);
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void runsNestedFanOutWithoutExhaustingBoundedPool() {
+
+		Collection<Integer> result = ExecutionUtils.runAndReturn(executor, Streamable.of(1, 2, 3, 4), outer -> {
+			return ExecutionUtils.runAndReturn(executor, Streamable.of(Arrays.asList(1, 2, 3)), inner -> outer * inner,
+					Collectors.summingInt(Integer::intValue));
+		}, Collectors.toList());
+
+		// Whether inner tasks are inlined depends on timing, the guarantee is that the fan-out completes
+		assertThat(result).containsExactly(6, 12, 18, 24);
+	}
+
+	@Test
+	public void runsNestedTasksInlineOnceAllThreadsAreTaken() {
+
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch finished = new CountDownLatch(2);
+		Set<Boolean> inlined = ConcurrentHashMap.newKeySet();
+
+		ExecutionUtils.run(executor, Streamable.of(1, 2), outer -> {
+
+			// Both outer tasks hold a thread of the pool while submitting nested ones
+			started.countDown();
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+			Thread thread = Thread.currentThread();
+
+			ExecutionUtils.run(executor, Streamable.of(1, 2, 3), inner -> {
+				inlined.add(Thread.currentThread().equals(thread));
+			});
+
+			finished.countDown();
+			assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+		});
+
+		assertThat(inlined).containsExactly(true);
+		assertThat(executor.getStatistics().getInlinedTasks()).isEqualTo(6);
+	}
+
+	@Test
+	public void runsNestedTasksOnPoolThreadsLeft() {
+
+		InstrumentedExecutor executor = new InstrumentedExecutor("test", Executors.newFixedThreadPool(4), 4);
+
+		try {
+
+			Collection<Set<String>> result = ExecutionUtils.runAndReturn(executor, Streamable.of(1), outer -> {
+
+				String thread = Thread.currentThread().getName();
+
+				return ExecutionUtils.runAndReturn(executor, Streamable.of(1, 2, 3), inner -> {
+					return Thread.currentThread().getName();
+				}, Collectors.toSet()).stream().filter(it -> it.equals(thread)).collect(Collectors.toSet());
+			}, Collectors.toList());
+
+			assertThat(result).containsExactly(Collections.emptySet());
+			assertThat(executor.getStatistics().getInlinedTasks()).isZero();
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void tracksCompletedTasks() {
+
+		ExecutionUtils.run(executor, Streamable.of(1, 2, 3), it -> {});
+
+		// Counters are updated after the tasks signalled completion, so wait for the pool to finish its bookkeeping
+		executor.shutdown();
+
+		InstrumentedExecutor.Statistics statistics = executor.getStatistics();
+
+		assertThat(statistics.getCompletedTasks()).isEqualTo(3);
+		assertThat(statistics.getQueueDepth()).isZero();
+		assertThat(statistics.getActiveTasks()).isZero();
+	}
+}